@@ -0,0 +1,359 @@
+package kitchenpos.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kitchenpos.application.event.CatalogChangedEvent;
+import kitchenpos.application.event.CatalogType;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.price.Price;
+import kitchenpos.domain.product.Product;
+import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.domain.productquantity.ProductQuantities;
+import kitchenpos.domain.productquantity.ProductQuantity;
+import kitchenpos.domain.quantity.Quantity;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.catalogimport.CatalogImportFailure;
+import kitchenpos.dto.catalogimport.CatalogImportResponse;
+import kitchenpos.exception.BadRequestException;
+import kitchenpos.exception.InvalidArgumentException;
+import kitchenpos.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class CatalogImportService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String GENERATED_KEYS_MISMATCH_MESSAGE = "생성된 menu id를 읽지 못해 이 묶음의 Menu를 넣지 못했습니다.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public CatalogImportService(
+        final JdbcTemplate jdbcTemplate,
+        final ProductRepository productRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * CSV 형식: name,price
+     */
+    @Transactional
+    public CatalogImportResponse importProducts(final Reader reader) {
+        return importRows(reader, CatalogType.PRODUCT, this::convertToProduct, this::insertProducts);
+    }
+
+    /**
+     * CSV 형식: name
+     */
+    @Transactional
+    public CatalogImportResponse importMenuGroups(final Reader reader) {
+        return importRows(reader, CatalogType.MENU_GROUP, this::convertToMenuGroup, this::insertMenuGroups);
+    }
+
+    /**
+     * CSV 형식: name,price,menuGroupId,menuProducts
+     * menuProducts는 productId:quantity를 세미콜론(;)으로 이은 값이다. 예) 1:2;3:1
+     */
+    @Transactional
+    public CatalogImportResponse importMenus(final Reader reader) {
+        return importRows(reader, CatalogType.MENU, this::convertToMenuRow, this::insertMenus);
+    }
+
+    private <T> CatalogImportResponse importRows(
+        Reader reader,
+        CatalogType catalogType,
+        Function<CsvRow, T> rowConverter,
+        ChunkInserter<T> chunkInserter
+    ) {
+        final List<CatalogImportFailure> failures = new ArrayList<>();
+        final Map<Long, T> chunk = new LinkedHashMap<>();
+        int successCount = 0;
+        try (BufferedReader bufferedReader = new BufferedReader(reader)) {
+            bufferedReader.readLine();
+            long lineNumber = 1;
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                convertRow(CsvRow.parse(lineNumber, line), rowConverter, chunk, failures);
+                if (chunk.size() == BATCH_SIZE) {
+                    successCount += chunkInserter.insert(chunk, failures);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            successCount += chunkInserter.insert(chunk, failures);
+        }
+        if (successCount > 0) {
+            applicationEventPublisher.publishEvent(new CatalogChangedEvent(catalogType));
+        }
+        return new CatalogImportResponse(successCount, failures);
+    }
+
+    private <T> void convertRow(
+        CsvRow csvRow,
+        Function<CsvRow, T> rowConverter,
+        Map<Long, T> chunk,
+        List<CatalogImportFailure> failures
+    ) {
+        try {
+            chunk.put(csvRow.getLineNumber(), rowConverter.apply(csvRow));
+        } catch (BadRequestException e) {
+            failures.add(new CatalogImportFailure(csvRow.getLineNumber(), e.getMessage()));
+        }
+    }
+
+    private Product convertToProduct(CsvRow csvRow) {
+        csvRow.validateColumnCount(2);
+        return new Product(csvRow.getString(0), csvRow.getInteger(1));
+    }
+
+    private int insertProducts(Map<Long, Product> products, List<CatalogImportFailure> failures) {
+        final Long storeId = StoreContext.getStoreId();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO product (name, price, store_id) VALUES (?, ?, ?)",
+            new ArrayList<>(products.values()),
+            BATCH_SIZE,
+            (preparedStatement, product) -> {
+                preparedStatement.setString(1, product.getName());
+                preparedStatement.setInt(2, product.getPriceAsInt());
+                preparedStatement.setLong(3, storeId);
+            }
+        );
+        return products.size();
+    }
+
+    private MenuGroup convertToMenuGroup(CsvRow csvRow) {
+        csvRow.validateColumnCount(1);
+        return new MenuGroup(csvRow.getString(0));
+    }
+
+    private int insertMenuGroups(Map<Long, MenuGroup> menuGroups, List<CatalogImportFailure> failures) {
+        final Long storeId = StoreContext.getStoreId();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO menu_group (name, store_id) VALUES (?, ?)",
+            new ArrayList<>(menuGroups.values()),
+            BATCH_SIZE,
+            (preparedStatement, menuGroup) -> {
+                preparedStatement.setString(1, menuGroup.getName());
+                preparedStatement.setLong(2, storeId);
+            }
+        );
+        return menuGroups.size();
+    }
+
+    private MenuRow convertToMenuRow(CsvRow csvRow) {
+        csvRow.validateColumnCount(4);
+        return new MenuRow(
+            csvRow.getString(0),
+            new Price(csvRow.getInteger(1)),
+            csvRow.getLong(2),
+            convertToMenuProductQuantities(csvRow.getString(3))
+        );
+    }
+
+    private Map<Long, Quantity> convertToMenuProductQuantities(String menuProducts) {
+        final Map<Long, Quantity> quantities = new LinkedHashMap<>();
+        for (String menuProduct : menuProducts.split(";")) {
+            final String[] productIdAndQuantity = menuProduct.split(":");
+            if (productIdAndQuantity.length != 2) {
+                throw new InvalidArgumentException("menuProducts는 productId:quantity 형식이어야 합니다.");
+            }
+            try {
+                quantities.put(
+                    Long.valueOf(productIdAndQuantity[0].trim()),
+                    new Quantity(Long.valueOf(productIdAndQuantity[1].trim()))
+                );
+            } catch (NumberFormatException e) {
+                throw new InvalidArgumentException("menuProducts의 productId와 quantity는 숫자여야 합니다.");
+            }
+        }
+        return quantities;
+    }
+
+    private int insertMenus(Map<Long, MenuRow> menuRows, List<CatalogImportFailure> failures) {
+        final Map<Long, Product> products = findProductsOf(menuRows.values());
+        final Set<Long> menuGroupIds = findMenuGroupIdsOf(menuRows.values());
+        final List<Long> validLineNumbers = new ArrayList<>();
+        final List<MenuRow> validMenuRows = new ArrayList<>();
+        final List<ProductQuantities> validProductQuantities = new ArrayList<>();
+        for (Map.Entry<Long, MenuRow> menuRowEntry : menuRows.entrySet()) {
+            try {
+                final MenuRow menuRow = menuRowEntry.getValue();
+                validProductQuantities.add(menuRow.toProductQuantities(products, menuGroupIds));
+                validMenuRows.add(menuRow);
+                validLineNumbers.add(menuRowEntry.getKey());
+            } catch (BadRequestException e) {
+                failures.add(new CatalogImportFailure(menuRowEntry.getKey(), e.getMessage()));
+            }
+        }
+        if (validMenuRows.isEmpty()) {
+            return 0;
+        }
+        final List<Long> menuIds = batchInsertMenus(validMenuRows, validProductQuantities);
+        if (menuIds.isEmpty()) {
+            for (Long lineNumber : validLineNumbers) {
+                failures.add(new CatalogImportFailure(lineNumber, GENERATED_KEYS_MISMATCH_MESSAGE));
+            }
+            return 0;
+        }
+        final List<Object[]> menuProductArguments = new ArrayList<>();
+        for (int i = 0; i < menuIds.size(); i++) {
+            for (ProductQuantity productQuantity : validProductQuantities.get(i).getProductQuantities()) {
+                menuProductArguments.add(new Object[]{
+                    menuIds.get(i),
+                    productQuantity.getProduct().getId(),
+                    productQuantity.getQuantity().getValue()
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO menu_product (menu_id, product_id, quantity) VALUES (?, ?, ?)",
+            menuProductArguments
+        );
+        return validMenuRows.size();
+    }
+
+    /**
+     * MenuService.create와 마찬가지로 Product 가격 변경과 겹치지 않도록, 묶음의 Product들을 한 번의 쿼리로 id 순서대로 잠근다.
+     */
+    private Map<Long, Product> findProductsOf(Iterable<MenuRow> menuRows) {
+        final Set<Long> productIds = new TreeSet<>();
+        for (MenuRow menuRow : menuRows) {
+            productIds.addAll(menuRow.quantities.keySet());
+        }
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return productRepository.findAllByIdInForUpdate(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()))
+            ;
+    }
+
+    private Set<Long> findMenuGroupIdsOf(Iterable<MenuRow> menuRows) {
+        final Set<Long> menuGroupIds = new HashSet<>();
+        for (MenuRow menuRow : menuRows) {
+            menuGroupIds.add(menuRow.menuGroupId);
+        }
+        return menuGroupRepository.findAllById(menuGroupIds).stream()
+            .map(MenuGroup::getId)
+            .collect(Collectors.toSet())
+            ;
+    }
+
+    /**
+     * menu를 한 번의 JDBC batch로 넣고, 생성된 id를 넣은 순서대로 돌려준다.
+     * 생성된 id 수가 넣은 행 수와 다르면 어느 행의 id인지 알 수 없으므로, 이 묶음에서 넣은 행을 savepoint까지 되돌리고 빈 목록을 돌려준다.
+     */
+    private List<Long> batchInsertMenus(List<MenuRow> menuRows, List<ProductQuantities> productQuantities) {
+        final Long storeId = StoreContext.getStoreId();
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            final Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "INSERT INTO menu (name, price, products_total_price, menu_group_id, store_id) VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS
+            )) {
+                for (int i = 0; i < menuRows.size(); i++) {
+                    final MenuRow menuRow = menuRows.get(i);
+                    preparedStatement.setString(1, menuRow.name);
+                    preparedStatement.setInt(2, menuRow.price.getValueAsInt());
+                    preparedStatement.setInt(3, productQuantities.get(i).getProductsTotalPrice().getValueAsInt());
+                    preparedStatement.setLong(4, menuRow.menuGroupId);
+                    preparedStatement.setLong(5, storeId);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                final List<Long> ids = readGeneratedIds(preparedStatement);
+                if (ids.size() != menuRows.size()) {
+                    connection.rollback(savepoint);
+                    return Collections.emptyList();
+                }
+                connection.releaseSavepoint(savepoint);
+                return ids;
+            }
+        });
+    }
+
+    private List<Long> readGeneratedIds(PreparedStatement preparedStatement) throws SQLException {
+        final List<Long> ids = new ArrayList<>();
+        try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+            while (generatedKeys.next()) {
+                ids.add(generatedKeys.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface ChunkInserter<T> {
+
+        int insert(Map<Long, T> rowsByLineNumber, List<CatalogImportFailure> failures);
+    }
+
+    private static class MenuRow {
+
+        private final String name;
+        private final Price price;
+        private final Long menuGroupId;
+        private final Map<Long, Quantity> quantities;
+
+        MenuRow(String name, Price price, Long menuGroupId, Map<Long, Quantity> quantities) {
+            this.name = name;
+            this.price = price;
+            this.menuGroupId = menuGroupId;
+            this.quantities = quantities;
+        }
+
+        ProductQuantities toProductQuantities(Map<Long, Product> products, Set<Long> menuGroupIds) {
+            if (!menuGroupIds.contains(menuGroupId)) {
+                throw new NotFoundException("해당 id의 MenuGroup이 존재하지 않습니다.");
+            }
+            final ProductQuantities productQuantities = new ProductQuantities();
+            for (Map.Entry<Long, Quantity> quantity : quantities.entrySet()) {
+                final Product product = products.get(quantity.getKey());
+                if (product == null) {
+                    throw new NotFoundException("해당 id의 Product가 존재하지 않습니다.");
+                }
+                productQuantities.add(new ProductQuantity(product, quantity.getValue()));
+            }
+            productQuantities.validateTotalPriceIsGreaterOrEqualThan(price);
+            return productQuantities;
+        }
+    }
+}
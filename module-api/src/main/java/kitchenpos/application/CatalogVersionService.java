@@ -0,0 +1,26 @@
+package kitchenpos.application;
+
+import kitchenpos.application.cache.CacheRegion;
+import kitchenpos.application.cache.StateCache;
+import kitchenpos.application.event.CatalogType;
+import kitchenpos.domain.store.StoreContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * 현재 매장의 카탈로그 목록 버전을 StateCache에서 읽는다.
+ * 버전은 변경이 커밋된 이후에 올라가므로, 같은 버전으로 커밋 이전의 목록이 응답되는 일은 없다.
+ * 버전에 매장 id가 들어가므로 한 매장의 ETag가 다른 매장의 목록과 일치하는 일도 없다.
+ */
+@Service
+public class CatalogVersionService {
+
+    private final StateCache stateCache;
+
+    public CatalogVersionService(final StateCache stateCache) {
+        this.stateCache = stateCache;
+    }
+
+    public String getVersion(final CatalogType catalogType) {
+        return stateCache.getVersion(StoreContext.getStoreId(), CacheRegion.from(catalogType));
+    }
+}
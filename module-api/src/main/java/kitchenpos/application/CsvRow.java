@@ -0,0 +1,75 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.exception.InvalidArgumentException;
+
+class CsvRow {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final long lineNumber;
+    private final List<String> values;
+
+    CsvRow(long lineNumber, List<String> values) {
+        this.lineNumber = lineNumber;
+        this.values = values;
+    }
+
+    static CsvRow parse(long lineNumber, String line) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (c == QUOTE && quoted && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                value.append(QUOTE);
+                i++;
+                continue;
+            }
+            if (c == QUOTE) {
+                quoted = !quoted;
+                continue;
+            }
+            if (c == SEPARATOR && !quoted) {
+                values.add(value.toString().trim());
+                value.setLength(0);
+                continue;
+            }
+            value.append(c);
+        }
+        values.add(value.toString().trim());
+        return new CsvRow(lineNumber, values);
+    }
+
+    void validateColumnCount(int columnCount) {
+        if (values.size() != columnCount) {
+            throw new InvalidArgumentException("컬럼 개수가 " + columnCount + "개여야 합니다.");
+        }
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    String getString(int index) {
+        return values.get(index);
+    }
+
+    Integer getInteger(int index) {
+        try {
+            return Integer.valueOf(values.get(index));
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException((index + 1) + "번째 컬럼이 숫자가 아닙니다.");
+        }
+    }
+
+    Long getLong(int index) {
+        try {
+            return Long.valueOf(values.get(index));
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException((index + 1) + "번째 컬럼이 숫자가 아닙니다.");
+        }
+    }
+}
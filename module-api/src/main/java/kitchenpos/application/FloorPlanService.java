@@ -0,0 +1,203 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import kitchenpos.application.cache.CacheRegion;
+import kitchenpos.application.event.OrderStatusChangedEvent;
+import kitchenpos.application.event.OrderTablesChangedEvent;
+import kitchenpos.application.event.RemoteInvalidationEvent;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.order.OrderTableOpenOrderCount;
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.floorplan.FloorPlanResponse;
+import kitchenpos.dto.floorplan.FloorPlanTableResponse;
+import kitchenpos.dto.ordertable.OrderTableResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * OrderTable 배치도를 매장별로 메모리에 copy-on-write 스냅샷으로 유지한다.
+ * 읽기는 잠금 없이 현재 스냅샷을 반환하고, 쓰기는 커밋 이후에 바뀐 OrderTable과 열린 Order 수를
+ * 새 트랜잭션에서 DB로부터 다시 읽어 새 스냅샷으로 교체한다.
+ * 이벤트의 값이나 증감분을 그대로 적용하지 않으므로, 커밋 순서와 이벤트 처리 순서가 달라도 마지막 커밋 상태로 수렴한다.
+ * 매장의 스냅샷은 그 매장의 첫 조회 때 만들고, 다른 노드에서 OrderTable이 바뀌면 DB에서 다시 읽는다.
+ */
+@Service
+public class FloorPlanService {
+
+    private final OrderRepository orderRepository;
+    private final OrderTableRepository orderTableRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final String generation = Long.toHexString(System.currentTimeMillis());
+
+    private final ConcurrentMap<Long, FloorPlan> floorPlans = new ConcurrentHashMap<>();
+
+    public FloorPlanService(
+        final OrderRepository orderRepository,
+        final OrderTableRepository orderTableRepository,
+        final PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderTableRepository = orderTableRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public FloorPlanResponse getFloorPlan() {
+        return currentFloorPlan().response;
+    }
+
+    /**
+     * orderTableId의 OrderTable이 속한 TableGroup의 OrderTable 개수를 반환한다. TableGroup이 없으면 1이다.
+     */
+    public long getTableGroupSize(final Long orderTableId) {
+        final FloorPlan currentFloorPlan = currentFloorPlan();
+        final FloorPlanTableResponse table = currentFloorPlan.tables.get(orderTableId);
+        if (Objects.isNull(table) || Objects.isNull(table.getTableGroupId())) {
+            return 1L;
+        }
+        return currentFloorPlan.tableGroupSizes.getOrDefault(table.getTableGroupId(), 1L);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        currentFloorPlan();
+    }
+
+    private FloorPlan currentFloorPlan() {
+        final Long storeId = StoreContext.getStoreId();
+        final FloorPlan floorPlan = floorPlans.get(storeId);
+        if (Objects.nonNull(floorPlan)) {
+            return floorPlan;
+        }
+        return loadIfAbsent(storeId);
+    }
+
+    private synchronized FloorPlan loadIfAbsent(Long storeId) {
+        final FloorPlan loadedFloorPlan = floorPlans.get(storeId);
+        if (Objects.nonNull(loadedFloorPlan)) {
+            return loadedFloorPlan;
+        }
+        final FloorPlan floorPlan = new FloorPlan(storeId, 0L, findTables());
+        floorPlans.put(storeId, floorPlan);
+        return floorPlan;
+    }
+
+    private Map<Long, FloorPlanTableResponse> findTables() {
+        return readOnlyTransactionTemplate.execute(status -> toTables(
+            orderTableRepository.findAll(),
+            orderRepository.countAllByOrderStatusInGroupByOrderTable(OrderStatus.getExceptCompletion())
+        ));
+    }
+
+    private Map<Long, FloorPlanTableResponse> findTablesByIds(List<Long> orderTableIds) {
+        return readOnlyTransactionTemplate.execute(status -> toTables(
+            orderTableRepository.findAllById(orderTableIds),
+            orderRepository.countAllByOrderTableIdInAndOrderStatusInGroupByOrderTable(
+                orderTableIds, OrderStatus.getExceptCompletion()
+            )
+        ));
+    }
+
+    private Map<Long, FloorPlanTableResponse> toTables(
+        List<OrderTable> orderTables,
+        List<OrderTableOpenOrderCount> openOrderCounts
+    ) {
+        final Map<Long, Long> openOrderCountsByOrderTableId = openOrderCounts.stream()
+            .collect(Collectors.toMap(
+                OrderTableOpenOrderCount::getOrderTableId,
+                OrderTableOpenOrderCount::getOpenOrderCount
+            ))
+            ;
+        final Map<Long, FloorPlanTableResponse> tables = new TreeMap<>();
+        for (OrderTable orderTable : orderTables) {
+            final Long openOrderCount = openOrderCountsByOrderTableId.getOrDefault(orderTable.getId(), 0L);
+            tables.put(orderTable.getId(), new FloorPlanTableResponse(orderTable, openOrderCount));
+        }
+        return tables;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onOrderTablesChanged(final OrderTablesChangedEvent event) {
+        final List<Long> orderTableIds = event.getOrderTables().stream()
+            .map(OrderTableResponse::getId)
+            .collect(Collectors.toList())
+            ;
+        refreshTables(orderTableIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        if (event.getOpenOrderCountDelta() == 0) {
+            return;
+        }
+        refreshTables(Collections.singletonList(event.getOrderTableId()));
+    }
+
+    private void refreshTables(List<Long> orderTableIds) {
+        final FloorPlan floorPlan = floorPlans.get(StoreContext.getStoreId());
+        if (Objects.isNull(floorPlan) || orderTableIds.isEmpty()) {
+            return;
+        }
+        final Map<Long, FloorPlanTableResponse> tables = new TreeMap<>(floorPlan.tables);
+        tables.keySet().removeAll(orderTableIds);
+        tables.putAll(findTablesByIds(orderTableIds));
+        floorPlans.put(floorPlan.storeId, floorPlan.next(tables));
+    }
+
+    /**
+     * 이미 만든 스냅샷만 다시 읽는다. 버전을 이어서 올려야 이전 스냅샷의 ETag와 겹치지 않는다.
+     */
+    @EventListener
+    public synchronized void onRemoteInvalidation(final RemoteInvalidationEvent event) {
+        final FloorPlan floorPlan = floorPlans.get(event.getStoreId());
+        if (event.getCacheRegion() != CacheRegion.ORDER_TABLE || Objects.isNull(floorPlan)) {
+            return;
+        }
+        final Map<Long, FloorPlanTableResponse> tables = StoreContext.callAs(floorPlan.storeId, this::findTables);
+        floorPlans.put(floorPlan.storeId, floorPlan.next(tables));
+    }
+
+    private class FloorPlan {
+
+        private final Long storeId;
+        private final long version;
+        private final Map<Long, FloorPlanTableResponse> tables;
+        private final Map<Long, Long> tableGroupSizes;
+        private final FloorPlanResponse response;
+
+        FloorPlan(Long storeId, long version, Map<Long, FloorPlanTableResponse> tables) {
+            this.storeId = storeId;
+            this.version = version;
+            this.tables = Collections.unmodifiableMap(tables);
+            this.tableGroupSizes = tables.values().stream()
+                .filter(table -> Objects.nonNull(table.getTableGroupId()))
+                .collect(Collectors.groupingBy(FloorPlanTableResponse::getTableGroupId, Collectors.counting()))
+            ;
+            this.response = new FloorPlanResponse(
+                generation + "-" + storeId + "-" + version, new ArrayList<>(tables.values())
+            );
+        }
+
+        FloorPlan next(Map<Long, FloorPlanTableResponse> newTables) {
+            return new FloorPlan(storeId, version + 1, newTables);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package kitchenpos.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import kitchenpos.domain.idempotency.OrderIdempotencyKey;
+import kitchenpos.domain.idempotency.OrderIdempotencyKeyId;
+import kitchenpos.domain.idempotency.OrderIdempotencyKeyRepository;
+import kitchenpos.domain.order.Order;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import kitchenpos.exception.InvalidArgumentException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Idempotency-Key가 같은 주문 생성 요청은 처음 한 번만 OrderService.create를 실행하고,
+ * 이후에는 처음 응답을 메모리 또는 order_idempotency_key 테이블에서 찾아 돌려준다.
+ * 키는 매장마다 따로 쓰므로 메모리와 테이블 모두 store_id와 키를 함께 키로 쓴다.
+ * 키와 함께 요청 해시를 저장해서, 같은 키로 내용이 다른 요청이 오면 처음 응답을 돌려주지 않고 거절한다.
+ * 만료된 키를 지우는 스케줄이 있으므로 fast-startup 프로필의 지연 초기화 대상에서 뺀다.
+ */
+@Lazy(false)
+@Service
+public class IdempotentOrderService {
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderLineItemRepository orderLineItemRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeToLive;
+    private final Cache<OrderIdempotencyKeyId, StoredOrderResponse> orderResponses;
+
+    public IdempotentOrderService(
+        final OrderService orderService,
+        final OrderRepository orderRepository,
+        final OrderLineItemRepository orderLineItemRepository,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final TransactionTemplate transactionTemplate,
+        @Value("${kitchenpos.idempotency.time-to-live:PT24H}") final Duration timeToLive,
+        @Value("${kitchenpos.idempotency.maximum-size:10000}") final long maximumSize
+    ) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.orderLineItemRepository = orderLineItemRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.timeToLive = timeToLive;
+        this.orderResponses = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .build();
+    }
+
+    public OrderResponse create(final String idempotencyKey, final OrderRequest orderRequest) {
+        if (Objects.isNull(idempotencyKey)) {
+            return orderService.create(orderRequest);
+        }
+        final OrderIdempotencyKeyId orderIdempotencyKeyId =
+            new OrderIdempotencyKeyId(StoreContext.getStoreId(), idempotencyKey);
+        final String requestHash = OrderRequestHash.of(orderRequest);
+        final Optional<StoredOrderResponse> storedOrderResponse = findStoredOrderResponse(orderIdempotencyKeyId);
+        if (storedOrderResponse.isPresent()) {
+            return storedOrderResponse.get().getOrderResponse(requestHash);
+        }
+        try {
+            final OrderResponse orderResponse = transactionTemplate.execute(
+                status -> createAndStore(idempotencyKey, requestHash, orderRequest)
+            );
+            orderResponses.put(orderIdempotencyKeyId, new StoredOrderResponse(requestHash, orderResponse));
+            return orderResponse;
+        } catch (DataIntegrityViolationException e) {
+            return findStoredOrderResponse(orderIdempotencyKeyId)
+                .orElseThrow(() -> e)
+                .getOrderResponse(requestHash);
+        }
+    }
+
+    private OrderResponse createAndStore(String idempotencyKey, String requestHash, OrderRequest orderRequest) {
+        final OrderResponse orderResponse = orderService.create(orderRequest);
+        orderIdempotencyKeyRepository.saveAndFlush(new OrderIdempotencyKey(
+            idempotencyKey, requestHash, orderResponse.getId(), orderResponse.getOrderStatus()
+        ));
+        return orderResponse;
+    }
+
+    private Optional<StoredOrderResponse> findStoredOrderResponse(OrderIdempotencyKeyId orderIdempotencyKeyId) {
+        final StoredOrderResponse cachedOrderResponse = orderResponses.getIfPresent(orderIdempotencyKeyId);
+        if (Objects.nonNull(cachedOrderResponse)) {
+            return Optional.of(cachedOrderResponse);
+        }
+        final Optional<StoredOrderResponse> storedOrderResponse = transactionTemplate.execute(
+            status -> orderIdempotencyKeyRepository.findById(orderIdempotencyKeyId)
+                .flatMap(this::convertToStoredOrderResponse)
+        );
+        storedOrderResponse.ifPresent(orderResponse -> orderResponses.put(orderIdempotencyKeyId, orderResponse));
+        return storedOrderResponse;
+    }
+
+    private Optional<StoredOrderResponse> convertToStoredOrderResponse(OrderIdempotencyKey orderIdempotencyKey) {
+        return orderRepository.findById(orderIdempotencyKey.getOrderId())
+            .map(order -> new OrderResponse(
+                order.getId(),
+                order.getOrderTableId(),
+                orderIdempotencyKey.getOrderStatus(),
+                order.getOrderedTime(),
+                convertToOrderLineItemResponses(order)
+            ))
+            .map(orderResponse -> new StoredOrderResponse(orderIdempotencyKey.getRequestHash(), orderResponse));
+    }
+
+    private List<OrderLineItemResponse> convertToOrderLineItemResponses(Order order) {
+        return orderLineItemRepository.findAllByOrder(order).stream()
+            .map(OrderLineItemResponse::new)
+            .collect(Collectors.toList())
+            ;
+    }
+
+    @Scheduled(
+        fixedDelayString = "${kitchenpos.idempotency.purge-interval:PT10M}",
+        initialDelayString = "${kitchenpos.idempotency.purge-interval:PT10M}"
+    )
+    public void purgeExpired() {
+        orderIdempotencyKeyRepository.deleteAllByCreatedDateBefore(LocalDateTime.now().minus(timeToLive));
+    }
+
+    /**
+     * request_hash를 추가하기 전에 저장된 키는 요청 해시가 없으므로 비교하지 않는다.
+     */
+    private static class StoredOrderResponse {
+
+        private final String requestHash;
+        private final OrderResponse orderResponse;
+
+        StoredOrderResponse(String requestHash, OrderResponse orderResponse) {
+            this.requestHash = requestHash;
+            this.orderResponse = orderResponse;
+        }
+
+        OrderResponse getOrderResponse(String requestHash) {
+            if (Objects.nonNull(this.requestHash) && !this.requestHash.equals(requestHash)) {
+                throw new InvalidArgumentException("같은 Idempotency-Key로 내용이 다른 주문을 생성할 수 없습니다.");
+            }
+            return orderResponse;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package kitchenpos.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import kitchenpos.application.event.OrderStatusChangedEvent;
+import kitchenpos.domain.order.Order;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.kitchenqueue.KitchenTicketResponse;
+import kitchenpos.exception.InvalidArgumentException;
+import kitchenpos.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * COOKING 상태의 Order를 조리 순서대로 메모리에 유지한다.
+ * orderedTime 순으로 정렬하되, large-table-group-size 이상의 TableGroup에서 들어온 Order는 boost만큼 앞당긴다.
+ * 조회와 ack는 DB에 접근하지 않고, 추가와 제거는 Order 상태 변경이 커밋된 이후에 반영한다.
+ * 대기열은 매장별로 따로 두고, 매장의 첫 조회 때 그 매장의 COOKING Order로 채운다.
+ */
+@Service
+public class KitchenQueueService {
+
+    private static final Comparator<KitchenTicketResponse> FIRING_ORDER =
+        Comparator.comparing(KitchenTicketResponse::getPriorityTime)
+            .thenComparing(KitchenTicketResponse::getOrderId);
+
+    private final OrderRepository orderRepository;
+    private final FloorPlanService floorPlanService;
+    private final TransactionTemplate transactionTemplate;
+    private final long largeTableGroupSize;
+    private final Duration largeTableGroupBoost;
+    private final ConcurrentMap<Long, KitchenQueue> kitchenQueues = new ConcurrentHashMap<>();
+
+    public KitchenQueueService(
+        final OrderRepository orderRepository,
+        final FloorPlanService floorPlanService,
+        final TransactionTemplate transactionTemplate,
+        @Value("${kitchenpos.kitchen-queue.large-table-group-size:4}") final long largeTableGroupSize,
+        @Value("${kitchenpos.kitchen-queue.large-table-group-boost:PT5M}") final Duration largeTableGroupBoost
+    ) {
+        this.orderRepository = orderRepository;
+        this.floorPlanService = floorPlanService;
+        this.transactionTemplate = transactionTemplate;
+        this.largeTableGroupSize = largeTableGroupSize;
+        this.largeTableGroupBoost = largeTableGroupBoost;
+    }
+
+    public List<KitchenTicketResponse> findNext(final int size) {
+        if (size <= 0) {
+            throw new InvalidArgumentException("size는 1 이상이어야 합니다.");
+        }
+        return currentKitchenQueue().findNext(size);
+    }
+
+    public KitchenTicketResponse ack(final Long orderId) {
+        return currentKitchenQueue().ack(orderId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        currentKitchenQueue().loadIfAbsent();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final KitchenQueue kitchenQueue = kitchenQueues.get(StoreContext.getStoreId());
+        if (Objects.nonNull(kitchenQueue)) {
+            kitchenQueue.onOrderStatusChanged(event);
+        }
+    }
+
+    private KitchenQueue currentKitchenQueue() {
+        return kitchenQueues.computeIfAbsent(StoreContext.getStoreId(), storeId -> new KitchenQueue());
+    }
+
+    private class KitchenQueue {
+
+        private final NavigableSet<KitchenTicketResponse> tickets = new TreeSet<>(FIRING_ORDER);
+        private final Map<Long, KitchenTicketResponse> ticketsByOrderId = new HashMap<>();
+
+        private boolean loaded;
+
+        synchronized List<KitchenTicketResponse> findNext(int size) {
+            loadIfAbsent();
+            final List<KitchenTicketResponse> nextTickets = new ArrayList<>(Math.min(size, tickets.size()));
+            for (KitchenTicketResponse ticket : tickets) {
+                if (nextTickets.size() == size) {
+                    break;
+                }
+                nextTickets.add(ticket);
+            }
+            return nextTickets;
+        }
+
+        synchronized KitchenTicketResponse ack(Long orderId) {
+            loadIfAbsent();
+            final KitchenTicketResponse ticket = ticketsByOrderId.remove(orderId);
+            if (Objects.isNull(ticket)) {
+                throw new NotFoundException("해당 id의 Order가 주방 대기열에 존재하지 않습니다.");
+            }
+            tickets.remove(ticket);
+            return ticket;
+        }
+
+        synchronized void loadIfAbsent() {
+            if (loaded) {
+                return;
+            }
+            transactionTemplate.execute(status -> {
+                for (Order order : orderRepository.findAllByOrderStatus(OrderStatus.COOKING)) {
+                    offer(order.getId(), order.getOrderTableId(), order.getOrderedTime());
+                }
+                return null;
+            });
+            loaded = true;
+        }
+
+        synchronized void onOrderStatusChanged(OrderStatusChangedEvent event) {
+            if (!loaded) {
+                return;
+            }
+            if (event.getNewOrderStatus() != OrderStatus.COOKING) {
+                final KitchenTicketResponse ticket = ticketsByOrderId.remove(event.getOrderId());
+                if (Objects.nonNull(ticket)) {
+                    tickets.remove(ticket);
+                }
+                return;
+            }
+            if (event.getOldOrderStatus() != OrderStatus.COOKING) {
+                offer(event.getOrderId(), event.getOrderTableId(), event.getOrderedTime());
+            }
+        }
+
+        private void offer(Long orderId, Long orderTableId, LocalDateTime orderedTime) {
+            final long tableGroupSize = floorPlanService.getTableGroupSize(orderTableId);
+            final LocalDateTime priorityTime = tableGroupSize >= largeTableGroupSize
+                ? orderedTime.minus(largeTableGroupBoost)
+                : orderedTime;
+            final KitchenTicketResponse ticket =
+                new KitchenTicketResponse(orderId, orderTableId, tableGroupSize, orderedTime, priorityTime);
+            final KitchenTicketResponse previousTicket = ticketsByOrderId.put(orderId, ticket);
+            if (Objects.nonNull(previousTicket)) {
+                tickets.remove(previousTicket);
+            }
+            tickets.add(ticket);
+        }
+    }
+}
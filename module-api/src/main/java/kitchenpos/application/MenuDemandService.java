@@ -0,0 +1,226 @@
+package kitchenpos.application;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import kitchenpos.application.event.OrderStatusChangedEvent;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.orderlineitem.MenuQuantity;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.menudemand.MenuDemandResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Menu별로 COOKING 상태 Order에 남아 있는 수량을 LongAdder로 집계한다.
+ * 커밋된 Order 상태 변경마다 수량을 더하고 빼며, 주기적으로 DB에서 다시 계산한 값으로 통째로 교체해 어긋남을 바로잡는다.
+ * 집계와 잠금은 매장별로 따로 두므로, 한 매장을 다시 계산하는 동안에도 다른 매장의 Order 상태 변경은 기다리지 않는다.
+ * Order 상태 변경은 커밋 직전부터 수량 반영까지 그 매장의 읽기 잠금을 잡고, 반영한 커밋 수를 센다.
+ * 다시 계산할 때는 조회를 잠금 밖에서 하고, 교체할 때만 쓰기 잠금을 잡는다. 조회하는 동안 반영된 커밋이 있으면
+ * 그 커밋이 조회 결과에 들어갔는지 알 수 없으므로 교체하지 않고 다시 조회한다.
+ * 아직 집계가 없는 매장은 처음 조회할 때 DB에서 계산한다.
+ */
+@Service
+public class MenuDemandService {
+
+    private static final int MAX_OPTIMISTIC_RECONCILE_ATTEMPTS = 3;
+
+    private final OrderLineItemRepository orderLineItemRepository;
+    private final ConcurrentMap<Long, StoreCookingQuantities> cookingQuantitiesByStore = new ConcurrentHashMap<>();
+
+    public MenuDemandService(final OrderLineItemRepository orderLineItemRepository) {
+        this.orderLineItemRepository = orderLineItemRepository;
+    }
+
+    public List<MenuDemandResponse> findAll() {
+        final Long storeId = StoreContext.getStoreId();
+        ConcurrentMap<Long, LongAdder> cookingQuantities = storeCookingQuantitiesOf(storeId).getQuantities();
+        if (Objects.isNull(cookingQuantities)) {
+            cookingQuantities = reconcile(storeId);
+        }
+        final Map<Long, Long> quantities = new TreeMap<>();
+        cookingQuantities.forEach((menuId, quantity) -> quantities.put(menuId, quantity.sum()));
+        final List<MenuDemandResponse> menuDemandResponses = new ArrayList<>();
+        quantities.forEach((menuId, quantity) -> {
+            if (quantity > 0) {
+                menuDemandResponses.add(new MenuDemandResponse(menuId, quantity));
+            }
+        });
+        return menuDemandResponses;
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final int direction = cookingCountOf(event.getNewOrderStatus()) - cookingCountOf(event.getOldOrderStatus());
+        if (direction == 0) {
+            return;
+        }
+        final StoreCookingQuantities storeCookingQuantities = storeCookingQuantitiesOf(StoreContext.getStoreId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            storeCookingQuantities.lock.readLock().lock();
+            try {
+                storeCookingQuantities.add(direction, event.getOrderLineItems());
+            } finally {
+                storeCookingQuantities.lock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new CookingQuantitySynchronization(storeCookingQuantities, direction, event.getOrderLineItems())
+        );
+    }
+
+    private StoreCookingQuantities storeCookingQuantitiesOf(Long storeId) {
+        return cookingQuantitiesByStore.computeIfAbsent(storeId, id -> new StoreCookingQuantities());
+    }
+
+    private int cookingCountOf(OrderStatus orderStatus) {
+        if (orderStatus == OrderStatus.COOKING) {
+            return 1;
+        }
+        return 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${kitchenpos.menu-demand.reconcile-interval:PT5M}",
+        initialDelayString = "${kitchenpos.menu-demand.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        final Set<Long> storeIds = new HashSet<>(cookingQuantitiesByStore.keySet());
+        storeIds.add(StoreContext.getStoreId());
+        for (Long storeId : storeIds) {
+            reconcile(storeId);
+        }
+    }
+
+    /**
+     * 조회하는 동안 커밋이 계속 반영되어 교체하지 못하면, 마지막에는 그 매장의 쓰기 잠금을 잡은 채로 조회하고 교체한다.
+     */
+    private ConcurrentMap<Long, LongAdder> reconcile(Long storeId) {
+        final StoreCookingQuantities storeCookingQuantities = storeCookingQuantitiesOf(storeId);
+        for (int attempt = 0; attempt < MAX_OPTIMISTIC_RECONCILE_ATTEMPTS; attempt++) {
+            final long appliedCommitCount = storeCookingQuantities.getAppliedCommitCount();
+            final ConcurrentMap<Long, LongAdder> reconciledCookingQuantities = findCookingQuantities(storeId);
+            storeCookingQuantities.lock.writeLock().lock();
+            try {
+                if (storeCookingQuantities.getAppliedCommitCount() == appliedCommitCount) {
+                    storeCookingQuantities.replace(reconciledCookingQuantities);
+                    return reconciledCookingQuantities;
+                }
+            } finally {
+                storeCookingQuantities.lock.writeLock().unlock();
+            }
+        }
+        storeCookingQuantities.lock.writeLock().lock();
+        try {
+            final ConcurrentMap<Long, LongAdder> reconciledCookingQuantities = findCookingQuantities(storeId);
+            storeCookingQuantities.replace(reconciledCookingQuantities);
+            return reconciledCookingQuantities;
+        } finally {
+            storeCookingQuantities.lock.writeLock().unlock();
+        }
+    }
+
+    private ConcurrentMap<Long, LongAdder> findCookingQuantities(Long storeId) {
+        final List<MenuQuantity> menuQuantities =
+            orderLineItemRepository.sumQuantityByStoreIdAndOrderStatusGroupByMenu(storeId, OrderStatus.COOKING);
+        final ConcurrentMap<Long, LongAdder> cookingQuantities = new ConcurrentHashMap<>();
+        for (MenuQuantity menuQuantity : menuQuantities) {
+            final LongAdder quantity = new LongAdder();
+            quantity.add(menuQuantity.getQuantity());
+            cookingQuantities.put(menuQuantity.getMenuId(), quantity);
+        }
+        return cookingQuantities;
+    }
+
+    /**
+     * 한 매장의 집계와 잠금. 수량 반영은 읽기 잠금을, 교체는 쓰기 잠금을 잡은 채로 한다.
+     */
+    private static class StoreCookingQuantities {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicLong appliedCommitCount = new AtomicLong();
+        private volatile ConcurrentMap<Long, LongAdder> quantities;
+
+        ConcurrentMap<Long, LongAdder> getQuantities() {
+            return quantities;
+        }
+
+        long getAppliedCommitCount() {
+            return appliedCommitCount.get();
+        }
+
+        void add(int direction, List<OrderLineItemResponse> orderLineItems) {
+            appliedCommitCount.incrementAndGet();
+            final ConcurrentMap<Long, LongAdder> cookingQuantities = quantities;
+            if (Objects.isNull(cookingQuantities)) {
+                return;
+            }
+            for (OrderLineItemResponse orderLineItem : orderLineItems) {
+                cookingQuantities.computeIfAbsent(orderLineItem.getMenuId(), menuId -> new LongAdder())
+                    .add(direction * orderLineItem.getQuantity());
+            }
+        }
+
+        void replace(ConcurrentMap<Long, LongAdder> reconciledQuantities) {
+            quantities = reconciledQuantities;
+        }
+    }
+
+    /**
+     * 커밋 직전에 매장의 읽기 잠금을 잡고, 커밋되면 수량을 반영한 뒤 트랜잭션이 끝날 때 푼다. 롤백되면 반영하지 않는다.
+     */
+    private static class CookingQuantitySynchronization extends TransactionSynchronizationAdapter {
+
+        private final StoreCookingQuantities storeCookingQuantities;
+        private final int direction;
+        private final List<OrderLineItemResponse> orderLineItems;
+        private boolean locked;
+
+        CookingQuantitySynchronization(
+            StoreCookingQuantities storeCookingQuantities,
+            int direction,
+            List<OrderLineItemResponse> orderLineItems
+        ) {
+            this.storeCookingQuantities = storeCookingQuantities;
+            this.direction = direction;
+            this.orderLineItems = orderLineItems;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            storeCookingQuantities.lock.readLock().lock();
+            locked = true;
+        }
+
+        @Override
+        public void afterCommit() {
+            storeCookingQuantities.add(direction, orderLineItems);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (locked) {
+                locked = false;
+                storeCookingQuantities.lock.readLock().unlock();
+            }
+        }
+    }
+}
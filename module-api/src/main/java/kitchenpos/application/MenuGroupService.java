@@ -2,10 +2,14 @@ package kitchenpos.application;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import kitchenpos.application.event.CatalogChangedEvent;
+import kitchenpos.application.event.CatalogType;
 import kitchenpos.domain.menugroup.MenuGroup;
 import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.menugroup.MenuGroupSummary;
 import kitchenpos.dto.menugroup.MenuGroupRequest;
 import kitchenpos.dto.menugroup.MenuGroupResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,20 +18,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class MenuGroupService {
 
     private final MenuGroupRepository menuGroupRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public MenuGroupService(MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(
+        MenuGroupRepository menuGroupRepository,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.menuGroupRepository = menuGroupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
     public MenuGroupResponse create(final MenuGroupRequest menuGroupRequest) {
         final MenuGroup newMenuGroup = new MenuGroup(menuGroupRequest.getName());
         menuGroupRepository.save(newMenuGroup);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.MENU_GROUP));
         return new MenuGroupResponse(newMenuGroup.getId(), newMenuGroup.getName());
     }
 
     public List<MenuGroupResponse> findAll() {
-        final List<MenuGroup> foundAllMenuGroups = menuGroupRepository.findAll();
+        final List<MenuGroupSummary> foundAllMenuGroups = menuGroupRepository.findAllSummaries();
         return foundAllMenuGroups.stream()
             .map(foundMenuGroup -> new MenuGroupResponse(foundMenuGroup.getId(), foundMenuGroup.getName()))
             .collect(Collectors.toList())
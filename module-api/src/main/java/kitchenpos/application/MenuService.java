@@ -2,7 +2,16 @@ package kitchenpos.application;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import kitchenpos.application.cache.CacheRegion;
+import kitchenpos.application.cache.StateCache;
+import kitchenpos.application.event.CatalogChangedEvent;
+import kitchenpos.application.event.CatalogType;
 import kitchenpos.domain.menu.Menu;
 import kitchenpos.domain.menu.MenuRepository;
 import kitchenpos.domain.menugroup.MenuGroup;
@@ -15,12 +24,15 @@ import kitchenpos.domain.product.ProductRepository;
 import kitchenpos.domain.productquantity.ProductQuantities;
 import kitchenpos.domain.productquantity.ProductQuantity;
 import kitchenpos.domain.quantity.Quantity;
+import kitchenpos.domain.store.StoreContext;
 import kitchenpos.dto.menu.MenuRequest;
 import kitchenpos.dto.menu.MenuResponse;
 import kitchenpos.dto.menuproduct.MenuProductRequest;
 import kitchenpos.dto.menuproduct.MenuProductResponse;
 import kitchenpos.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -31,17 +43,23 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final MenuProductRepository menuProductRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StateCache stateCache;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final MenuProductRepository menuProductRepository,
-        final ProductRepository productRepository
+        final ProductRepository productRepository,
+        final ApplicationEventPublisher applicationEventPublisher,
+        final StateCache stateCache
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.menuProductRepository = menuProductRepository;
         this.productRepository = productRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stateCache = stateCache;
     }
 
     @Transactional
@@ -51,19 +69,29 @@ public class MenuService {
         productQuantities.validateTotalPriceIsGreaterOrEqualThan(menuPrice);
 
         final MenuGroup foundMenuGroup = findMenuGroupById(menuRequest.getMenuGroupId());
-        final Menu menu = new Menu(menuRequest.getName(), menuRequest.getPrice(), foundMenuGroup);
+        final Menu menu = new Menu(
+            menuRequest.getName(),
+            menuPrice,
+            productQuantities.getProductsTotalPrice(),
+            foundMenuGroup
+        );
         menuRepository.save(menu);
 
         final List<MenuProduct> menuProducts = createMenuProducts(menu, productQuantities);
         menuProductRepository.saveAll(menuProducts);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.MENU));
 
         return createMenuResponse(menu, menuProducts);
     }
 
     private ProductQuantities getProductQuantities(List<MenuProductRequest> menuProductRequests) {
+        final Map<Long, Product> foundProducts = findAllProductsForUpdate(menuProductRequests);
         final ProductQuantities productQuantities = new ProductQuantities();
         for (MenuProductRequest menuProductRequest : menuProductRequests) {
-            final Product foundProduct = findProductById(menuProductRequest.getProductId());
+            final Product foundProduct = foundProducts.get(menuProductRequest.getProductId());
+            if (Objects.isNull(foundProduct)) {
+                throw new NotFoundException("해당 id의 MenuProduct가 존재하지 않습니다.");
+            }
             final Quantity quantity = new Quantity(menuProductRequest.getQuantity());
             productQuantities.add(new ProductQuantity(foundProduct, quantity));
         }
@@ -95,12 +123,26 @@ public class MenuService {
             ;
     }
 
-    private Product findProductById(Long id) {
-        return productRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("해당 id의 MenuProduct가 존재하지 않습니다."));
+    /**
+     * Product 가격 변경과 겹쳐서 바뀌기 전 가격으로 productsTotalPrice를 계산하지 않도록 Product 행을 잠근다.
+     * 요청 순서대로 하나씩 잠그면 순서가 반대인 요청끼리 교착 상태에 빠지므로, 한 번의 쿼리로 id 순서대로 잠근다.
+     */
+    private Map<Long, Product> findAllProductsForUpdate(List<MenuProductRequest> menuProductRequests) {
+        final Set<Long> productIds = menuProductRequests.stream()
+            .map(MenuProductRequest::getProductId)
+            .collect(Collectors.toCollection(TreeSet::new))
+            ;
+        return productRepository.findAllByIdInForUpdate(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()))
+            ;
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<MenuResponse> findAll() {
+        return stateCache.getList(StoreContext.getStoreId(), CacheRegion.MENU, this::findAllMenus);
+    }
+
+    private List<MenuResponse> findAllMenus() {
         final List<Menu> foundAllMenus = menuRepository.findAll();
         final List<MenuResponse> menuResponses = new ArrayList<>();
         for (Menu foundMenu : foundAllMenus) {
@@ -0,0 +1,212 @@
+package kitchenpos.application;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import kitchenpos.exception.InvalidArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 COMPLETION 상태의 Order를 OrderLineItem, OrderedMenu와 함께 archive 테이블로 옮긴다.
+ * 한 번에 batch-size개씩 짧은 트랜잭션으로 옮기고, 배치 사이에 pause만큼 쉬어서 운영 테이블의 잠금 경합을 줄인다.
+ * archive 스케줄이 빠지지 않도록 fast-startup 프로필에서도 지연 초기화하지 않는다.
+ */
+@Lazy(false)
+@Service
+public class OrderArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveService.class);
+
+    private static final Duration MAX_SEARCH_RANGE = Duration.ofDays(31);
+
+    private static final String SELECT_ARCHIVABLE_ORDER_IDS =
+        "SELECT id FROM orders WHERE order_status = :orderStatus AND ordered_time < :cutoff ORDER BY id LIMIT :limit";
+    private static final String INSERT_ORDERS_ARCHIVE =
+        "INSERT INTO orders_archive (id, order_table_id, order_status, ordered_time, archived_time, store_id) "
+            + "SELECT id, order_table_id, order_status, ordered_time, :archivedTime, store_id FROM orders "
+            + "WHERE id IN (:orderIds)";
+    private static final String INSERT_ORDERED_MENU_ARCHIVE =
+        "INSERT INTO ordered_menu_archive (id, menu_id, name, price, store_id) "
+            + "SELECT id, menu_id, name, price, store_id FROM ordered_menu "
+            + "WHERE id IN (SELECT ordered_menu_id FROM order_line_item WHERE order_id IN (:orderIds)) "
+            + "AND id NOT IN (SELECT id FROM ordered_menu_archive)";
+    private static final String INSERT_ORDER_LINE_ITEM_ARCHIVE =
+        "INSERT INTO order_line_item_archive (seq, order_id, ordered_menu_id, quantity) "
+            + "SELECT seq, order_id, ordered_menu_id, quantity FROM order_line_item WHERE order_id IN (:orderIds)";
+    private static final String DELETE_ORDER_LINE_ITEMS =
+        "DELETE FROM order_line_item WHERE order_id IN (:orderIds)";
+    private static final String DELETE_ORDERED_MENUS =
+        "DELETE FROM ordered_menu "
+            + "WHERE id IN (SELECT ordered_menu_id FROM order_line_item_archive WHERE order_id IN (:orderIds)) "
+            + "AND id NOT IN (SELECT ordered_menu_id FROM order_line_item)";
+    private static final String DELETE_ORDERS =
+        "DELETE FROM orders WHERE id IN (:orderIds)";
+    private static final String SELECT_ARCHIVED_ORDERS =
+        "SELECT id, order_table_id, order_status, ordered_time FROM orders_archive "
+            + "WHERE store_id = :storeId AND ordered_time >= :from AND ordered_time < :to ORDER BY ordered_time, id";
+    private static final String SELECT_ARCHIVED_ORDER_LINE_ITEMS =
+        "SELECT oli.seq, oli.order_id, om.menu_id, oli.quantity FROM order_line_item_archive oli "
+            + "JOIN ordered_menu_archive om ON om.id = oli.ordered_menu_id "
+            + "WHERE oli.order_id IN (:orderIds) ORDER BY oli.seq";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration age;
+    private final int batchSize;
+    private final Duration pause;
+
+    public OrderArchiveService(
+        final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+        final TransactionTemplate transactionTemplate,
+        @Value("${kitchenpos.archive.age:P30D}") final Duration age,
+        @Value("${kitchenpos.archive.batch-size:500}") final int batchSize,
+        @Value("${kitchenpos.archive.pause:PT0.2S}") final Duration pause
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.age = age;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${kitchenpos.archive.cron:0 0 4 * * *}")
+    public void archiveExpired() {
+        final int archivedCount = archive(LocalDateTime.now().minus(age));
+        log.info("Order archive 완료 - {}건", archivedCount);
+    }
+
+    public int archive(final LocalDateTime cutoff) {
+        int archivedCount = 0;
+        int batchCount;
+        do {
+            batchCount = Objects.requireNonNull(transactionTemplate.execute(status -> archiveBatch(cutoff)));
+            archivedCount += batchCount;
+        } while (batchCount == batchSize && pauseBetweenBatches());
+        return archivedCount;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        final List<Long> orderIds = namedParameterJdbcTemplate.queryForList(
+            SELECT_ARCHIVABLE_ORDER_IDS,
+            new MapSqlParameterSource()
+                .addValue("orderStatus", OrderStatus.COMPLETION.name())
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", batchSize),
+            Long.class
+        );
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("orderIds", orderIds)
+            .addValue("archivedTime", Timestamp.valueOf(LocalDateTime.now()));
+        namedParameterJdbcTemplate.update(INSERT_ORDERS_ARCHIVE, parameters);
+        namedParameterJdbcTemplate.update(INSERT_ORDERED_MENU_ARCHIVE, parameters);
+        namedParameterJdbcTemplate.update(INSERT_ORDER_LINE_ITEM_ARCHIVE, parameters);
+        namedParameterJdbcTemplate.update(DELETE_ORDER_LINE_ITEMS, parameters);
+        namedParameterJdbcTemplate.update(DELETE_ORDERED_MENUS, parameters);
+        namedParameterJdbcTemplate.update(DELETE_ORDERS, parameters);
+        return orderIds.size();
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findAllArchived(final LocalDateTime from, final LocalDateTime to) {
+        validateRange(from, to);
+        final Map<Long, ArchivedOrder> archivedOrders = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query(
+            SELECT_ARCHIVED_ORDERS,
+            new MapSqlParameterSource()
+                .addValue("storeId", StoreContext.getStoreId())
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to)),
+            (ResultSet resultSet) -> {
+                final ArchivedOrder archivedOrder = new ArchivedOrder(resultSet);
+                archivedOrders.put(archivedOrder.id, archivedOrder);
+            }
+        );
+        if (archivedOrders.isEmpty()) {
+            return Collections.emptyList();
+        }
+        namedParameterJdbcTemplate.query(
+            SELECT_ARCHIVED_ORDER_LINE_ITEMS,
+            new MapSqlParameterSource("orderIds", new ArrayList<>(archivedOrders.keySet())),
+            (ResultSet resultSet) -> {
+                final long orderId = resultSet.getLong("order_id");
+                archivedOrders.get(orderId).orderLineItems.add(new OrderLineItemResponse(
+                    resultSet.getLong("seq"),
+                    orderId,
+                    resultSet.getLong("menu_id"),
+                    resultSet.getLong("quantity")
+                ));
+            }
+        );
+        final List<OrderResponse> orderResponses = new ArrayList<>();
+        for (ArchivedOrder archivedOrder : archivedOrders.values()) {
+            orderResponses.add(archivedOrder.toOrderResponse());
+        }
+        return orderResponses;
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new InvalidArgumentException("from과 to는 null일 수 없습니다.");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_SEARCH_RANGE) > 0) {
+            throw new InvalidArgumentException("조회 구간은 " + MAX_SEARCH_RANGE.toDays() + "일을 넘을 수 없습니다.");
+        }
+    }
+
+    private static class ArchivedOrder {
+
+        private final Long id;
+        private final Long orderTableId;
+        private final OrderStatus orderStatus;
+        private final LocalDateTime orderedTime;
+        private final List<OrderLineItemResponse> orderLineItems = new ArrayList<>();
+
+        ArchivedOrder(ResultSet resultSet) throws SQLException {
+            this.id = resultSet.getLong("id");
+            this.orderTableId = resultSet.getLong("order_table_id");
+            this.orderStatus = OrderStatus.valueOf(resultSet.getString("order_status"));
+            this.orderedTime = resultSet.getTimestamp("ordered_time").toLocalDateTime();
+        }
+
+        OrderResponse toOrderResponse() {
+            return new OrderResponse(id, orderTableId, orderStatus, orderedTime, orderLineItems);
+        }
+    }
+}
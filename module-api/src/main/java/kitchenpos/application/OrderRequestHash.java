@@ -0,0 +1,61 @@
+package kitchenpos.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+
+/**
+ * Idempotency-Key와 함께 저장해서, 같은 키로 다른 내용의 주문 생성 요청이 왔는지 비교하는 데 쓰는 SHA-256 해시.
+ * JSON 원문 대신 주문 생성에 쓰이는 값만 해시하므로 공백이나 필드 순서가 달라도 같은 요청으로 본다.
+ */
+public final class OrderRequestHash {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private OrderRequestHash() {
+    }
+
+    public static String of(final OrderRequest orderRequest) {
+        final StringBuilder canonical = new StringBuilder()
+            .append(orderRequest.getOrderTableId());
+        for (OrderLineItemRequest orderLineItem : orderLineItemsOf(orderRequest)) {
+            canonical.append(';');
+            if (Objects.isNull(orderLineItem)) {
+                continue;
+            }
+            canonical.append(orderLineItem.getMenuId())
+                .append(':')
+                .append(orderLineItem.getQuantity());
+        }
+        return toHex(digest(canonical.toString()));
+    }
+
+    private static List<OrderLineItemRequest> orderLineItemsOf(OrderRequest orderRequest) {
+        if (Objects.isNull(orderRequest.getOrderLineItems())) {
+            return Collections.emptyList();
+        }
+        return orderRequest.getOrderLineItems();
+    }
+
+    private static byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + "를 지원하지 않는 JVM입니다.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                .append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
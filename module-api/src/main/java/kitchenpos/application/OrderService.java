@@ -1,8 +1,14 @@
 package kitchenpos.application;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import kitchenpos.application.event.OrderStatusChangedEvent;
 import kitchenpos.domain.menu.Menu;
 import kitchenpos.domain.menu.MenuRepository;
 import kitchenpos.domain.order.Order;
@@ -13,6 +19,7 @@ import kitchenpos.domain.orderedmenu.OrderedMenuRepository;
 import kitchenpos.domain.orderlineitem.OrderLineItem;
 import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
 import kitchenpos.domain.orderlineitem.OrderLineItems;
+import kitchenpos.domain.orderlineitem.OrderedQuantity;
 import kitchenpos.domain.ordertable.OrderTable;
 import kitchenpos.domain.ordertable.OrderTableRepository;
 import kitchenpos.domain.quantity.Quantity;
@@ -20,7 +27,9 @@ import kitchenpos.dto.order.OrderRequest;
 import kitchenpos.dto.order.OrderResponse;
 import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
 import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import kitchenpos.exception.InvalidArgumentException;
 import kitchenpos.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,24 +37,29 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    private static final Duration MAX_SEARCH_RANGE = Duration.ofDays(31);
+
     private final MenuRepository menuRepository;
     private final OrderRepository orderRepository;
     private final OrderLineItemRepository orderLineItemRepository;
     private final OrderedMenuRepository orderedMenuRepository;
     private final OrderTableRepository orderTableRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public OrderService(
         final MenuRepository menuRepository,
         final OrderRepository orderRepository,
         final OrderLineItemRepository orderLineItemRepository,
         final OrderedMenuRepository orderedMenuRepository,
-        final OrderTableRepository orderTableRepository
+        final OrderTableRepository orderTableRepository,
+        final ApplicationEventPublisher applicationEventPublisher
     ) {
         this.menuRepository = menuRepository;
         this.orderRepository = orderRepository;
         this.orderLineItemRepository = orderLineItemRepository;
         this.orderedMenuRepository = orderedMenuRepository;
         this.orderTableRepository = orderTableRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
@@ -54,13 +68,15 @@ public class OrderService {
         orderLineItems.validateNotEmpty();
 
         final OrderTable foundOrderTable = findOrderTableById(orderRequest.getOrderTableId());
+        foundOrderTable.validateNotEmpty();
         final Order order = new Order(foundOrderTable, OrderStatus.COOKING);
         orderRepository.save(order);
 
         orderLineItems.assignOrder(order);
         orderLineItemRepository.saveAll(orderLineItems.getOrderLineItems());
-
-        return convertToOrderResponse(order, orderLineItems.getOrderLineItems());
+        final OrderResponse orderResponse = convertToOrderResponse(order, orderLineItems.getOrderLineItems());
+        applicationEventPublisher.publishEvent(new OrderStatusChangedEvent(orderResponse));
+        return orderResponse;
     }
 
     private OrderResponse convertToOrderResponse(Order order, List<OrderLineItem> orderLineItems) {
@@ -81,18 +97,24 @@ public class OrderService {
     }
 
     private OrderLineItems convertToOrderLineItems(List<OrderLineItemRequest> orderLineItemRequests) {
+        final List<OrderedQuantity> orderedQuantities = orderLineItemRequests.stream()
+            .map(orderLineItemRequest -> new OrderedQuantity(
+                orderLineItemRequest.getMenuId(),
+                new Quantity(orderLineItemRequest.getQuantity())
+            ))
+            .collect(Collectors.toList())
+            ;
         final OrderLineItems orderLineItems = new OrderLineItems();
-        for (OrderLineItemRequest orderLineItemRequest : orderLineItemRequests) {
-            final OrderedMenu orderedMenu = getNewSavedOrderedMenu(orderLineItemRequest);
-            final Long quantityValue = orderLineItemRequest.getQuantity();
-            final OrderLineItem orderLineItem = new OrderLineItem(orderedMenu, new Quantity(quantityValue));
+        for (OrderedQuantity orderedQuantity : OrderLineItems.mergeByMenuId(orderedQuantities)) {
+            final OrderedMenu orderedMenu = getNewSavedOrderedMenu(orderedQuantity.getMenuId());
+            final OrderLineItem orderLineItem = new OrderLineItem(orderedMenu, orderedQuantity.getQuantity());
             orderLineItems.add(orderLineItem);
         }
         return orderLineItems;
     }
 
-    private OrderedMenu getNewSavedOrderedMenu(OrderLineItemRequest orderLineItemRequest) {
-        final Menu foundMenu = findMenuById(orderLineItemRequest.getMenuId());
+    private OrderedMenu getNewSavedOrderedMenu(Long menuId) {
+        final Menu foundMenu = findMenuById(menuId);
         final OrderedMenu orderedMenu = new OrderedMenu(foundMenu.getId(), foundMenu.getName(), foundMenu.getPrice());
         return orderedMenuRepository.save(orderedMenu);
     }
@@ -114,14 +136,60 @@ public class OrderService {
         return orderResponses;
     }
 
+    /**
+     * orderedTime이 [from, to) 구간이고 orderStatus가 orderStatuses 중 하나인 Order를 orderedTime 순으로 조회한다.
+     * orderStatuses가 비어 있으면 모든 상태를 조회한다. 한 번에 읽는 양을 제한하기 위해 구간은 31일을 넘을 수 없다.
+     */
+    public List<OrderResponse> findAllByOrderedTime(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final List<OrderStatus> orderStatuses
+    ) {
+        validateRange(from, to);
+        final List<OrderStatus> searchOrderStatuses = Objects.isNull(orderStatuses) || orderStatuses.isEmpty()
+            ? Arrays.asList(OrderStatus.values())
+            : orderStatuses;
+        final List<Order> foundOrders =
+            orderRepository.findAllByOrderedTimeRangeAndOrderStatusIn(from, to, searchOrderStatuses);
+        if (foundOrders.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final Map<Long, List<OrderLineItem>> foundOrderLineItems =
+            orderLineItemRepository.findAllWithOrderedMenuByOrderIn(foundOrders).stream()
+                .collect(Collectors.groupingBy(OrderLineItem::getOrderId))
+            ;
+        final List<OrderResponse> orderResponses = new ArrayList<>();
+        for (Order foundOrder : foundOrders) {
+            final List<OrderLineItem> orderLineItems =
+                foundOrderLineItems.getOrDefault(foundOrder.getId(), new ArrayList<>());
+            orderResponses.add(convertToOrderResponse(foundOrder, orderLineItems));
+        }
+        return orderResponses;
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to)) {
+            throw new InvalidArgumentException("from과 to는 null일 수 없습니다.");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_SEARCH_RANGE) > 0) {
+            throw new InvalidArgumentException("조회 구간은 " + MAX_SEARCH_RANGE.toDays() + "일을 넘을 수 없습니다.");
+        }
+    }
+
     @Transactional
     public OrderResponse changeOrderStatus(final Long orderId, final OrderRequest orderRequest) {
         final Order foundOrder = findOrderById(orderId);
         foundOrder.validateNotCompleted();
+        final OrderStatus oldOrderStatus = foundOrder.getOrderStatus();
         foundOrder.changeStatus(orderRequest.getOrderStatus());
 
         final List<OrderLineItem> foundOrderLineItems = orderLineItemRepository.findAllByOrder(foundOrder);
-        return convertToOrderResponse(foundOrder, foundOrderLineItems);
+        final OrderResponse orderResponse = convertToOrderResponse(foundOrder, foundOrderLineItems);
+        applicationEventPublisher.publishEvent(new OrderStatusChangedEvent(oldOrderStatus, orderResponse));
+        return orderResponse;
     }
 
     private Order findOrderById(Long orderId) {
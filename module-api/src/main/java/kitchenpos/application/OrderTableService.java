@@ -1,16 +1,23 @@
 package kitchenpos.application;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import kitchenpos.application.cache.CacheRegion;
+import kitchenpos.application.cache.StateCache;
+import kitchenpos.application.event.OrderTablesChangedEvent;
 import kitchenpos.domain.order.OrderRepository;
 import kitchenpos.domain.order.OrderStatus;
 import kitchenpos.domain.ordertable.OrderTable;
 import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.store.StoreContext;
 import kitchenpos.dto.ordertable.OrderTableRequest;
 import kitchenpos.dto.ordertable.OrderTableResponse;
-import kitchenpos.exception.BadRequestException;
+import kitchenpos.exception.InvalidStateException;
 import kitchenpos.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -19,23 +26,34 @@ public class OrderTableService {
 
     private final OrderRepository orderRepository;
     private final OrderTableRepository orderTableRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StateCache stateCache;
 
     public OrderTableService(
         final OrderRepository orderRepository,
-        final OrderTableRepository orderTableRepository
+        final OrderTableRepository orderTableRepository,
+        final ApplicationEventPublisher applicationEventPublisher,
+        final StateCache stateCache
     ) {
         this.orderRepository = orderRepository;
         this.orderTableRepository = orderTableRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stateCache = stateCache;
     }
 
     @Transactional
     public OrderTableResponse create(final OrderTableRequest orderTableRequest) {
         final OrderTable orderTable = new OrderTable(orderTableRequest.getNumberOfGuests(), orderTableRequest.getEmpty());
         orderTableRepository.save(orderTable);
-        return new OrderTableResponse(orderTable);
+        return publishOrderTableChanged(orderTable);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<OrderTableResponse> findAll() {
+        return stateCache.getList(StoreContext.getStoreId(), CacheRegion.ORDER_TABLE, this::findAllOrderTables);
+    }
+
+    private List<OrderTableResponse> findAllOrderTables() {
         final List<OrderTable> foundAllOrderTables = orderTableRepository.findAll();
         return foundAllOrderTables.stream()
             .map(OrderTableResponse::new)
@@ -48,26 +66,26 @@ public class OrderTableService {
         final OrderTable foundOrderTable = findOrderTableById(orderTableId);
         validateOrderTableToChangeEmpty(foundOrderTable);
         foundOrderTable.changeEmpty(orderTableRequest.getEmpty());
-        return new OrderTableResponse(foundOrderTable);
+        return publishOrderTableChanged(foundOrderTable);
     }
 
-    private void validateOrderTableToChangeEmpty(OrderTable foundOrderTable) {
-        validateTableGroupIsNull(foundOrderTable);
-        validateOrdersStatusOf(foundOrderTable);
+    private OrderTableResponse publishOrderTableChanged(OrderTable orderTable) {
+        final OrderTableResponse orderTableResponse = new OrderTableResponse(orderTable);
+        applicationEventPublisher.publishEvent(
+            new OrderTablesChangedEvent(Collections.singletonList(orderTableResponse))
+        );
+        return orderTableResponse;
     }
 
-    private void validateTableGroupIsNull(OrderTable foundOrderTable) {
-        try {
-            foundOrderTable.validateTableGroupIsNull();
-        } catch (IllegalStateException e) {
-            throw new BadRequestException(e.getMessage());
-        }
+    private void validateOrderTableToChangeEmpty(OrderTable foundOrderTable) {
+        foundOrderTable.validateTableGroupIsNull();
+        validateOrdersStatusOf(foundOrderTable);
     }
 
     private void validateOrdersStatusOf(OrderTable foundOrderTable) {
         if (orderRepository.existsByOrderTableAndOrderStatusIsIn(
             foundOrderTable, OrderStatus.getExceptCompletion())) {
-            throw new BadRequestException("OrderTable에 COMPLETION상태가 아닌 Order가 존재합니다.");
+            throw new InvalidStateException("OrderTable에 COMPLETION상태가 아닌 Order가 존재합니다.");
         }
     }
 
@@ -81,6 +99,6 @@ public class OrderTableService {
         final OrderTable foundOrderTable = findOrderTableById(orderTableId);
         foundOrderTable.changeNumberOfGuests(orderTableRequest.getNumberOfGuests());
 
-        return new OrderTableResponse(foundOrderTable);
+        return publishOrderTableChanged(foundOrderTable);
     }
 }
@@ -1,35 +1,127 @@
 package kitchenpos.application;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import kitchenpos.application.cache.CacheRegion;
+import kitchenpos.application.cache.StateCache;
+import kitchenpos.application.event.CatalogChangedEvent;
+import kitchenpos.application.event.CatalogType;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menuproduct.MenuProduct;
+import kitchenpos.domain.menuproduct.MenuProductRepository;
+import kitchenpos.domain.price.Price;
 import kitchenpos.domain.product.Product;
 import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.domain.product.ProductSummary;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.product.ProductPriceChangeResponse;
 import kitchenpos.dto.product.ProductRequest;
 import kitchenpos.dto.product.ProductResponse;
+import kitchenpos.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int MENU_PRODUCT_BATCH_SIZE = 500;
+
     private final ProductRepository productRepository;
+    private final MenuRepository menuRepository;
+    private final MenuProductRepository menuProductRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StateCache stateCache;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(
+        final ProductRepository productRepository,
+        final MenuRepository menuRepository,
+        final MenuProductRepository menuProductRepository,
+        final ApplicationEventPublisher applicationEventPublisher,
+        final StateCache stateCache
+    ) {
         this.productRepository = productRepository;
+        this.menuRepository = menuRepository;
+        this.menuProductRepository = menuProductRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stateCache = stateCache;
     }
 
     @Transactional
     public ProductResponse create(final ProductRequest productRequest) {
         final Product newProduct = new Product(productRequest.getName(), productRequest.getPrice());
         productRepository.save(newProduct);
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.PRODUCT));
         return new ProductResponse(newProduct);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ProductResponse> findAll() {
-        final List<Product> foundAllProducts = productRepository.findAll();
+        return stateCache.getList(StoreContext.getStoreId(), CacheRegion.PRODUCT, this::findAllProducts);
+    }
+
+    private List<ProductResponse> findAllProducts() {
+        final List<ProductSummary> foundAllProducts = productRepository.findAllSummaries();
         return foundAllProducts.stream()
-            .map(ProductResponse::new)
+            .map(product -> new ProductResponse(product.getId(), product.getName(), product.getPrice().intValue()))
             .collect(Collectors.toList());
     }
+
+    /**
+     * 같은 Product의 가격 변경은 Product 행 잠금으로 차례로 처리하고,
+     * Menu의 productsTotalPrice는 변경 전후 가격 차이만큼 SQL에서 더해서 다른 Product의 가격 변경과 겹쳐도 잃지 않는다.
+     * Product가 포함된 MenuProduct는 MENU_PRODUCT_BATCH_SIZE개씩 나눠 읽고, 묶음마다 영속성 컨텍스트를 비운다.
+     */
+    @Transactional
+    public ProductPriceChangeResponse changePrice(final Long productId, final ProductRequest productRequest) {
+        final Product foundProduct = productRepository.findByIdForUpdate(productId)
+            .orElseThrow(() -> new NotFoundException("해당 id의 Product가 존재하지 않습니다."));
+        final Price oldPrice = foundProduct.getPrice();
+        foundProduct.changePrice(productRequest.getPrice());
+        applicationEventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.PRODUCT));
+
+        applyProductPriceChange(foundProduct, foundProduct.getPrice().getValue().subtract(oldPrice.getValue()));
+        final List<Long> priceExceededMenuIds =
+            menuRepository.findIdsByProductAndPriceGreaterThanProductsTotalPrice(foundProduct);
+        return new ProductPriceChangeResponse(foundProduct, priceExceededMenuIds);
+    }
+
+    private void applyProductPriceChange(Product product, BigDecimal priceDelta) {
+        if (priceDelta.signum() == 0) {
+            return;
+        }
+        Pageable pageable = PageRequest.of(0, MENU_PRODUCT_BATCH_SIZE, Sort.by("seq"));
+        Slice<MenuProduct> menuProducts;
+        do {
+            menuProducts = menuProductRepository.findAllByProductWithMenu(product, pageable);
+            addProductsTotalPrice(menuProducts.getContent(), priceDelta);
+            pageable = menuProducts.nextPageable();
+        } while (menuProducts.hasNext());
+    }
+
+    /**
+     * 한 Menu에 같은 Product가 여러 번 들어있으면 수량을 합친 뒤, 수량이 같은 Menu끼리 한 번에 갱신한다.
+     */
+    private void addProductsTotalPrice(List<MenuProduct> menuProducts, BigDecimal priceDelta) {
+        final Map<Long, Long> quantityByMenuId = menuProducts.stream()
+            .collect(Collectors.groupingBy(
+                MenuProduct::getMenuId, LinkedHashMap::new, Collectors.summingLong(MenuProduct::getQuantityValue)
+            ));
+        final Map<Long, List<Long>> menuIdsByQuantity = quantityByMenuId.entrySet().stream()
+            .collect(Collectors.groupingBy(
+                Map.Entry::getValue, LinkedHashMap::new, Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+            ));
+        menuIdsByQuantity.forEach((quantity, menuIds) ->
+            menuRepository.addProductsTotalPrice(menuIds, priceDelta.multiply(BigDecimal.valueOf(quantity)))
+        );
+    }
 }
@@ -0,0 +1,318 @@
+package kitchenpos.application;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.exception.InvalidArgumentException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 성능 측정용 가상 데이터를 JDBC batch insert로 만든다.
+ * Menu 인기도는 Zipf 분포를, 주문 시각은 점심과 저녁에 몰리는 시간대별 가중치를 따른다.
+ * 같은 seed면 같은 데이터를 만든다.
+ */
+@Service
+public class SyntheticDataService {
+
+    private static final int[] HOURLY_ORDER_WEIGHTS = {
+        1, 0, 0, 0, 0, 0, 0, 1, 2, 3, 5, 14, 18, 12, 5, 3, 4, 9, 15, 16, 12, 7, 4, 2
+    };
+    private static final Duration OPEN_ORDER_WINDOW = Duration.ofHours(2);
+    private static final int MAX_MENU_PRODUCT_COUNT = 3;
+    private static final int MAX_ORDER_LINE_ITEM_QUANTITY = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticDataService(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void generate(final SyntheticDataSpec spec) {
+        validate(spec);
+        final Random random = new Random(spec.getSeed());
+        final List<long[]> products = insertProducts(spec, random);
+        final List<Long> menuGroupIds = insertMenuGroups(spec);
+        final List<GeneratedMenu> menus = insertMenus(spec, random, products, menuGroupIds);
+        final List<Long> orderTableIds = new ArrayList<>();
+        final List<Long> occupiedOrderTableIds = new ArrayList<>();
+        insertOrderTables(spec, random, orderTableIds, occupiedOrderTableIds);
+        insertOrders(spec, random, menus, orderTableIds, occupiedOrderTableIds);
+    }
+
+    private void validate(SyntheticDataSpec spec) {
+        if (spec.getProductCount() <= 0 || spec.getMenuGroupCount() <= 0 || spec.getMenuCount() <= 0) {
+            throw new InvalidArgumentException("Product, MenuGroup, Menu 개수는 1 이상이어야 합니다.");
+        }
+        if (spec.getOrderCount() > 0 && spec.getOrderTableCount() <= 0) {
+            throw new InvalidArgumentException("Order를 만들려면 OrderTable 개수가 1 이상이어야 합니다.");
+        }
+        if (spec.getMaxOrderLineItemCount() <= 0 || spec.getDays() <= 0 || spec.getBatchSize() <= 0) {
+            throw new InvalidArgumentException("OrderLineItem 개수, 기간, batch 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * [id, price]를 반환한다.
+     */
+    private List<long[]> insertProducts(SyntheticDataSpec spec, Random random) {
+        final long firstId = nextId("product");
+        final List<long[]> products = new ArrayList<>();
+        final List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < spec.getProductCount(); i++) {
+            final long id = firstId + i;
+            final long price = 5_000 + random.nextInt(51) * 500L;
+            products.add(new long[]{id, price});
+            rows.add(new Object[]{id, "상품" + id, price});
+        }
+        batchInsert("INSERT INTO product (id, name, price) VALUES (?, ?, ?)", rows, spec.getBatchSize());
+        return products;
+    }
+
+    private List<Long> insertMenuGroups(SyntheticDataSpec spec) {
+        final long firstId = nextId("menu_group");
+        final List<Long> menuGroupIds = new ArrayList<>();
+        final List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < spec.getMenuGroupCount(); i++) {
+            final long id = firstId + i;
+            menuGroupIds.add(id);
+            rows.add(new Object[]{id, "메뉴그룹" + id});
+        }
+        batchInsert("INSERT INTO menu_group (id, name) VALUES (?, ?)", rows, spec.getBatchSize());
+        return menuGroupIds;
+    }
+
+    private List<GeneratedMenu> insertMenus(
+        SyntheticDataSpec spec,
+        Random random,
+        List<long[]> products,
+        List<Long> menuGroupIds
+    ) {
+        final long firstId = nextId("menu");
+        final List<GeneratedMenu> menus = new ArrayList<>();
+        final List<Object[]> menuRows = new ArrayList<>();
+        final List<Object[]> menuProductRows = new ArrayList<>();
+        for (int i = 0; i < spec.getMenuCount(); i++) {
+            final long id = firstId + i;
+            long productsTotalPrice = 0;
+            final int menuProductCount = 1 + random.nextInt(Math.min(MAX_MENU_PRODUCT_COUNT, products.size()));
+            for (int productIndex : pickDistinct(random, products.size(), menuProductCount)) {
+                final long[] product = products.get(productIndex);
+                final long quantity = 1 + random.nextInt(2);
+                productsTotalPrice += product[1] * quantity;
+                menuProductRows.add(new Object[]{id, product[0], quantity});
+            }
+            final long discount = productsTotalPrice * random.nextInt(11) / 100 / 100 * 100;
+            final GeneratedMenu menu = new GeneratedMenu(id, "메뉴" + id, productsTotalPrice - discount);
+            menus.add(menu);
+            menuRows.add(new Object[]{
+                id, menu.name, menu.price, productsTotalPrice, menuGroupIds.get(random.nextInt(menuGroupIds.size()))
+            });
+        }
+        batchInsert(
+            "INSERT INTO menu (id, name, price, products_total_price, menu_group_id) VALUES (?, ?, ?, ?, ?)",
+            menuRows,
+            spec.getBatchSize()
+        );
+        batchInsert(
+            "INSERT INTO menu_product (menu_id, product_id, quantity) VALUES (?, ?, ?)",
+            menuProductRows,
+            spec.getBatchSize()
+        );
+        Collections.shuffle(menus, random);
+        return menus;
+    }
+
+    /**
+     * 앞쪽 OrderTable부터 2~4개씩 TableGroup으로 묶고, 묶인 OrderTable과 나머지의 절반을 손님이 있는 상태로 만든다.
+     */
+    private void insertOrderTables(
+        SyntheticDataSpec spec,
+        Random random,
+        List<Long> orderTableIds,
+        List<Long> occupiedOrderTableIds
+    ) {
+        final long firstTableGroupId = nextId("table_group");
+        final long firstOrderTableId = nextId("order_table");
+        final List<Object[]> tableGroupRows = new ArrayList<>();
+        final List<Object[]> orderTableRows = new ArrayList<>();
+        int orderTableIndex = 0;
+        for (int i = 0; i < spec.getTableGroupCount(); i++) {
+            final int groupSize = 2 + random.nextInt(3);
+            if (orderTableIndex + groupSize > spec.getOrderTableCount()) {
+                break;
+            }
+            final long tableGroupId = firstTableGroupId + i;
+            tableGroupRows.add(new Object[]{tableGroupId, Timestamp.valueOf(LocalDateTime.now())});
+            for (int j = 0; j < groupSize; j++) {
+                final long orderTableId = firstOrderTableId + orderTableIndex++;
+                orderTableRows.add(new Object[]{orderTableId, tableGroupId, 1 + random.nextInt(4), false});
+                orderTableIds.add(orderTableId);
+                occupiedOrderTableIds.add(orderTableId);
+            }
+        }
+        for (; orderTableIndex < spec.getOrderTableCount(); orderTableIndex++) {
+            final long orderTableId = firstOrderTableId + orderTableIndex;
+            final boolean empty = random.nextBoolean();
+            orderTableRows.add(new Object[]{orderTableId, null, empty ? 0 : 1 + random.nextInt(6), empty});
+            orderTableIds.add(orderTableId);
+            if (!empty) {
+                occupiedOrderTableIds.add(orderTableId);
+            }
+        }
+        batchInsert("INSERT INTO table_group (id, created_date) VALUES (?, ?)", tableGroupRows, spec.getBatchSize());
+        batchInsert(
+            "INSERT INTO order_table (id, table_group_id, number_of_guests, empty) VALUES (?, ?, ?, ?)",
+            orderTableRows,
+            spec.getBatchSize()
+        );
+    }
+
+    /**
+     * OPEN_ORDER_WINDOW 안에 들어온 Order는 손님이 있는 OrderTable의 COOKING 또는 MEAL로, 나머지는 COMPLETION으로 만든다.
+     */
+    private void insertOrders(
+        SyntheticDataSpec spec,
+        Random random,
+        List<GeneratedMenu> menus,
+        List<Long> orderTableIds,
+        List<Long> occupiedOrderTableIds
+    ) {
+        final ZipfDistribution menuPopularity = new ZipfDistribution(menus.size(), spec.getMenuPopularityExponent());
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime openOrderFrom = now.minus(OPEN_ORDER_WINDOW);
+        long orderId = nextId("orders");
+        long orderedMenuId = nextId("ordered_menu");
+        final List<Object[]> orderRows = new ArrayList<>();
+        final List<Object[]> orderedMenuRows = new ArrayList<>();
+        final List<Object[]> orderLineItemRows = new ArrayList<>();
+        for (int i = 0; i < spec.getOrderCount(); i++, orderId++) {
+            final LocalDateTime orderedTime = sampleOrderedTime(random, now, spec.getDays());
+            final boolean open = orderedTime.isAfter(openOrderFrom) && !occupiedOrderTableIds.isEmpty();
+            final List<Long> candidateOrderTableIds = open ? occupiedOrderTableIds : orderTableIds;
+            final OrderStatus orderStatus = open
+                ? (random.nextBoolean() ? OrderStatus.COOKING : OrderStatus.MEAL)
+                : OrderStatus.COMPLETION;
+            orderRows.add(new Object[]{
+                orderId,
+                candidateOrderTableIds.get(random.nextInt(candidateOrderTableIds.size())),
+                orderStatus.name(),
+                Timestamp.valueOf(orderedTime)
+            });
+
+            final int orderLineItemCount = 1 + random.nextInt(Math.min(spec.getMaxOrderLineItemCount(), menus.size()));
+            for (int menuIndex : pickDistinct(random, menuPopularity, orderLineItemCount)) {
+                final GeneratedMenu menu = menus.get(menuIndex);
+                orderedMenuRows.add(new Object[]{orderedMenuId, menu.id, menu.name, menu.price});
+                final int quantity = 1 + random.nextInt(MAX_ORDER_LINE_ITEM_QUANTITY);
+                orderLineItemRows.add(new Object[]{orderId, orderedMenuId, quantity});
+                orderedMenuId++;
+            }
+
+            if (orderRows.size() == spec.getBatchSize()) {
+                flushOrders(orderRows, orderedMenuRows, orderLineItemRows, spec.getBatchSize());
+            }
+        }
+        flushOrders(orderRows, orderedMenuRows, orderLineItemRows, spec.getBatchSize());
+    }
+
+    private LocalDateTime sampleOrderedTime(Random random, LocalDateTime now, int days) {
+        final LocalDate date = now.toLocalDate().minusDays(random.nextInt(days));
+        final LocalTime time = LocalTime.of(sampleHour(random), random.nextInt(60), random.nextInt(60));
+        final LocalDateTime orderedTime = LocalDateTime.of(date, time);
+        if (orderedTime.isAfter(now)) {
+            return orderedTime.minusDays(1);
+        }
+        return orderedTime;
+    }
+
+    private int sampleHour(Random random) {
+        int totalWeight = 0;
+        for (int weight : HOURLY_ORDER_WEIGHTS) {
+            totalWeight += weight;
+        }
+        int pick = random.nextInt(totalWeight);
+        for (int hour = 0; hour < HOURLY_ORDER_WEIGHTS.length; hour++) {
+            pick -= HOURLY_ORDER_WEIGHTS[hour];
+            if (pick < 0) {
+                return hour;
+            }
+        }
+        return HOURLY_ORDER_WEIGHTS.length - 1;
+    }
+
+    private void flushOrders(
+        List<Object[]> orderRows,
+        List<Object[]> orderedMenuRows,
+        List<Object[]> orderLineItemRows,
+        int batchSize
+    ) {
+        batchInsert(
+            "INSERT INTO orders (id, order_table_id, order_status, ordered_time) VALUES (?, ?, ?, ?)",
+            orderRows,
+            batchSize
+        );
+        batchInsert(
+            "INSERT INTO ordered_menu (id, menu_id, name, price) VALUES (?, ?, ?, ?)",
+            orderedMenuRows,
+            batchSize
+        );
+        batchInsert(
+            "INSERT INTO order_line_item (order_id, ordered_menu_id, quantity) VALUES (?, ?, ?)",
+            orderLineItemRows,
+            batchSize
+        );
+        orderRows.clear();
+        orderedMenuRows.clear();
+        orderLineItemRows.clear();
+    }
+
+    private Set<Integer> pickDistinct(Random random, int size, int count) {
+        final Set<Integer> indexes = new LinkedHashSet<>();
+        while (indexes.size() < count) {
+            indexes.add(random.nextInt(size));
+        }
+        return indexes;
+    }
+
+    private Set<Integer> pickDistinct(Random random, ZipfDistribution distribution, int count) {
+        final Set<Integer> indexes = new LinkedHashSet<>();
+        for (int attempt = 0; indexes.size() < count && attempt < count * 10; attempt++) {
+            indexes.add(distribution.sample(random));
+        }
+        return indexes;
+    }
+
+    private long nextId(String table) {
+        final Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1L : maxId + 1;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows, int batchSize) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    private static class GeneratedMenu {
+
+        private final long id;
+        private final String name;
+        private final long price;
+
+        GeneratedMenu(long id, String name, long price) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package kitchenpos.application;
+
+public class SyntheticDataSpec {
+
+    private final int productCount;
+    private final int menuGroupCount;
+    private final int menuCount;
+    private final int orderTableCount;
+    private final int tableGroupCount;
+    private final int orderCount;
+    private final int maxOrderLineItemCount;
+    private final int days;
+    private final double menuPopularityExponent;
+    private final long seed;
+    private final int batchSize;
+
+    public SyntheticDataSpec(
+        int productCount,
+        int menuGroupCount,
+        int menuCount,
+        int orderTableCount,
+        int tableGroupCount,
+        int orderCount,
+        int maxOrderLineItemCount,
+        int days,
+        double menuPopularityExponent,
+        long seed,
+        int batchSize
+    ) {
+        this.productCount = productCount;
+        this.menuGroupCount = menuGroupCount;
+        this.menuCount = menuCount;
+        this.orderTableCount = orderTableCount;
+        this.tableGroupCount = tableGroupCount;
+        this.orderCount = orderCount;
+        this.maxOrderLineItemCount = maxOrderLineItemCount;
+        this.days = days;
+        this.menuPopularityExponent = menuPopularityExponent;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public int getMenuGroupCount() {
+        return menuGroupCount;
+    }
+
+    public int getMenuCount() {
+        return menuCount;
+    }
+
+    public int getOrderTableCount() {
+        return orderTableCount;
+    }
+
+    public int getTableGroupCount() {
+        return tableGroupCount;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public int getMaxOrderLineItemCount() {
+        return maxOrderLineItemCount;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public double getMenuPopularityExponent() {
+        return menuPopularityExponent;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
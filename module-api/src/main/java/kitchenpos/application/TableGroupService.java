@@ -1,9 +1,11 @@
 package kitchenpos.application;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import kitchenpos.application.event.OrderTablesChangedEvent;
 import kitchenpos.domain.order.OrderRepository;
 import kitchenpos.domain.order.OrderStatus;
 import kitchenpos.domain.ordertable.OrderTable;
@@ -17,6 +19,7 @@ import kitchenpos.dto.tablegroup.TableGroupRequest;
 import kitchenpos.dto.tablegroup.TableGroupResponse;
 import kitchenpos.exception.InvalidStateException;
 import kitchenpos.exception.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,15 +30,18 @@ public class TableGroupService {
     private final OrderRepository orderRepository;
     private final OrderTableRepository orderTableRepository;
     private final TableGroupRepository tableGroupRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public TableGroupService(
         OrderRepository orderRepository,
         OrderTableRepository orderTableRepository,
-        TableGroupRepository tableGroupRepository
+        TableGroupRepository tableGroupRepository,
+        ApplicationEventPublisher applicationEventPublisher
     ) {
         this.orderRepository = orderRepository;
         this.orderTableRepository = orderTableRepository;
         this.tableGroupRepository = tableGroupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
@@ -45,10 +51,22 @@ public class TableGroupService {
         final TableGroup tableGroup = new TableGroup();
         tableGroupRepository.save(tableGroup);
 
+        assignAllOrderTables(orderTables, tableGroup);
+
+        final TableGroupResponse tableGroupResponse
+            = convertToTableGroupResponse(tableGroup, orderTables.getOrderTables());
+        applicationEventPublisher.publishEvent(new OrderTablesChangedEvent(tableGroupResponse.getOrderTables()));
+        return tableGroupResponse;
+    }
+
+    private void assignAllOrderTables(OrderTablesToCreateGroup orderTables, TableGroup tableGroup) {
+        final List<Long> orderTableIds = orderTables.getOrderTableIds();
+        final int assignedCount = orderTableRepository.assignAllEmptyToTableGroup(tableGroup, orderTableIds);
+        if (assignedCount != orderTableIds.size()) {
+            throw new InvalidStateException("TableGroup을 지정하는 도중 OrderTable의 상태가 변경되었습니다.");
+        }
         orderTables.changeAllEmptyToFalse();
         orderTables.assign(tableGroup);
-
-        return convertToTableGroupResponse(tableGroup, orderTables.getOrderTables());
     }
 
     private TableGroupResponse convertToTableGroupResponse(TableGroup tableGroup, List<OrderTable> orderTables) {
@@ -65,7 +83,7 @@ public class TableGroupService {
 
     private OrderTablesToCreateGroup convertToOrderTables(List<OrderTableRequest> orderTableRequests) {
         final List<Long> requestOrderTablesIds = extractOrderTableRequestsIds(orderTableRequests);
-        final List<OrderTable> foundOrderTables = orderTableRepository.findAllByIdIn(requestOrderTablesIds);
+        final List<OrderTable> foundOrderTables = orderTableRepository.findAllReadOnlyByIdIn(requestOrderTablesIds);
         validateAllOrderTablesExistsInDB(foundOrderTables, requestOrderTablesIds);
 
         return new OrderTablesToCreateGroup(foundOrderTables);
@@ -95,9 +113,22 @@ public class TableGroupService {
 
     @Transactional
     public void ungroup(final Long tableGroupId) {
-        final List<OrderTable> orderTables = orderTableRepository.findAllByTableGroupId(tableGroupId);
+        final List<OrderTable> orderTables = orderTableRepository.findAllReadOnlyByTableGroupId(tableGroupId);
+        validateOrderTablesExist(orderTables);
         validateAllOrdersCompleted(orderTables);
+        final List<Long> orderTableIds = new ArrayList<>(extractOrderTableIds(orderTables));
+        final int ungroupedCount = orderTableRepository.ungroupAllByIdIn(tableGroupId, orderTableIds);
+        if (ungroupedCount != orderTableIds.size()) {
+            throw new InvalidStateException("TableGroup을 해제하는 도중 OrderTable의 상태가 변경되었습니다.");
+        }
         ungroupAllOrderTables(orderTables);
+        applicationEventPublisher.publishEvent(new OrderTablesChangedEvent(convertToOrderTableResponses(orderTables)));
+    }
+
+    private void validateOrderTablesExist(List<OrderTable> orderTables) {
+        if (orderTables.isEmpty()) {
+            throw new NotFoundException("현재 매장에 해당 id의 TableGroup에 속한 OrderTable이 존재하지 않습니다.");
+        }
     }
 
     private void validateAllOrdersCompleted(List<OrderTable> orderTables) {
@@ -0,0 +1,36 @@
+package kitchenpos.application;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 1위부터 n위까지의 순위를 P(k) ∝ 1 / k^exponent 비율로 뽑는다. 누적 분포를 미리 계산해 두고 이진 탐색한다.
+ */
+class ZipfDistribution {
+
+    private final double[] cumulativeProbabilities;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        cumulativeProbabilities = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1.0 / Math.pow(rank, exponent);
+            cumulativeProbabilities[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulativeProbabilities[i] /= total;
+        }
+    }
+
+    /**
+     * 0부터 size - 1 사이의 index를 반환한다. 0이 가장 자주 뽑힌다.
+     */
+    int sample(Random random) {
+        final int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        final int insertionPoint = index >= 0 ? index : -index - 1;
+        return Math.min(insertionPoint, cumulativeProbabilities.length - 1);
+    }
+}
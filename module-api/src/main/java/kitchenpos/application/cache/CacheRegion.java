@@ -0,0 +1,35 @@
+package kitchenpos.application.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import kitchenpos.application.event.CatalogType;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menuproduct.MenuProduct;
+import kitchenpos.domain.product.Product;
+
+/**
+ * StateCache가 매장별로 나눠 담는 상태의 종류.
+ * 다른 노드에서 무효화되면 함께 바뀌었을 수 있는 Entity의 2차 캐시도 비운다.
+ */
+public enum CacheRegion {
+    PRODUCT(Product.class, Menu.class),
+    MENU_GROUP(MenuGroup.class),
+    MENU(Menu.class, MenuProduct.class),
+    ORDER_TABLE;
+
+    private final List<Class<?>> entityClasses;
+
+    CacheRegion(Class<?>... entityClasses) {
+        this.entityClasses = Collections.unmodifiableList(Arrays.asList(entityClasses));
+    }
+
+    public static CacheRegion from(CatalogType catalogType) {
+        return valueOf(catalogType.name());
+    }
+
+    public List<Class<?>> getEntityClasses() {
+        return entityClasses;
+    }
+}
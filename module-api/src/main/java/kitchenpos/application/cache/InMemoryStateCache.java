@@ -0,0 +1,122 @@
+package kitchenpos.application.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 한 JVM 안에서만 유지하는 StateCache. 다른 노드의 변경은 알 수 없으므로 노드가 하나일 때 쓴다.
+ * 목록을 읽는 동안 invalidate되면 읽은 목록은 반환만 하고 저장하지 않는다.
+ */
+public class InMemoryStateCache implements StateCache {
+
+    private final String versionPrefix;
+    private final TransactionOperations readOnlyTransactionOperations;
+    private final ConcurrentMap<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public InMemoryStateCache(final TransactionOperations readOnlyTransactionOperations) {
+        this(Long.toHexString(System.currentTimeMillis()), readOnlyTransactionOperations);
+    }
+
+    protected InMemoryStateCache(
+        final String versionPrefix,
+        final TransactionOperations readOnlyTransactionOperations
+    ) {
+        this.versionPrefix = versionPrefix;
+        this.readOnlyTransactionOperations = readOnlyTransactionOperations;
+    }
+
+    @Override
+    public String getVersion(final Long storeId, final CacheRegion cacheRegion) {
+        return versionPrefix + "-" + storeId + "-" + entryOf(new CacheKey(storeId, cacheRegion)).version;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(final Long storeId, final CacheRegion cacheRegion, final Supplier<List<T>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        final CacheKey cacheKey = new CacheKey(storeId, cacheRegion);
+        final Entry entry = entryOf(cacheKey);
+        if (Objects.nonNull(entry.value)) {
+            return (List<T>) entry.value;
+        }
+        final List<T> loadedValue = Collections.unmodifiableList(
+            new ArrayList<>(Objects.requireNonNull(readOnlyTransactionOperations.execute(status -> loader.get())))
+        );
+        entries.replace(cacheKey, entry, new Entry(entry.version, loadedValue));
+        return loadedValue;
+    }
+
+    @Override
+    public void invalidate(final Long storeId, final CacheRegion cacheRegion) {
+        entries.compute(new CacheKey(storeId, cacheRegion), (key, entry) -> new Entry(versionOf(entry) + 1, null));
+    }
+
+    /**
+     * 저장된 목록을 버리고, version이 지금 버전보다 크면 버전을 version으로 올린다.
+     */
+    protected void applyInvalidation(Long storeId, CacheRegion cacheRegion, long version) {
+        entries.compute(
+            new CacheKey(storeId, cacheRegion),
+            (key, entry) -> new Entry(Math.max(versionOf(entry), version), null)
+        );
+    }
+
+    private Entry entryOf(CacheKey cacheKey) {
+        return entries.computeIfAbsent(cacheKey, key -> new Entry(0L, null));
+    }
+
+    private long versionOf(Entry entry) {
+        if (Objects.isNull(entry)) {
+            return 0L;
+        }
+        return entry.version;
+    }
+
+    private static class CacheKey {
+
+        private final Long storeId;
+        private final CacheRegion cacheRegion;
+
+        CacheKey(Long storeId, CacheRegion cacheRegion) {
+            this.storeId = storeId;
+            this.cacheRegion = cacheRegion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey cacheKey = (CacheKey) o;
+            return Objects.equals(storeId, cacheKey.storeId) && cacheRegion == cacheKey.cacheRegion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(storeId, cacheRegion);
+        }
+    }
+
+    private static class Entry {
+
+        private final long version;
+        private final List<?> value;
+
+        Entry(long version, List<?> value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
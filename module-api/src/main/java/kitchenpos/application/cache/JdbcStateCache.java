@@ -0,0 +1,127 @@
+package kitchenpos.application.cache;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import javax.annotation.PostConstruct;
+import kitchenpos.application.event.RemoteInvalidationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 무효화를 cache_invalidation 테이블에 기록하고, 다른 노드가 기록한 무효화를 주기적으로 읽어 반영하는 StateCache.
+ * 버전은 매장과 CacheRegion별 마지막 무효화의 id이므로 모든 노드가 같은 버전을 응답한다.
+ * AUTO_INCREMENT id는 커밋 순서와 다를 수 있으므로, 마지막으로 읽은 id보다 lookback만큼 앞에서부터 다시 읽고
+ * 이미 반영한 id는 건너뛴다.
+ */
+public class JdbcStateCache extends InMemoryStateCache {
+
+    private static final String VERSION_PREFIX = "jdbc";
+    private static final String INSERT_INVALIDATION =
+        "INSERT INTO cache_invalidation (store_id, region, node_id, created_time) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_INVALIDATIONS =
+        "SELECT id, store_id, region, node_id FROM cache_invalidation WHERE id > ? ORDER BY id";
+    private static final String DELETE_EXPIRED_INVALIDATIONS =
+        "DELETE FROM cache_invalidation WHERE created_time < ? AND id NOT IN ("
+            + "SELECT id FROM (SELECT MAX(id) AS id FROM cache_invalidation GROUP BY store_id, region) latest)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations requiresNewTransactionOperations;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final String nodeId;
+    private final long lookback;
+    private final Duration retention;
+    private final NavigableSet<Long> appliedIds = new TreeSet<>();
+
+    private long lastSeenId;
+
+    public JdbcStateCache(
+        final JdbcTemplate jdbcTemplate,
+        final TransactionOperations readOnlyTransactionOperations,
+        final TransactionOperations requiresNewTransactionOperations,
+        final ApplicationEventPublisher applicationEventPublisher,
+        final String nodeId,
+        final long lookback,
+        final Duration retention
+    ) {
+        super(VERSION_PREFIX, readOnlyTransactionOperations);
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransactionOperations = requiresNewTransactionOperations;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.nodeId = nodeId;
+        this.lookback = lookback;
+        this.retention = retention;
+    }
+
+    /**
+     * 시작할 때 남아 있는 무효화로 버전을 맞춘다. 이때는 비울 캐시가 없으므로 이벤트를 발행하지 않는다.
+     */
+    @PostConstruct
+    public synchronized void initialize() {
+        readInvalidations(false);
+    }
+
+    /**
+     * 무효화는 보통 AFTER_COMMIT 리스너에서 호출되므로, 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 기록한다.
+     */
+    @Override
+    public void invalidate(final Long storeId, final CacheRegion cacheRegion) {
+        final long id = Objects.requireNonNull(requiresNewTransactionOperations.execute(status -> {
+            final KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                final PreparedStatement preparedStatement =
+                    connection.prepareStatement(INSERT_INVALIDATION, Statement.RETURN_GENERATED_KEYS);
+                preparedStatement.setLong(1, storeId);
+                preparedStatement.setString(2, cacheRegion.name());
+                preparedStatement.setString(3, nodeId);
+                preparedStatement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                return preparedStatement;
+            }, keyHolder);
+            return Objects.requireNonNull(keyHolder.getKey()).longValue();
+        }));
+        synchronized (this) {
+            appliedIds.add(id);
+        }
+        applyInvalidation(storeId, cacheRegion, id);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${kitchenpos.state-cache.jdbc.poll-interval:PT0.1S}",
+        initialDelayString = "${kitchenpos.state-cache.jdbc.poll-interval:PT0.1S}"
+    )
+    public synchronized void poll() {
+        readInvalidations(true);
+    }
+
+    @Scheduled(cron = "${kitchenpos.state-cache.jdbc.prune-cron:0 30 4 * * *}")
+    public void prune() {
+        jdbcTemplate.update(DELETE_EXPIRED_INVALIDATIONS, Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    }
+
+    private void readInvalidations(boolean publishRemoteInvalidations) {
+        jdbcTemplate.query(SELECT_INVALIDATIONS, (ResultSet resultSet) -> {
+            final long id = resultSet.getLong("id");
+            lastSeenId = Math.max(lastSeenId, id);
+            if (!appliedIds.add(id)) {
+                return;
+            }
+            final Long storeId = resultSet.getLong("store_id");
+            final CacheRegion cacheRegion = CacheRegion.valueOf(resultSet.getString("region"));
+            applyInvalidation(storeId, cacheRegion, id);
+            if (publishRemoteInvalidations && !nodeId.equals(resultSet.getString("node_id"))) {
+                applicationEventPublisher.publishEvent(new RemoteInvalidationEvent(storeId, cacheRegion));
+            }
+        }, Math.max(0L, lastSeenId - lookback));
+        appliedIds.headSet(lastSeenId - lookback, true).clear();
+    }
+}
@@ -0,0 +1,34 @@
+package kitchenpos.application.cache;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.application.event.RemoteInvalidationEvent;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시와 쿼리 캐시는 노드마다 따로 있으므로, 다른 노드에서 무효화된 CacheRegion의 Entity를 이 노드에서도 비운다.
+ * 쿼리 캐시는 다른 노드의 변경으로 갱신 시각이 바뀌지 않으므로 통째로 비운다.
+ */
+@Component
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(final EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(final RemoteInvalidationEvent event) {
+        if (event.getCacheRegion().getEntityClasses().isEmpty()) {
+            return;
+        }
+        final Cache cache = entityManagerFactory.getCache();
+        for (Class<?> entityClass : event.getCacheRegion().getEntityClasses()) {
+            cache.evict(entityClass);
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
@@ -0,0 +1,18 @@
+package kitchenpos.application.cache;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 매장과 CacheRegion별로 목록과 버전을 담는 캐시.
+ * 목록은 invalidate될 때까지 재사용하고, 버전은 invalidate될 때마다 바뀐다.
+ * 트랜잭션 안에서 읽으면 커밋되지 않은 변경이 섞일 수 있으므로 캐시를 거치지 않고 바로 loader를 호출한다.
+ */
+public interface StateCache {
+
+    String getVersion(Long storeId, CacheRegion cacheRegion);
+
+    <T> List<T> getList(Long storeId, CacheRegion cacheRegion, Supplier<List<T>> loader);
+
+    void invalidate(Long storeId, CacheRegion cacheRegion);
+}
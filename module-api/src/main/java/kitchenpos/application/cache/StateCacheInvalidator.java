@@ -0,0 +1,31 @@
+package kitchenpos.application.cache;
+
+import kitchenpos.application.event.CatalogChangedEvent;
+import kitchenpos.application.event.OrderTablesChangedEvent;
+import kitchenpos.domain.store.StoreContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카탈로그와 OrderTable 변경이 커밋되면 현재 매장의 해당 CacheRegion을 무효화한다.
+ */
+@Component
+public class StateCacheInvalidator {
+
+    private final StateCache stateCache;
+
+    public StateCacheInvalidator(final StateCache stateCache) {
+        this.stateCache = stateCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(final CatalogChangedEvent event) {
+        stateCache.invalidate(StoreContext.getStoreId(), CacheRegion.from(event.getCatalogType()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderTablesChanged(final OrderTablesChangedEvent event) {
+        stateCache.invalidate(StoreContext.getStoreId(), CacheRegion.ORDER_TABLE);
+    }
+}
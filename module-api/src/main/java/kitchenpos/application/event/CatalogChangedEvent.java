@@ -0,0 +1,14 @@
+package kitchenpos.application.event;
+
+public class CatalogChangedEvent {
+
+    private final CatalogType catalogType;
+
+    public CatalogChangedEvent(CatalogType catalogType) {
+        this.catalogType = catalogType;
+    }
+
+    public CatalogType getCatalogType() {
+        return catalogType;
+    }
+}
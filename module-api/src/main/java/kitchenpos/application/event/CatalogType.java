@@ -0,0 +1,5 @@
+package kitchenpos.application.event;
+
+public enum CatalogType {
+    PRODUCT, MENU_GROUP, MENU
+}
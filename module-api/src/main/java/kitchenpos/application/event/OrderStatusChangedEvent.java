@@ -0,0 +1,58 @@
+package kitchenpos.application.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+
+public class OrderStatusChangedEvent {
+
+    private final OrderStatus oldOrderStatus;
+    private final OrderResponse order;
+
+    public OrderStatusChangedEvent(OrderResponse order) {
+        this(null, order);
+    }
+
+    public OrderStatusChangedEvent(OrderStatus oldOrderStatus, OrderResponse order) {
+        this.oldOrderStatus = oldOrderStatus;
+        this.order = order;
+    }
+
+    public int getOpenOrderCountDelta() {
+        return openOrderCountOf(getNewOrderStatus()) - openOrderCountOf(oldOrderStatus);
+    }
+
+    private int openOrderCountOf(OrderStatus orderStatus) {
+        if (Objects.isNull(orderStatus) || orderStatus == OrderStatus.COMPLETION) {
+            return 0;
+        }
+        return 1;
+    }
+
+    public Long getOrderId() {
+        return order.getId();
+    }
+
+    public Long getOrderTableId() {
+        return order.getOrderTableId();
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return order.getOrderedTime();
+    }
+
+    public List<OrderLineItemResponse> getOrderLineItems() {
+        return order.getOrderLineItems();
+    }
+
+    public OrderStatus getOldOrderStatus() {
+        return oldOrderStatus;
+    }
+
+    public OrderStatus getNewOrderStatus() {
+        return order.getOrderStatus();
+    }
+}
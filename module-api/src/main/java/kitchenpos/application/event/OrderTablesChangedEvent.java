@@ -0,0 +1,18 @@
+package kitchenpos.application.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.dto.ordertable.OrderTableResponse;
+
+public class OrderTablesChangedEvent {
+
+    private final List<OrderTableResponse> orderTables;
+
+    public OrderTablesChangedEvent(List<OrderTableResponse> orderTables) {
+        this.orderTables = new ArrayList<>(orderTables);
+    }
+
+    public List<OrderTableResponse> getOrderTables() {
+        return orderTables;
+    }
+}
@@ -0,0 +1,26 @@
+package kitchenpos.application.event;
+
+import kitchenpos.application.cache.CacheRegion;
+
+/**
+ * 다른 노드가 기록한 무효화를 이 노드가 읽었을 때 발행한다.
+ * 이 노드의 트랜잭션과 무관하게 폴링 스레드에서 발행되므로 매장은 StoreContext가 아니라 storeId로 전달한다.
+ */
+public class RemoteInvalidationEvent {
+
+    private final Long storeId;
+    private final CacheRegion cacheRegion;
+
+    public RemoteInvalidationEvent(Long storeId, CacheRegion cacheRegion) {
+        this.storeId = storeId;
+        this.cacheRegion = cacheRegion;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public CacheRegion getCacheRegion() {
+        return cacheRegion;
+    }
+}
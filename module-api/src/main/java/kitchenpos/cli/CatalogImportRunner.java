@@ -0,0 +1,66 @@
+package kitchenpos.cli;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import kitchenpos.application.CatalogImportService;
+import kitchenpos.dto.catalogimport.CatalogImportFailure;
+import kitchenpos.dto.catalogimport.CatalogImportResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 실행 인자로 CSV 파일을 받아 상품, 메뉴 그룹, 메뉴를 일괄 등록한다.
+ * 예) --spring.main.web-application-type=none --kitchenpos.import.type=products --kitchenpos.import.file=products.csv
+ */
+@Component
+@ConditionalOnProperty(prefix = "kitchenpos.import", name = {"type", "file"})
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportRunner.class);
+
+    private final CatalogImportService catalogImportService;
+    private final String type;
+    private final String file;
+
+    public CatalogImportRunner(
+        final CatalogImportService catalogImportService,
+        @Value("${kitchenpos.import.type}") final String type,
+        @Value("${kitchenpos.import.file}") final String file
+    ) {
+        this.catalogImportService = catalogImportService;
+        this.type = type;
+        this.file = file;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            final CatalogImportResponse response = importCatalog(reader);
+            log.info("{} 가져오기 완료 - 성공: {}건, 실패: {}건", type, response.getSuccessCount(), response.getFailures().size());
+            for (CatalogImportFailure failure : response.getFailures()) {
+                log.warn("{}번째 줄 - {}", failure.getLineNumber(), failure.getMessage());
+            }
+        }
+    }
+
+    private CatalogImportResponse importCatalog(Reader reader) {
+        switch (type) {
+            case "products":
+                return catalogImportService.importProducts(reader);
+            case "menu-groups":
+                return catalogImportService.importMenuGroups(reader);
+            case "menus":
+                return catalogImportService.importMenus(reader);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 가져오기 유형입니다. (products, menu-groups, menus)");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.cli;
+
+import kitchenpos.application.SyntheticDataService;
+import kitchenpos.application.SyntheticDataSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * synthetic-data 프로필로 실행하면 시작할 때 가상 데이터를 만든다. 개수는 kitchenpos.synthetic-data.* 로 바꿀 수 있다.
+ * 예) --spring.profiles.active=module-web-local,synthetic-data --kitchenpos.synthetic-data.orders=3000000
+ */
+@Component
+@Profile("synthetic-data")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    private final SyntheticDataService syntheticDataService;
+    private final SyntheticDataSpec spec;
+
+    public SyntheticDataRunner(
+        final SyntheticDataService syntheticDataService,
+        @Value("${kitchenpos.synthetic-data.products:1000}") final int productCount,
+        @Value("${kitchenpos.synthetic-data.menu-groups:20}") final int menuGroupCount,
+        @Value("${kitchenpos.synthetic-data.menus:300}") final int menuCount,
+        @Value("${kitchenpos.synthetic-data.tables:200}") final int orderTableCount,
+        @Value("${kitchenpos.synthetic-data.table-groups:20}") final int tableGroupCount,
+        @Value("${kitchenpos.synthetic-data.orders:1000000}") final int orderCount,
+        @Value("${kitchenpos.synthetic-data.max-order-line-items:4}") final int maxOrderLineItemCount,
+        @Value("${kitchenpos.synthetic-data.days:365}") final int days,
+        @Value("${kitchenpos.synthetic-data.menu-popularity-exponent:1.1}") final double menuPopularityExponent,
+        @Value("${kitchenpos.synthetic-data.seed:42}") final long seed,
+        @Value("${kitchenpos.synthetic-data.batch-size:5000}") final int batchSize
+    ) {
+        this.syntheticDataService = syntheticDataService;
+        this.spec = new SyntheticDataSpec(
+            productCount,
+            menuGroupCount,
+            menuCount,
+            orderTableCount,
+            tableGroupCount,
+            orderCount,
+            maxOrderLineItemCount,
+            days,
+            menuPopularityExponent,
+            seed,
+            batchSize
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        final long start = System.nanoTime();
+        syntheticDataService.generate(spec);
+        log.info("가상 데이터 생성 완료 - Product: {}, Menu: {}, OrderTable: {}, Order: {}건 ({}ms)",
+            spec.getProductCount(), spec.getMenuCount(), spec.getOrderTableCount(), spec.getOrderCount(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+}
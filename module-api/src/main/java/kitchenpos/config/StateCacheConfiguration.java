@@ -0,0 +1,65 @@
+package kitchenpos.config;
+
+import java.time.Duration;
+import kitchenpos.application.cache.InMemoryStateCache;
+import kitchenpos.application.cache.JdbcStateCache;
+import kitchenpos.application.cache.StateCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * kitchenpos.state-cache.backend로 StateCache 구현을 고른다.
+ * in-memory(기본)는 노드가 하나일 때, jdbc는 여러 노드가 같은 DB를 쓸 때 무효화를 cache_invalidation 테이블로 주고받는다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StateCacheConfiguration {
+
+    private static final String BACKEND_PROPERTY = "kitchenpos.state-cache.backend";
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "in-memory", matchIfMissing = true)
+    public StateCache inMemoryStateCache(final PlatformTransactionManager transactionManager) {
+        return new InMemoryStateCache(readOnlyTransactionTemplate(transactionManager));
+    }
+
+    /**
+     * 지연 초기화 중에도 시작하자마자 다른 노드의 무효화를 읽도록 바로 만든다.
+     */
+    @Bean
+    @Lazy(false)
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "jdbc")
+    public StateCache jdbcStateCache(
+        final JdbcTemplate jdbcTemplate,
+        final PlatformTransactionManager transactionManager,
+        final ApplicationEventPublisher applicationEventPublisher,
+        @Value("${kitchenpos.state-cache.jdbc.node-id:${random.uuid}}") final String nodeId,
+        @Value("${kitchenpos.state-cache.jdbc.lookback:1000}") final long lookback,
+        @Value("${kitchenpos.state-cache.jdbc.retention:P1D}") final Duration retention
+    ) {
+        final TransactionTemplate requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new JdbcStateCache(
+            jdbcTemplate,
+            readOnlyTransactionTemplate(transactionManager),
+            requiresNewTransactionTemplate,
+            applicationEventPublisher,
+            nodeId,
+            lookback,
+            retention
+        );
+    }
+
+    private TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kitchenpos.application.event.CatalogType;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.dto.menugroup.MenuGroupRequest;
+import kitchenpos.dto.product.ProductRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("CatalogVersionService 테스트")
+@SpringBootTest
+class CatalogVersionServiceTest {
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("변경이 커밋되면 해당 종류의 버전만 올라간다.")
+    @Test
+    void getVersion_ChangesOnlyForChangedCatalogType() {
+        // given
+        final String productVersion = catalogVersionService.getVersion(CatalogType.PRODUCT);
+        final String menuGroupVersion = catalogVersionService.getVersion(CatalogType.MENU_GROUP);
+        final String menuVersion = catalogVersionService.getVersion(CatalogType.MENU);
+
+        // when
+        productService.create(new ProductRequest("강정치킨", 17_000));
+        menuGroupService.create(new MenuGroupRequest("추천메뉴"));
+
+        // then
+        assertThat(catalogVersionService.getVersion(CatalogType.PRODUCT)).isNotEqualTo(productVersion);
+        assertThat(catalogVersionService.getVersion(CatalogType.MENU_GROUP)).isNotEqualTo(menuGroupVersion);
+        assertThat(catalogVersionService.getVersion(CatalogType.MENU)).isEqualTo(menuVersion);
+    }
+}
@@ -0,0 +1,94 @@
+package kitchenpos.application;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.assertAllocatesLessThan;
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.assertFasterThan;
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.dto.product.ProductResponse;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ProductService.findAll은 StateCache를 거치므로, 캐시를 빼고 두 조회 방식만 같은 트랜잭션 조건에서 비교한다.
+ */
+@Tag("benchmark")
+@DisplayName("Product 전체 조회 - 엔티티 조회 vs 프로젝션 조회 벤치마크")
+@SpringBootTest
+class FindAllProjectionBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 100_000;
+    private static final int WARMUPS = 2;
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        final List<Object[]> products = IntStream.range(0, PRODUCT_COUNT)
+            .mapToObj(i -> new Object[]{"상품" + i, 1_000 + i})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, price) VALUES (?, ?)", products);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("100,000개의 Product를 조회할 때 프로젝션 조회가 더 적은 힙과 시간을 사용한다")
+    @Test
+    void findAll() throws Exception {
+        assertThat(findAllByEntity()).hasSize(PRODUCT_COUNT);
+        assertThat(findAllByProjection()).hasSize(PRODUCT_COUNT);
+
+        final Measurement entity = Measurement.run("entity", WARMUPS, ITERATIONS, this::findAllByEntity);
+        final Measurement projection = Measurement.run("projection", WARMUPS, ITERATIONS, this::findAllByProjection);
+
+        report("Product 100,000개 전체 조회", Arrays.asList(entity, projection));
+        assertAllocatesLessThan(projection, entity);
+        assertFasterThan(projection, entity);
+    }
+
+    private List<ProductResponse> findAllByEntity() {
+        return transactionTemplate.execute(status -> {
+            final List<ProductResponse> responses = productRepository.findAll().stream()
+                .map(ProductResponse::new)
+                .collect(Collectors.toList());
+            entityManager.clear();
+            return responses;
+        });
+    }
+
+    private List<ProductResponse> findAllByProjection() {
+        return transactionTemplate.execute(status -> productRepository.findAllSummaries().stream()
+            .map(product -> new ProductResponse(product.getId(), product.getName(), product.getPrice().intValue()))
+            .collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import kitchenpos.application.event.OrderTablesChangedEvent;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.floorplan.FloorPlanResponse;
+import kitchenpos.dto.floorplan.FloorPlanTableResponse;
+import kitchenpos.dto.ordertable.OrderTableRequest;
+import kitchenpos.dto.ordertable.OrderTableResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("FloorPlanService 테스트")
+@SpringBootTest
+class FloorPlanServiceTest {
+
+    @Autowired
+    private FloorPlanService floorPlanService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        orderTableRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("OrderTable 변경이 커밋되면 새 버전의 배치도에 반영된다.")
+    @Test
+    void getFloorPlan_ReflectsCommittedOrderTableChanges() {
+        // given
+        final FloorPlanResponse initialFloorPlan = floorPlanService.getFloorPlan();
+
+        // when
+        final OrderTableResponse createdOrderTable = orderTableService.create(new OrderTableRequest(0, true));
+        final FloorPlanResponse createdFloorPlan = floorPlanService.getFloorPlan();
+        orderTableService.changeEmpty(createdOrderTable.getId(), new OrderTableRequest(false));
+        orderTableService.changeNumberOfGuests(createdOrderTable.getId(), new OrderTableRequest(4));
+        final FloorPlanResponse changedFloorPlan = floorPlanService.getFloorPlan();
+
+        // then
+        assertThat(createdFloorPlan.getVersion()).isNotEqualTo(initialFloorPlan.getVersion());
+        assertThat(changedFloorPlan.getVersion()).isNotEqualTo(createdFloorPlan.getVersion());
+
+        final FloorPlanTableResponse floorPlanTable = findTable(changedFloorPlan, createdOrderTable.getId());
+        assertThat(floorPlanTable.getTableGroupId()).isNull();
+        assertThat(floorPlanTable.isEmpty()).isFalse();
+        assertThat(floorPlanTable.getNumberOfGuests()).isEqualTo(4);
+        assertThat(floorPlanTable.getOpenOrderCount()).isZero();
+    }
+
+    @DisplayName("변경이 없으면 같은 스냅샷을 반환한다.")
+    @Test
+    void getFloorPlan_ReturnsSameSnapshot_When_NotChanged() {
+        // given
+        final FloorPlanResponse floorPlan = floorPlanService.getFloorPlan();
+
+        // when
+        final FloorPlanResponse sameFloorPlan = floorPlanService.getFloorPlan();
+
+        // then
+        assertThat(sameFloorPlan).isSameAs(floorPlan);
+    }
+
+    @DisplayName("배치도는 매장별로 따로 유지된다.")
+    @Test
+    void getFloorPlan_IsPartitionedByStore() {
+        // given
+        final FloorPlanResponse initialFloorPlan = floorPlanService.getFloorPlan();
+
+        // when
+        final OrderTableResponse otherStoreOrderTable =
+            StoreContext.callAs(2L, () -> orderTableService.create(new OrderTableRequest(0, true)));
+        final FloorPlanResponse floorPlan = floorPlanService.getFloorPlan();
+        final FloorPlanResponse otherStoreFloorPlan = StoreContext.callAs(2L, floorPlanService::getFloorPlan);
+
+        // then
+        assertThat(floorPlan).isSameAs(initialFloorPlan);
+        assertThat(floorPlan.getTables()).extracting(FloorPlanTableResponse::getId)
+            .doesNotContain(otherStoreOrderTable.getId());
+        assertThat(otherStoreFloorPlan.getTables()).extracting(FloorPlanTableResponse::getId)
+            .containsExactly(otherStoreOrderTable.getId());
+        assertThat(otherStoreFloorPlan.getVersion()).isNotEqualTo(floorPlan.getVersion());
+    }
+
+    @DisplayName("늦게 도착한 이전 상태의 이벤트를 처리해도 배치도는 DB에 커밋된 마지막 상태를 반영한다.")
+    @Test
+    void onOrderTablesChanged_ReflectsLastCommittedState_When_EventIsStale() {
+        // given
+        final OrderTableResponse createdOrderTable = orderTableService.create(new OrderTableRequest(0, true));
+        floorPlanService.getFloorPlan();
+        orderTableService.changeEmpty(createdOrderTable.getId(), new OrderTableRequest(false));
+
+        // when
+        transactionTemplate.execute(status -> {
+            applicationEventPublisher.publishEvent(
+                new OrderTablesChangedEvent(Collections.singletonList(createdOrderTable))
+            );
+            return null;
+        });
+
+        // then
+        final FloorPlanTableResponse floorPlanTable =
+            findTable(floorPlanService.getFloorPlan(), createdOrderTable.getId());
+        assertThat(floorPlanTable.isEmpty()).isFalse();
+    }
+
+    private FloorPlanTableResponse findTable(FloorPlanResponse floorPlan, Long orderTableId) {
+        return floorPlan.getTables().stream()
+            .filter(table -> table.getId().equals(orderTableId))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new)
+            ;
+    }
+}
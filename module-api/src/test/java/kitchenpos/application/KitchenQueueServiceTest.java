@@ -0,0 +1,155 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.orderedmenu.OrderedMenuRepository;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.price.Price;
+import kitchenpos.domain.tablegroup.TableGroupRepository;
+import kitchenpos.dto.kitchenqueue.KitchenTicketResponse;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+import kitchenpos.dto.ordertable.OrderTableRequest;
+import kitchenpos.dto.ordertable.OrderTableResponse;
+import kitchenpos.dto.tablegroup.TableGroupRequest;
+import kitchenpos.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("KitchenQueueService 테스트")
+@SpringBootTest(properties = "kitchenpos.kitchen-queue.large-table-group-size=2")
+class KitchenQueueServiceTest {
+
+    @Autowired
+    private KitchenQueueService kitchenQueueService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private TableGroupRepository tableGroupRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLineItemRepository orderLineItemRepository;
+
+    @Autowired
+    private OrderedMenuRepository orderedMenuRepository;
+
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        final MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("추천메뉴"));
+        menu = menuRepository.save(new Menu("양념치킨", new Price(17_000), new Price(17_000), menuGroup));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (KitchenTicketResponse ticket : kitchenQueueService.findNext(Integer.MAX_VALUE)) {
+            kitchenQueueService.ack(ticket.getOrderId());
+        }
+        orderLineItemRepository.deleteAllInBatch();
+        orderedMenuRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        orderTableRepository.deleteAllInBatch();
+        tableGroupRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("COOKING Order를 orderedTime 순으로 반환하되, 큰 TableGroup의 Order를 앞당긴다.")
+    @Test
+    void findNext() {
+        // given
+        final OrderResponse singleTableOrder = Order를_생성한다(OrderTable을_생성한다(false).getId());
+        final OrderTableResponse groupedTable = OrderTable을_생성한다(true);
+        tableGroupService.create(new TableGroupRequest(Arrays.asList(
+            new OrderTableRequest(groupedTable.getId()),
+            new OrderTableRequest(OrderTable을_생성한다(true).getId())
+        )));
+        final OrderResponse tableGroupOrder = Order를_생성한다(groupedTable.getId());
+
+        // when
+        final List<KitchenTicketResponse> nextTickets = kitchenQueueService.findNext(10);
+
+        // then
+        assertThat(nextTickets).extracting(KitchenTicketResponse::getOrderId)
+            .containsExactly(tableGroupOrder.getId(), singleTableOrder.getId());
+        assertThat(nextTickets.get(0).getTableGroupSize()).isEqualTo(2L);
+        assertThat(nextTickets.get(0).getPriorityTime()).isBefore(nextTickets.get(0).getOrderedTime());
+        assertThat(nextTickets.get(1).getPriorityTime()).isEqualTo(nextTickets.get(1).getOrderedTime());
+    }
+
+    @DisplayName("ack한 Order와 COOKING이 아닌 상태로 바뀐 Order는 대기열에서 빠진다.")
+    @Test
+    void ack_And_ChangeOrderStatus() {
+        // given
+        final Long orderTableId = OrderTable을_생성한다(false).getId();
+        final OrderResponse firstOrder = Order를_생성한다(orderTableId);
+        final OrderResponse secondOrder = Order를_생성한다(orderTableId);
+        final OrderResponse thirdOrder = Order를_생성한다(orderTableId);
+
+        // when
+        final KitchenTicketResponse ackedTicket = kitchenQueueService.ack(firstOrder.getId());
+        orderService.changeOrderStatus(secondOrder.getId(), new OrderRequest(OrderStatus.MEAL));
+
+        // then
+        assertThat(ackedTicket.getOrderId()).isEqualTo(firstOrder.getId());
+        assertThat(kitchenQueueService.findNext(10)).extracting(KitchenTicketResponse::getOrderId)
+            .containsExactly(thirdOrder.getId());
+    }
+
+    @DisplayName("ack - 실패 - 대기열에 없는 Order일 때")
+    @Test
+    void ack_Fail_When_OrderNotInQueue() {
+        // when
+        // then
+        assertThatThrownBy(() -> kitchenQueueService.ack(0L))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    private OrderTableResponse OrderTable을_생성한다(boolean empty) {
+        return orderTableService.create(new OrderTableRequest(0, empty));
+    }
+
+    private OrderResponse Order를_생성한다(Long orderTableId) {
+        return orderService.create(new OrderRequest(
+            orderTableId,
+            Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1L))
+        ));
+    }
+}
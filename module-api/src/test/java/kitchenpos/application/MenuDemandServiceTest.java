@@ -0,0 +1,173 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.orderedmenu.OrderedMenuRepository;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.price.Price;
+import kitchenpos.dto.menudemand.MenuDemandResponse;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("MenuDemandService 테스트")
+@SpringBootTest
+class MenuDemandServiceTest {
+
+    @Autowired
+    private MenuDemandService menuDemandService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLineItemRepository orderLineItemRepository;
+
+    @Autowired
+    private OrderedMenuRepository orderedMenuRepository;
+
+    private Menu friedChicken;
+    private Menu seasonedChicken;
+    private OrderTable orderTable;
+
+    @BeforeEach
+    void setUp() {
+        final MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("추천메뉴"));
+        friedChicken = menuRepository.save(new Menu("후라이드치킨", new Price(16_000), new Price(16_000), menuGroup));
+        seasonedChicken = menuRepository.save(new Menu("양념치킨", new Price(17_000), new Price(17_000), menuGroup));
+        orderTable = orderTableRepository.save(new OrderTable(2, false));
+        menuDemandService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderLineItemRepository.deleteAllInBatch();
+        orderedMenuRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        orderTableRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+        menuDemandService.reconcile();
+    }
+
+    @DisplayName("Order 생성과 상태 변경이 커밋되면 COOKING 상태의 Menu별 수량에 반영된다.")
+    @Test
+    void findAll_ReflectsCommittedOrderStatusChanges() {
+        // given
+        final OrderResponse firstOrder = Order를_생성한다(2L, 1L);
+        Order를_생성한다(3L, 0L);
+
+        // when
+        final List<MenuDemandResponse> createdDemands = menuDemandService.findAll();
+        orderService.changeOrderStatus(firstOrder.getId(), new OrderRequest(OrderStatus.MEAL));
+        final List<MenuDemandResponse> changedDemands = menuDemandService.findAll();
+
+        // then
+        assertThat(createdDemands).extracting(MenuDemandResponse::getMenuId, MenuDemandResponse::getQuantity)
+            .containsExactly(
+                tuple(friedChicken.getId(), 5L),
+                tuple(seasonedChicken.getId(), 1L)
+            );
+        assertThat(changedDemands).extracting(MenuDemandResponse::getMenuId, MenuDemandResponse::getQuantity)
+            .containsExactly(tuple(friedChicken.getId(), 3L));
+    }
+
+    @DisplayName("reconcile하면 DB에서 다시 계산한 값과 같아진다.")
+    @Test
+    void reconcile() {
+        // given
+        Order를_생성한다(2L, 1L);
+        final List<MenuDemandResponse> countedDemands = menuDemandService.findAll();
+
+        // when
+        menuDemandService.reconcile();
+
+        // then
+        assertThat(menuDemandService.findAll()).usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(countedDemands);
+    }
+
+    @DisplayName("Order 상태 변경과 reconcile이 동시에 일어나도 수량을 잃거나 두 번 세지 않는다.")
+    @Test
+    void reconcile_Concurrently_With_OrderStatusChanges() throws Exception {
+        // given
+        final int orderCount = 50;
+        final AtomicBoolean ordering = new AtomicBoolean(true);
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+        // when
+        try {
+            final Future<?> reconciling = executorService.submit(() -> {
+                while (ordering.get()) {
+                    menuDemandService.reconcile();
+                }
+            });
+            final List<Future<?>> orderings = new ArrayList<>();
+            for (int worker = 0; worker < 2; worker++) {
+                orderings.add(executorService.submit(() -> {
+                    for (int i = 0; i < orderCount; i++) {
+                        final OrderResponse order = Order를_생성한다(1L, 1L);
+                        orderService.changeOrderStatus(order.getId(), new OrderRequest(OrderStatus.MEAL));
+                        Order를_생성한다(1L, 0L);
+                    }
+                }));
+            }
+            for (Future<?> future : orderings) {
+                future.get();
+            }
+            ordering.set(false);
+            reconciling.get();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then
+        assertThat(menuDemandService.findAll())
+            .extracting(MenuDemandResponse::getMenuId, MenuDemandResponse::getQuantity)
+            .containsExactly(tuple(friedChicken.getId(), 2L * orderCount));
+    }
+
+    private OrderResponse Order를_생성한다(Long friedChickenQuantity, Long seasonedChickenQuantity) {
+        return orderService.create(new OrderRequest(
+            orderTable.getId(),
+            Arrays.asList(
+                new OrderLineItemRequest(friedChicken.getId(), friedChickenQuantity),
+                new OrderLineItemRequest(seasonedChicken.getId(), seasonedChickenQuantity)
+            )
+        ));
+    }
+}
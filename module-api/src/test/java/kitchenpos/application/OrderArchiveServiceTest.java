@@ -0,0 +1,209 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.orderedmenu.OrderedMenuRepository;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.price.Price;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+import kitchenpos.exception.InvalidArgumentException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("OrderArchiveService 테스트")
+@SpringBootTest
+class OrderArchiveServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final LocalDateTime OLD_ORDERED_TIME = NOW.minusDays(60);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLineItemRepository orderLineItemRepository;
+
+    @Autowired
+    private OrderedMenuRepository orderedMenuRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private OrderArchiveService orderArchiveService;
+    private Menu menu;
+    private OrderTable orderTable;
+
+    @BeforeEach
+    void setUp() {
+        orderArchiveService = new OrderArchiveService(
+            namedParameterJdbcTemplate, transactionTemplate, Duration.ofDays(30), 1, Duration.ZERO
+        );
+        final MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("추천메뉴"));
+        menu = menuRepository.save(new Menu("양념치킨", new Price(17_000), new Price(17_000), menuGroup));
+        orderTable = orderTableRepository.save(new OrderTable(2, false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_line_item_archive");
+        jdbcTemplate.update("DELETE FROM ordered_menu_archive");
+        jdbcTemplate.update("DELETE FROM orders_archive");
+        orderLineItemRepository.deleteAllInBatch();
+        orderedMenuRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        orderTableRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기준 시각보다 오래된 COMPLETION Order만 배치 단위로 archive 테이블로 옮긴다.")
+    @Test
+    void archive() {
+        // given
+        final OrderResponse oldCompletedOrder1 = Order를_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        final OrderResponse oldCompletedOrder2 = Order를_생성한다(OrderStatus.COMPLETION, OLD_ORDERED_TIME.plusMinutes(1));
+        Order를_생성한다(OrderStatus.COMPLETION, NOW);
+        Order를_생성한다(OrderStatus.COOKING, OLD_ORDERED_TIME);
+
+        // when
+        final int archivedCount = orderArchiveService.archive(NOW.minusDays(30));
+
+        // then
+        assertThat(archivedCount).isEqualTo(2);
+        assertThat(orderRepository.findAll()).hasSize(2);
+        assertThat(orderLineItemRepository.findAll()).hasSize(2);
+        assertThat(orderedMenuRepository.findAll()).hasSize(2);
+
+        final List<OrderResponse> archivedOrders = orderArchiveService.findAllArchived(
+            OLD_ORDERED_TIME.minusDays(1), NOW.minusDays(30)
+        );
+        assertThat(archivedOrders).extracting(OrderResponse::getId)
+            .containsExactly(oldCompletedOrder1.getId(), oldCompletedOrder2.getId());
+        assertThat(archivedOrders.get(0).getOrderStatus()).isEqualTo(OrderStatus.COMPLETION);
+        assertThat(archivedOrders.get(0).getOrderTableId()).isEqualTo(orderTable.getId());
+        assertThat(archivedOrders.get(0).getOrderLineItems()).hasSize(1);
+        assertThat(archivedOrders.get(0).getOrderLineItems().get(0).getMenuId()).isEqualTo(menu.getId());
+    }
+
+    @DisplayName("archive한 OrderedMenu는 원래 매장의 store_id를 그대로 가진다.")
+    @Test
+    void archive_KeepsOrderedMenuStoreId() {
+        // given
+        final Long otherStoreId = 2L;
+        final OrderResponse otherStoreOrder = StoreContext.callAs(otherStoreId, () -> {
+            final MenuGroup otherStoreMenuGroup = menuGroupRepository.save(new MenuGroup("추천메뉴"));
+            final Menu otherStoreMenu = menuRepository.save(
+                new Menu("후라이드치킨", new Price(16_000), new Price(16_000), otherStoreMenuGroup)
+            );
+            final OrderTable otherStoreOrderTable = orderTableRepository.save(new OrderTable(2, false));
+            return Order를_생성한다(otherStoreOrderTable, otherStoreMenu, OrderStatus.COMPLETION, OLD_ORDERED_TIME);
+        });
+
+        // when
+        orderArchiveService.archive(NOW.minusDays(30));
+
+        // then
+        final List<Long> archivedOrderedMenuStoreIds = jdbcTemplate.queryForList(
+            "SELECT om.store_id FROM ordered_menu_archive om "
+                + "JOIN order_line_item_archive oli ON oli.ordered_menu_id = om.id WHERE oli.order_id = ?",
+            Long.class,
+            otherStoreOrder.getId()
+        );
+        assertThat(archivedOrderedMenuStoreIds).containsExactly(otherStoreId);
+    }
+
+    @DisplayName("archive 대상이 없으면 아무것도 옮기지 않는다.")
+    @Test
+    void archive_Nothing() {
+        // given
+        Order를_생성한다(OrderStatus.MEAL, OLD_ORDERED_TIME);
+
+        // when
+        final int archivedCount = orderArchiveService.archive(NOW.minusDays(30));
+
+        // then
+        assertThat(archivedCount).isZero();
+        assertThat(orderRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("archive 조회 - 실패 - from이 to보다 이전이 아닐 때")
+    @Test
+    void findAllArchived_Fail_When_FromIsNotBeforeTo() {
+        // when
+        // then
+        assertThatThrownBy(() -> orderArchiveService.findAllArchived(NOW, NOW))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    @DisplayName("archive 조회 - 실패 - 조회 구간이 31일을 넘을 때")
+    @Test
+    void findAllArchived_Fail_When_RangeIsTooWide() {
+        // when
+        // then
+        assertThatThrownBy(() -> orderArchiveService.findAllArchived(NOW.minusDays(31).minusSeconds(1), NOW))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    private OrderResponse Order를_생성한다(OrderStatus orderStatus, LocalDateTime orderedTime) {
+        return Order를_생성한다(orderTable, menu, orderStatus, orderedTime);
+    }
+
+    private OrderResponse Order를_생성한다(
+        OrderTable orderTable,
+        Menu menu,
+        OrderStatus orderStatus,
+        LocalDateTime orderedTime
+    ) {
+        final OrderResponse orderResponse = orderService.create(new OrderRequest(
+            orderTable.getId(),
+            Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1L))
+        ));
+        jdbcTemplate.update(
+            "UPDATE orders SET order_status = ?, ordered_time = ? WHERE id = ?",
+            orderStatus.name(), Timestamp.valueOf(orderedTime), orderResponse.getId()
+        );
+        return orderResponse;
+    }
+}
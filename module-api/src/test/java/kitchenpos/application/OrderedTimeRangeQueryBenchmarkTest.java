@@ -0,0 +1,163 @@
+package kitchenpos.application;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.assertFlat;
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.orderedmenu.OrderedMenuRepository;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.price.Price;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("benchmark")
+@DisplayName("orderedTime 구간 조회 - 주문 이력 크기별 벤치마크")
+@SpringBootTest
+class OrderedTimeRangeQueryBenchmarkTest {
+
+    private static final int[] HISTORY_SIZES = {250_000, 1_000_000, 2_000_000};
+    private static final int RECENT_ORDER_COUNT = 200;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int WARMUPS = 1;
+    private static final int ITERATIONS = 20;
+    private static final double MAX_GROWTH = 3;
+    private static final long SLACK_NANOS = 1_000_000;
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final LocalDateTime FROM = NOW.minusMinutes(30);
+    private static final List<OrderStatus> OPEN_ORDER_STATUSES = Arrays.asList(OrderStatus.COOKING, OrderStatus.MEAL);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLineItemRepository orderLineItemRepository;
+
+    @Autowired
+    private OrderedMenuRepository orderedMenuRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderTable orderTable;
+    private int historySize;
+
+    @BeforeEach
+    void setUp() {
+        final MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("추천메뉴"));
+        final Menu menu = menuRepository.save(new Menu("양념치킨", new Price(17_000), new Price(17_000), menuGroup));
+        orderTable = orderTableRepository.save(new OrderTable(2, false));
+        for (int i = 0; i < RECENT_ORDER_COUNT; i++) {
+            final OrderResponse orderResponse = orderService.create(new OrderRequest(
+                orderTable.getId(),
+                Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1L))
+            ));
+            jdbcTemplate.update(
+                "UPDATE orders SET ordered_time = ? WHERE id = ?",
+                Timestamp.valueOf(FROM.plusSeconds(i)), orderResponse.getId()
+            );
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderLineItemRepository.deleteAllInBatch();
+        orderedMenuRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM orders");
+        orderTableRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 이력이 수백만 건으로 늘어나도 최근 30분 구간 조회 시간은 일정하다")
+    @Test
+    void findAllByOrderedTime() throws Exception {
+        assertThat(explainRangeQuery()).containsIgnoringCase("IX_ORDERS_ORDERED_TIME_ORDER_STATUS");
+
+        final List<Measurement> results = new ArrayList<>();
+        for (int targetHistorySize : HISTORY_SIZES) {
+            insertHistoryUpTo(targetHistorySize);
+            assertThat(orderService.findAllByOrderedTime(FROM, NOW, OPEN_ORDER_STATUSES)).hasSize(RECENT_ORDER_COUNT);
+            results.add(Measurement.run(
+                String.format("history=%,d", historySize), WARMUPS, ITERATIONS,
+                () -> orderService.findAllByOrderedTime(FROM, NOW, OPEN_ORDER_STATUSES)
+            ));
+        }
+
+        report("최근 30분 orderedTime 구간 조회", results);
+        assertFlat(results, MAX_GROWTH, SLACK_NANOS);
+    }
+
+    private String explainRangeQuery() {
+        return jdbcTemplate.queryForList(
+            "EXPLAIN SELECT id FROM orders WHERE ordered_time >= ? AND ordered_time < ? "
+                + "AND order_status IN (?, ?) ORDER BY ordered_time, id",
+            String.class,
+            Timestamp.valueOf(FROM), Timestamp.valueOf(NOW), OrderStatus.COOKING.name(), OrderStatus.MEAL.name()
+        ).toString();
+    }
+
+    /**
+     * 최근 구간보다 이전의 COMPLETION Order를 1분 간격으로 과거로 쌓는다.
+     */
+    private void insertHistoryUpTo(int targetHistorySize) {
+        final List<Object[]> orders = new ArrayList<>(INSERT_BATCH_SIZE);
+        while (historySize < targetHistorySize) {
+            historySize++;
+            orders.add(new Object[]{
+                orderTable.getId(),
+                OrderStatus.COMPLETION.name(),
+                Timestamp.valueOf(FROM.minusMinutes(historySize))
+            });
+            if (orders.size() == INSERT_BATCH_SIZE) {
+                insertOrders(orders);
+                orders.clear();
+            }
+        }
+        if (!orders.isEmpty()) {
+            insertOrders(orders);
+        }
+    }
+
+    private void insertOrders(List<Object[]> orders) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO orders (order_table_id, order_status, ordered_time) VALUES (?, ?, ?)",
+            orders
+        );
+    }
+}
@@ -2,11 +2,30 @@ package kitchenpos.application;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.menuproduct.MenuProductRepository;
+import kitchenpos.domain.price.Price;
 import kitchenpos.domain.product.Product;
 import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.domain.quantity.Quantity;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.menu.MenuRequest;
+import kitchenpos.dto.menu.MenuResponse;
+import kitchenpos.dto.menugroup.MenuGroupRequest;
+import kitchenpos.dto.menuproduct.MenuProductRequest;
 import kitchenpos.dto.product.ProductRequest;
 import kitchenpos.dto.product.ProductResponse;
+import kitchenpos.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,9 +39,32 @@ class ProductServiceTest {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MenuService menuService;
+
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuProductRepository menuProductRepository;
+
+    @AfterEach
+    void tearDown() {
+        menuProductRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
     @DisplayName("Product 생성 테스트")
     @Test
     void create() {
@@ -49,4 +91,115 @@ class ProductServiceTest {
             .isEqualTo(productResponse.getPrice())
             .isEqualTo(foundProduct.getPrice().getValueAsInt());
     }
+
+    @DisplayName("다른 매장의 Product는 조회되지 않고, 가격을 바꿀 수도 없다.")
+    @Test
+    void otherStoreProduct_IsNotVisible() {
+        // given
+        final ProductResponse otherStoreProduct =
+            StoreContext.callAs(2L, () -> productService.create(new ProductRequest("김치찌개", 7000)));
+
+        // when
+        final List<ProductResponse> foundProducts = productService.findAll();
+        final List<ProductResponse> otherStoreFoundProducts = StoreContext.callAs(2L, productService::findAll);
+
+        // then
+        assertThat(foundProducts).extracting(ProductResponse::getId)
+            .doesNotContain(otherStoreProduct.getId());
+        assertThat(otherStoreFoundProducts).extracting(ProductResponse::getId)
+            .containsExactly(otherStoreProduct.getId());
+        final ProductRequest priceChangeRequest = new ProductRequest("김치찌개", 8000);
+        assertThatThrownBy(() -> productService.changePrice(otherStoreProduct.getId(), priceChangeRequest))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @DisplayName("같은 Menu의 Product 가격을 동시에 바꿔도 Menu의 productsTotalPrice는 마지막 Product 가격들의 합과 같다.")
+    @Test
+    void changePrice_Concurrently_Then_ProductsTotalPriceIsNotLost() throws Exception {
+        // given
+        final ProductResponse friedChicken = productService.create(new ProductRequest("후라이드", 16_000));
+        final ProductResponse seasonedChicken = productService.create(new ProductRequest("양념치킨", 17_000));
+        final Long menuGroupId = menuGroupService.create(new MenuGroupRequest("두마리메뉴")).getId();
+        final MenuResponse menu = menuService.create(new MenuRequest(
+            "후라이드+양념치킨",
+            30_000,
+            menuGroupId,
+            Arrays.asList(
+                new MenuProductRequest(friedChicken.getId(), 1L),
+                new MenuProductRequest(seasonedChicken.getId(), 2L)
+            )
+        ));
+
+        // when
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            for (int round = 1; round <= 20; round++) {
+                final int price = 10_000 + round;
+                runAtOnce(executorService, Arrays.asList(
+                    () -> productService.changePrice(friedChicken.getId(), new ProductRequest(null, price)),
+                    () -> productService.changePrice(friedChicken.getId(), new ProductRequest(null, price + 1)),
+                    () -> productService.changePrice(seasonedChicken.getId(), new ProductRequest(null, price))
+                ));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then
+        final Price friedChickenPrice = productRepository.findById(friedChicken.getId()).get().getPrice();
+        final Price seasonedChickenPrice = productRepository.findById(seasonedChicken.getId()).get().getPrice();
+        assertThat(menuRepository.findById(menu.getId()).get().getProductsTotalPrice())
+            .isEqualTo(friedChickenPrice.add(seasonedChickenPrice.multiply(new Quantity(2L))));
+    }
+
+    @DisplayName("같은 Product들을 반대 순서로 담은 Menu들을 동시에 생성해도 교착 상태 없이 모두 생성된다.")
+    @Test
+    void createMenus_Concurrently_With_ProductsInOppositeOrder() throws Exception {
+        // given
+        final ProductResponse friedChicken = productService.create(new ProductRequest("후라이드", 16_000));
+        final ProductResponse seasonedChicken = productService.create(new ProductRequest("양념치킨", 17_000));
+        final Long menuGroupId = menuGroupService.create(new MenuGroupRequest("두마리메뉴")).getId();
+        final MenuRequest friedFirstMenuRequest = new MenuRequest("후라이드+양념치킨", 30_000, menuGroupId, Arrays.asList(
+            new MenuProductRequest(friedChicken.getId(), 1L),
+            new MenuProductRequest(seasonedChicken.getId(), 1L)
+        ));
+        final MenuRequest seasonedFirstMenuRequest = new MenuRequest("양념+후라이드치킨", 30_000, menuGroupId, Arrays.asList(
+            new MenuProductRequest(seasonedChicken.getId(), 1L),
+            new MenuProductRequest(friedChicken.getId(), 1L)
+        ));
+
+        // when
+        final int rounds = 20;
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                runAtOnce(executorService, Arrays.asList(
+                    () -> menuService.create(friedFirstMenuRequest),
+                    () -> menuService.create(seasonedFirstMenuRequest)
+                ));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then
+        assertThat(menuRepository.findAll()).hasSize(rounds * 2);
+    }
+
+    private void runAtOnce(ExecutorService executorService, List<Runnable> tasks) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Object>> futures = new ArrayList<>();
+        for (Runnable runnable : tasks) {
+            final Callable<Object> task = () -> {
+                start.await();
+                runnable.run();
+                return null;
+            };
+            futures.add(executorService.submit(task));
+        }
+        start.countDown();
+        for (Future<Object> future : futures) {
+            future.get();
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.order.OrderRepository;
+import kitchenpos.domain.orderedmenu.OrderedMenuRepository;
+import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.price.Price;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("2차 캐시 테스트")
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLineItemRepository orderLineItemRepository;
+
+    @Autowired
+    private OrderedMenuRepository orderedMenuRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderLineItemRepository.deleteAllInBatch();
+        orderedMenuRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        orderTableRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("같은 Menu로 Order를 반복 생성하면 Menu를 DB에서 다시 조회하지 않는다.")
+    @Test
+    void create_Repeatedly_Then_MenuIsNotSelectedFromDB() {
+        // given
+        final MenuGroup menuGroup = menuGroupRepository.save(new MenuGroup("추천메뉴"));
+        final Menu menu = menuRepository.save(new Menu("양념치킨", new Price(17_000), new Price(17_000), menuGroup));
+        final OrderTable orderTable = orderTableRepository.save(new OrderTable(2, false));
+        final OrderRequest orderRequest = new OrderRequest(
+            orderTable.getId(),
+            Collections.singletonList(new OrderLineItemRequest(menu.getId(), 1L))
+        );
+        orderService.create(orderRequest);
+        statistics.clear();
+
+        // when
+        orderService.create(orderRequest);
+        orderService.create(orderRequest);
+
+        // then
+        final EntityStatistics menuStatistics = statistics.getEntityStatistics(Menu.class.getName());
+        assertThat(menuStatistics.getLoadCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+    }
+}
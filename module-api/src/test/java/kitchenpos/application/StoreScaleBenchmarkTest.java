@@ -0,0 +1,146 @@
+package kitchenpos.application;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.assertFlat;
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.menuproduct.MenuProductRepository;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.dto.menu.MenuRequest;
+import kitchenpos.dto.menugroup.MenuGroupRequest;
+import kitchenpos.dto.menuproduct.MenuProductRequest;
+import kitchenpos.dto.ordertable.OrderTableRequest;
+import kitchenpos.dto.product.ProductRequest;
+import kitchenpos.dto.product.ProductResponse;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@DisplayName("매장 수별 매장 하나의 목록 조회 벤치마크")
+@SpringBootTest
+class StoreScaleBenchmarkTest {
+
+    private static final int[] STORE_COUNTS = {10, 100, 500};
+    private static final long FIRST_STORE_ID = 1_000L;
+    private static final int PROBE_STORE_COUNT = 10;
+    private static final int PRODUCTS_PER_STORE = 10;
+    private static final int ORDER_TABLES_PER_STORE = 8;
+    private static final int ITERATIONS = 50;
+    private static final double MAX_GROWTH = 3;
+    private static final long SLACK_NANOS = 1_000_000 * PROBE_STORE_COUNT;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private FloorPlanService floorPlanService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuProductRepository menuProductRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    private int storeCount;
+
+    @AfterEach
+    void tearDown() {
+        menuProductRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderTableRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("매장이 500개로 늘어나도 매장 하나의 목록 조회 시간은 일정하고, 다른 매장의 행은 섞이지 않는다")
+    @Test
+    void findAllPerStore() throws Exception {
+        final List<Measurement> results = new ArrayList<>();
+        for (int targetStoreCount : STORE_COUNTS) {
+            createStoresUpTo(targetStoreCount);
+            results.add(measure());
+        }
+
+        report("매장 하나의 Product, Menu, OrderTable 목록과 배치도 조회", results);
+        assertFlat(results, MAX_GROWTH, SLACK_NANOS);
+    }
+
+    private void createStoresUpTo(int targetStoreCount) {
+        while (storeCount < targetStoreCount) {
+            StoreContext.callAs(FIRST_STORE_ID + storeCount, this::createStore);
+            storeCount++;
+        }
+    }
+
+    private Void createStore() {
+        final Long menuGroupId = menuGroupService.create(new MenuGroupRequest("추천메뉴")).getId();
+        for (int i = 0; i < PRODUCTS_PER_STORE; i++) {
+            final ProductResponse product = productService.create(new ProductRequest("상품" + i, 10_000 + i));
+            menuService.create(new MenuRequest(
+                "메뉴" + i,
+                10_000 + i,
+                menuGroupId,
+                Collections.singletonList(new MenuProductRequest(product.getId(), 1L))
+            ));
+        }
+        for (int i = 0; i < ORDER_TABLES_PER_STORE; i++) {
+            orderTableService.create(new OrderTableRequest(0, true));
+        }
+        return null;
+    }
+
+    /**
+     * 앞쪽 매장들을 돌아가며 Product, Menu, OrderTable 목록과 배치도를 읽고, 매장마다 다른 매장의 행이 섞이지 않았는지 확인한다.
+     * 처음 한 바퀴는 매장별 배치도와 캐시를 채우는 데 쓰고 기록하지 않는다.
+     */
+    private Measurement measure() throws Exception {
+        return Measurement.run("stores=" + storeCount, 1, ITERATIONS, () -> {
+            for (int i = 0; i < PROBE_STORE_COUNT; i++) {
+                final int rowCount = StoreContext.callAs(FIRST_STORE_ID + i, this::readStore);
+                assertThat(rowCount).isEqualTo(PRODUCTS_PER_STORE * 2 + ORDER_TABLES_PER_STORE * 2);
+            }
+        });
+    }
+
+    private int readStore() {
+        return size(productService::findAll)
+            + size(menuService::findAll)
+            + size(orderTableService::findAll)
+            + floorPlanService.getFloorPlan().getTables().size();
+    }
+
+    private int size(Supplier<? extends List<?>> finder) {
+        return finder.get().size();
+    }
+}
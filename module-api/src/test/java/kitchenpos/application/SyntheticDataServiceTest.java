@@ -0,0 +1,110 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import kitchenpos.exception.InvalidArgumentException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("SyntheticDataService 테스트")
+@SpringBootTest
+class SyntheticDataServiceTest {
+
+    private static final SyntheticDataSpec SPEC = new SyntheticDataSpec(
+        20, 3, 30, 10, 2, 2_000, 3, 30, 1.1, 7L, 500
+    );
+
+    @Autowired
+    private SyntheticDataService syntheticDataService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_line_item");
+        jdbcTemplate.update("DELETE FROM ordered_menu");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM order_table");
+        jdbcTemplate.update("DELETE FROM table_group");
+        jdbcTemplate.update("DELETE FROM menu_product");
+        jdbcTemplate.update("DELETE FROM menu");
+        jdbcTemplate.update("DELETE FROM menu_group");
+        jdbcTemplate.update("DELETE FROM product");
+    }
+
+    @DisplayName("지정한 개수만큼 Product, MenuGroup, Menu, OrderTable, Order를 만든다.")
+    @Test
+    void generate() {
+        // when
+        syntheticDataService.generate(SPEC);
+
+        // then
+        assertThat(count("product")).isEqualTo(20);
+        assertThat(count("menu_group")).isEqualTo(3);
+        assertThat(count("menu")).isEqualTo(30);
+        assertThat(count("order_table")).isEqualTo(10);
+        assertThat(count("orders")).isEqualTo(2_000);
+        assertThat(count("order_line_item")).isEqualTo(count("ordered_menu")).isBetween(2_000L, 6_000L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM menu WHERE price > products_total_price", Long.class
+        )).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM order_table WHERE table_group_id IS NOT NULL AND empty = TRUE", Long.class
+        )).isZero();
+    }
+
+    @DisplayName("Menu 주문 수는 Zipf 분포를 따라 소수의 Menu에 몰린다.")
+    @Test
+    void generate_MenuPopularityIsSkewed() {
+        // when
+        syntheticDataService.generate(SPEC);
+
+        // then
+        final List<Long> orderCountsByMenu = jdbcTemplate.queryForList(
+            "SELECT COUNT(*) FROM ordered_menu GROUP BY menu_id ORDER BY COUNT(*) DESC", Long.class
+        );
+        assertThat(orderCountsByMenu.get(0)).isGreaterThan(orderCountsByMenu.get(orderCountsByMenu.size() - 1) * 5);
+    }
+
+    @DisplayName("같은 seed면 같은 데이터를 만든다.")
+    @Test
+    void generate_IsReproducibleWithSameSeed() {
+        // given
+        syntheticDataService.generate(SPEC);
+        final List<String> firstOrderStatuses = findOrderStatuses();
+        tearDown();
+
+        // when
+        syntheticDataService.generate(SPEC);
+
+        // then
+        assertThat(findOrderStatuses()).isEqualTo(firstOrderStatuses);
+    }
+
+    @DisplayName("생성 - 실패 - Order를 만들 OrderTable이 없을 때")
+    @Test
+    void generate_Fail_When_NoOrderTable() {
+        // given
+        final SyntheticDataSpec spec = new SyntheticDataSpec(1, 1, 1, 0, 0, 1, 1, 1, 1.1, 7L, 500);
+
+        // when
+        // then
+        assertThatThrownBy(() -> syntheticDataService.generate(spec))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<String> findOrderStatuses() {
+        return jdbcTemplate.queryForList("SELECT order_status FROM orders ORDER BY id", String.class);
+    }
+}
@@ -0,0 +1,188 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.domain.tablegroup.TableGroupRepository;
+import kitchenpos.dto.ordertable.OrderTableRequest;
+import kitchenpos.dto.ordertable.OrderTableResponse;
+import kitchenpos.dto.tablegroup.TableGroupRequest;
+import kitchenpos.dto.tablegroup.TableGroupResponse;
+import kitchenpos.exception.InvalidStateException;
+import kitchenpos.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("TableGroupService 테스트")
+@SpringBootTest
+class TableGroupServiceTest {
+
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private TableGroupRepository tableGroupRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate requiresNewTransactionTemplate;
+    private OrderTableResponse firstOrderTable;
+    private OrderTableResponse secondOrderTable;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        firstOrderTable = orderTableService.create(new OrderTableRequest(0, true));
+        secondOrderTable = orderTableService.create(new OrderTableRequest(0, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderTableRepository.deleteAllInBatch();
+        tableGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("검증 이후 다른 트랜잭션이 OrderTable을 바꿔 갱신된 개수가 다르면, TableGroup 지정 전체가 롤백된다.")
+    @Test
+    void create_Fail_When_OrderTableChangedAfterValidation() {
+        // given
+        final TableGroupRequest tableGroupRequest = TableGroup_요청을_만든다(firstOrderTable, secondOrderTable);
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> {
+            // 검증 시점에는 영속성 컨텍스트에 남아있는 빈 OrderTable 상태가 그대로 사용된다.
+            orderTableRepository.findAllById(OrderTable_Id들을_꺼낸다(firstOrderTable, secondOrderTable));
+            requiresNewTransactionTemplate.execute(innerStatus ->
+                orderTableService.changeEmpty(secondOrderTable.getId(), new OrderTableRequest(false))
+            );
+            return tableGroupService.create(tableGroupRequest);
+        })).isInstanceOf(InvalidStateException.class);
+
+        // then
+        final OrderTable foundFirstOrderTable = orderTableRepository.findById(firstOrderTable.getId()).get();
+        final OrderTable foundSecondOrderTable = orderTableRepository.findById(secondOrderTable.getId()).get();
+        assertThat(foundFirstOrderTable.getTableGroupId()).isNull();
+        assertThat(foundFirstOrderTable.isEmpty()).isTrue();
+        assertThat(foundSecondOrderTable.getTableGroupId()).isNull();
+        assertThat(foundSecondOrderTable.isEmpty()).isFalse();
+        assertThat(tableGroupRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("TableGroup을 해제하면 속한 모든 OrderTable의 table_group_id가 null이 되고 비어있지 않은 상태가 된다.")
+    @Test
+    void ungroup_ResetsTableGroupIdAndEmpty() {
+        // given
+        final TableGroupResponse tableGroup =
+            tableGroupService.create(TableGroup_요청을_만든다(firstOrderTable, secondOrderTable));
+
+        // when
+        tableGroupService.ungroup(tableGroup.getId());
+
+        // then
+        final List<OrderTable> foundOrderTables =
+            orderTableRepository.findAllById(OrderTable_Id들을_꺼낸다(firstOrderTable, secondOrderTable));
+        assertThat(foundOrderTables).hasSize(2);
+        assertThat(foundOrderTables).extracting(OrderTable::getTableGroupId).containsOnlyNulls();
+        assertThat(foundOrderTables).extracting(OrderTable::isEmpty).containsOnly(false);
+        assertThat(orderTableRepository.findAllByTableGroupId(tableGroup.getId())).isEmpty();
+    }
+
+    @DisplayName("다른 매장의 TableGroup은 해제할 수 없고, 그 TableGroup의 OrderTable은 그대로 남는다.")
+    @Test
+    void ungroup_Fail_When_TableGroupBelongsToOtherStore() {
+        // given
+        final TableGroupResponse tableGroup =
+            tableGroupService.create(TableGroup_요청을_만든다(firstOrderTable, secondOrderTable));
+
+        // when
+        assertThatThrownBy(() -> StoreContext.callAs(2L, () -> {
+            tableGroupService.ungroup(tableGroup.getId());
+            return null;
+        })).isInstanceOf(NotFoundException.class);
+
+        // then
+        final List<OrderTable> foundOrderTables =
+            orderTableRepository.findAllById(OrderTable_Id들을_꺼낸다(firstOrderTable, secondOrderTable));
+        assertThat(foundOrderTables).extracting(OrderTable::getTableGroupId).containsOnly(tableGroup.getId());
+    }
+
+    @DisplayName("일괄 갱신 이후에도 같은 트랜잭션의 영속성 컨텍스트에 있는 OrderTable은 DB와 같은 상태다.")
+    @Test
+    void createAndUngroup_KeepsPersistenceContextConsistent() {
+        transactionTemplate.execute(status -> {
+            // given
+            final List<OrderTable> managedOrderTables =
+                orderTableRepository.findAllById(OrderTable_Id들을_꺼낸다(firstOrderTable, secondOrderTable));
+
+            // when
+            final TableGroupResponse tableGroup =
+                tableGroupService.create(TableGroup_요청을_만든다(firstOrderTable, secondOrderTable));
+
+            // then
+            assertThat(managedOrderTables).extracting(OrderTable::getTableGroupId)
+                .containsOnly(tableGroup.getId());
+            assertThat(managedOrderTables).extracting(OrderTable::isEmpty).containsOnly(false);
+            assertThat(DB에서_다시_조회한다()).extracting(OrderTable::getTableGroupId)
+                .containsOnly(tableGroup.getId());
+
+            // when
+            final List<OrderTable> managedGroupedOrderTables = DB에서_다시_조회한다();
+            tableGroupService.ungroup(tableGroup.getId());
+
+            // then
+            assertThat(managedGroupedOrderTables).extracting(OrderTable::getTableGroupId).containsOnlyNulls();
+            assertThat(managedGroupedOrderTables).extracting(OrderTable::isEmpty).containsOnly(false);
+            final List<OrderTable> reloadedOrderTables = DB에서_다시_조회한다();
+            assertThat(reloadedOrderTables).extracting(OrderTable::getTableGroupId).containsOnlyNulls();
+            assertThat(reloadedOrderTables).extracting(OrderTable::isEmpty).containsOnly(false);
+            return null;
+        });
+    }
+
+    private List<OrderTable> DB에서_다시_조회한다() {
+        entityManager.flush();
+        entityManager.clear();
+        return orderTableRepository.findAllById(OrderTable_Id들을_꺼낸다(firstOrderTable, secondOrderTable));
+    }
+
+    private TableGroupRequest TableGroup_요청을_만든다(OrderTableResponse... orderTables) {
+        final List<OrderTableRequest> orderTableRequests = Arrays.stream(orderTables)
+            .map(orderTable -> new OrderTableRequest(orderTable.getId()))
+            .collect(Collectors.toList());
+        return new TableGroupRequest(orderTableRequests);
+    }
+
+    private List<Long> OrderTable_Id들을_꺼낸다(OrderTableResponse... orderTables) {
+        return Arrays.stream(orderTables)
+            .map(OrderTableResponse::getId)
+            .collect(Collectors.toList());
+    }
+}
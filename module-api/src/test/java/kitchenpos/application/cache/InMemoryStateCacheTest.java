@@ -0,0 +1,88 @@
+package kitchenpos.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+@DisplayName("InMemoryStateCache 테스트")
+class InMemoryStateCacheTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long OTHER_STORE_ID = 2L;
+
+    private final InMemoryStateCache stateCache = new InMemoryStateCache(TransactionOperations.withoutTransaction());
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @DisplayName("invalidate되기 전까지는 목록을 다시 읽지 않는다.")
+    @Test
+    void getList_LoadsOnce_Until_Invalidated() {
+        // when
+        final List<String> firstList = stateCache.getList(STORE_ID, CacheRegion.PRODUCT, this::load);
+        final List<String> secondList = stateCache.getList(STORE_ID, CacheRegion.PRODUCT, this::load);
+
+        // then
+        assertThat(secondList).isSameAs(firstList);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @DisplayName("invalidate하면 버전이 바뀌고 목록을 다시 읽는다.")
+    @Test
+    void invalidate() {
+        // given
+        stateCache.getList(STORE_ID, CacheRegion.PRODUCT, this::load);
+        final String version = stateCache.getVersion(STORE_ID, CacheRegion.PRODUCT);
+
+        // when
+        stateCache.invalidate(STORE_ID, CacheRegion.PRODUCT);
+        stateCache.getList(STORE_ID, CacheRegion.PRODUCT, this::load);
+
+        // then
+        assertThat(stateCache.getVersion(STORE_ID, CacheRegion.PRODUCT)).isNotEqualTo(version);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @DisplayName("목록을 읽는 중에 invalidate되면 읽은 목록을 저장하지 않는다.")
+    @Test
+    void getList_DoesNotStore_When_InvalidatedWhileLoading() {
+        // when
+        stateCache.getList(STORE_ID, CacheRegion.MENU, () -> {
+            final List<String> list = load();
+            stateCache.invalidate(STORE_ID, CacheRegion.MENU);
+            return list;
+        });
+        stateCache.getList(STORE_ID, CacheRegion.MENU, this::load);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @DisplayName("매장과 CacheRegion이 다르면 따로 저장하고 따로 invalidate된다.")
+    @Test
+    void getList_IsPartitionedByStoreAndRegion() {
+        // given
+        stateCache.getList(STORE_ID, CacheRegion.PRODUCT, this::load);
+        stateCache.getList(STORE_ID, CacheRegion.ORDER_TABLE, () -> Collections.singletonList("1번 테이블"));
+        stateCache.getList(OTHER_STORE_ID, CacheRegion.PRODUCT, () -> Collections.singletonList("다른 매장"));
+        final String otherStoreVersion = stateCache.getVersion(OTHER_STORE_ID, CacheRegion.PRODUCT);
+
+        // when
+        stateCache.invalidate(STORE_ID, CacheRegion.PRODUCT);
+
+        // then
+        assertThat(stateCache.getVersion(OTHER_STORE_ID, CacheRegion.PRODUCT)).isEqualTo(otherStoreVersion);
+        assertThat(stateCache.getList(OTHER_STORE_ID, CacheRegion.PRODUCT, this::load)).containsExactly("다른 매장");
+        assertThat(stateCache.getList(STORE_ID, CacheRegion.ORDER_TABLE, this::load)).containsExactly("1번 테이블");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private List<String> load() {
+        loadCount.incrementAndGet();
+        return Arrays.asList("후라이드치킨", "양념치킨");
+    }
+}
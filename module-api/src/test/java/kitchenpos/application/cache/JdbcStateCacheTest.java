@@ -0,0 +1,144 @@
+package kitchenpos.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import kitchenpos.application.event.RemoteInvalidationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 DB를 쓰는 두 노드를 JdbcStateCache 두 개로 흉내 낸다. 폴링은 테스트에서 직접 호출한다.
+ */
+@DisplayName("JdbcStateCache 테스트")
+@SpringBootTest
+class JdbcStateCacheTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    private JdbcStateCache nodeA;
+    private JdbcStateCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = createNode("node-a", Duration.ofDays(1));
+        nodeB = createNode("node-b", Duration.ofDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cache_invalidation");
+    }
+
+    @DisplayName("한 노드에서 invalidate하면 다른 노드는 폴링한 뒤에 목록을 다시 읽고, 두 노드의 버전이 같아진다.")
+    @Test
+    void poll_AppliesOtherNodeInvalidation() {
+        // given
+        nodeB.getList(STORE_ID, CacheRegion.PRODUCT, () -> Collections.singletonList("강정치킨"));
+
+        // when
+        nodeA.invalidate(STORE_ID, CacheRegion.PRODUCT);
+        final List<String> beforePoll =
+            nodeB.getList(STORE_ID, CacheRegion.PRODUCT, () -> Arrays.asList("강정치킨", "마늘치킨"));
+        nodeB.poll();
+        final List<String> afterPoll =
+            nodeB.getList(STORE_ID, CacheRegion.PRODUCT, () -> Arrays.asList("강정치킨", "마늘치킨"));
+
+        // then
+        assertThat(beforePoll).containsExactly("강정치킨");
+        assertThat(afterPoll).containsExactly("강정치킨", "마늘치킨");
+        assertThat(nodeB.getVersion(STORE_ID, CacheRegion.PRODUCT))
+            .isEqualTo(nodeA.getVersion(STORE_ID, CacheRegion.PRODUCT));
+        assertThat(publishedEvents).hasSize(1)
+            .allSatisfy(event -> {
+                assertThat(event).isInstanceOf(RemoteInvalidationEvent.class);
+                assertThat(((RemoteInvalidationEvent) event).getStoreId()).isEqualTo(STORE_ID);
+                assertThat(((RemoteInvalidationEvent) event).getCacheRegion()).isEqualTo(CacheRegion.PRODUCT);
+            });
+    }
+
+    @DisplayName("자기 노드가 기록한 무효화는 폴링해도 이벤트를 발행하지 않는다.")
+    @Test
+    void poll_DoesNotPublish_OwnInvalidation() {
+        // when
+        nodeA.invalidate(STORE_ID, CacheRegion.MENU);
+        nodeA.poll();
+
+        // then
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @DisplayName("새로 시작한 노드는 남아 있는 무효화로 버전을 맞춘다.")
+    @Test
+    void initialize_RestoresVersions() {
+        // given
+        nodeA.invalidate(STORE_ID, CacheRegion.ORDER_TABLE);
+        nodeA.invalidate(STORE_ID, CacheRegion.ORDER_TABLE);
+
+        // when
+        final JdbcStateCache nodeC = createNode("node-c", Duration.ofDays(1));
+
+        // then
+        assertThat(nodeC.getVersion(STORE_ID, CacheRegion.ORDER_TABLE))
+            .isEqualTo(nodeA.getVersion(STORE_ID, CacheRegion.ORDER_TABLE));
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @DisplayName("prune은 보관 기간이 지난 무효화를 지우되 매장과 CacheRegion별 마지막 무효화는 남긴다.")
+    @Test
+    void prune_KeepsLatestInvalidation() {
+        // given
+        final JdbcStateCache pruningNode = createNode("node-c", Duration.ZERO);
+        nodeA.invalidate(STORE_ID, CacheRegion.PRODUCT);
+        nodeA.invalidate(STORE_ID, CacheRegion.PRODUCT);
+        nodeA.invalidate(STORE_ID, CacheRegion.MENU);
+
+        // when
+        pruningNode.prune();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cache_invalidation", Long.class)).isEqualTo(2L);
+        assertThat(createNode("node-d", Duration.ofDays(1)).getVersion(STORE_ID, CacheRegion.PRODUCT))
+            .isEqualTo(nodeA.getVersion(STORE_ID, CacheRegion.PRODUCT));
+    }
+
+    private JdbcStateCache createNode(String nodeId, Duration retention) {
+        final TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+        final TransactionTemplate requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        final ApplicationEventPublisher applicationEventPublisher = publishedEvents::add;
+        final JdbcStateCache jdbcStateCache = new JdbcStateCache(
+            jdbcTemplate,
+            readOnlyTransactionTemplate,
+            requiresNewTransactionTemplate,
+            applicationEventPublisher,
+            nodeId,
+            1_000L,
+            retention
+        );
+        jdbcStateCache.initialize();
+        return jdbcStateCache;
+    }
+}
@@ -0,0 +1,101 @@
+package kitchenpos.benchmark;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kitchenpos.config.PrebuiltObjectWriterHttpMessageConverter;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * 1,000개의 Order 목록을 HTTP 응답으로 직렬화하는 처리량을 비교한다.
+ * default는 변경 전 설정, afterburner와 prebuiltObjectWriter는 각각의 효과, optimized는 현재 설정이다.
+ */
+@State(Scope.Benchmark)
+public class OrderListSerializationBenchmark {
+
+    private static final int ORDER_COUNT = 1_000;
+    private static final int ORDER_LINE_ITEM_COUNT = 3;
+    private static final Type ORDER_LIST_TYPE = new ParameterizedTypeReference<List<OrderResponse>>() {
+    }.getType();
+
+    private List<OrderResponse> orders;
+    private MappingJackson2HttpMessageConverter defaultConverter;
+    private MappingJackson2HttpMessageConverter afterburnerConverter;
+    private MappingJackson2HttpMessageConverter prebuiltObjectWriterConverter;
+    private MappingJackson2HttpMessageConverter optimizedConverter;
+
+    @Setup
+    public void setUp() {
+        orders = createOrders();
+        defaultConverter = new MappingJackson2HttpMessageConverter(objectMapperBuilder().build());
+        afterburnerConverter = new MappingJackson2HttpMessageConverter(
+            objectMapperBuilder().modulesToInstall(new AfterburnerModule()).build()
+        );
+        prebuiltObjectWriterConverter = new PrebuiltObjectWriterHttpMessageConverter(objectMapperBuilder().build());
+        optimizedConverter = new PrebuiltObjectWriterHttpMessageConverter(
+            objectMapperBuilder().modulesToInstall(new AfterburnerModule()).build()
+        );
+    }
+
+    private Jackson2ObjectMapperBuilder objectMapperBuilder() {
+        return Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private List<OrderResponse> createOrders() {
+        final LocalDateTime orderedTime = LocalDateTime.of(2020, 10, 1, 12, 0);
+        final List<OrderResponse> orders = new ArrayList<>();
+        long orderLineItemSeq = 1;
+        for (long orderId = 1; orderId <= ORDER_COUNT; orderId++) {
+            final List<OrderLineItemResponse> orderLineItems = new ArrayList<>();
+            for (int i = 0; i < ORDER_LINE_ITEM_COUNT; i++) {
+                orderLineItems.add(new OrderLineItemResponse(orderLineItemSeq++, orderId, (long) i + 1, 2L));
+            }
+            orders.add(new OrderResponse(
+                orderId, orderId % 20 + 1, OrderStatus.COOKING, orderedTime.plusSeconds(orderId), orderLineItems
+            ));
+        }
+        return orders;
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage defaultObjectMapper() throws IOException {
+        return write(defaultConverter);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage afterburner() throws IOException {
+        return write(afterburnerConverter);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage prebuiltObjectWriter() throws IOException {
+        return write(prebuiltObjectWriterConverter);
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage optimized() throws IOException {
+        return write(optimizedConverter);
+    }
+
+    private MockHttpOutputMessage write(MappingJackson2HttpMessageConverter converter) throws IOException {
+        final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(orders, ORDER_LIST_TYPE, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage;
+    }
+}
@@ -0,0 +1,68 @@
+package kitchenpos.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import kitchenpos.domain.orderlineitem.OrderLineItems;
+import kitchenpos.domain.orderlineitem.OrderedQuantity;
+import kitchenpos.domain.quantity.Quantity;
+import kitchenpos.exception.BusinessException;
+import kitchenpos.exception.ExceptionMessage;
+import kitchenpos.ui.ExceptionRestControllerAdvice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 수량 합이 long 범위를 넘는 Order 요청을 거절하고 422 응답을 만드는 처리량을 비교한다.
+ * depth는 컨트롤러, 프록시, 필터를 거쳐 서비스에서 예외를 던질 때까지 쌓이는 호출 깊이를 흉내낸다.
+ * stackless는 현재 설정, withStackTrace는 -Dkitchenpos.exception.stack-trace=true로 스택 트레이스를 채우는 설정이다.
+ */
+@State(Scope.Benchmark)
+public class RejectedRequestBenchmark {
+
+    @Param({"20", "120"})
+    private int depth;
+
+    private List<OrderedQuantity> overflowingQuantities;
+    private ExceptionRestControllerAdvice exceptionRestControllerAdvice;
+
+    @Setup
+    public void setUp() {
+        overflowingQuantities = Arrays.asList(
+            new OrderedQuantity(1L, new Quantity(Long.MAX_VALUE)),
+            new OrderedQuantity(1L, new Quantity(1L))
+        );
+        exceptionRestControllerAdvice = new ExceptionRestControllerAdvice();
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionMessage> stackless() {
+        return reject();
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dkitchenpos.exception.stack-trace=true")
+    public ResponseEntity<ExceptionMessage> withStackTrace() {
+        return reject();
+    }
+
+    private ResponseEntity<ExceptionMessage> reject() {
+        try {
+            mergeAt(depth);
+            throw new IllegalStateException("수량 합이 long 범위를 넘었는데 거절하지 않았습니다.");
+        } catch (BusinessException e) {
+            return exceptionRestControllerAdvice.responseBusinessException(e);
+        }
+    }
+
+    private List<OrderedQuantity> mergeAt(int remainingDepth) {
+        if (remainingDepth == 0) {
+            return OrderLineItems.mergeByMenuId(overflowingQuantities);
+        }
+        return mergeAt(remainingDepth - 1);
+    }
+}
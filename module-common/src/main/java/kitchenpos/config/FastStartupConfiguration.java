@@ -0,0 +1,81 @@
+package kitchenpos.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+/**
+ * fast-startup 프로필에서 마이그레이션 스크립트와 Entity 클래스가 지난번 검증 때와 같으면
+ * Flyway의 validate-on-migrate와 Hibernate의 ddl-auto: validate를 건너뛴다.
+ * 체크섬은 애플리케이션이 준비된 뒤, 즉 두 검증을 모두 통과한 뒤에만 저장한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-startup")
+public class FastStartupConfiguration {
+
+    @Bean
+    public MigrationChecksumCache migrationChecksumCache(
+        final DataSourceProperties dataSourceProperties,
+        final FlywayProperties flywayProperties,
+        final ResourceLoader resourceLoader,
+        @Value("${kitchenpos.fast-startup.migration-checksum-file:${java.io.tmpdir}/kitchenpos/flyway.checksum}")
+        final String migrationChecksumFile,
+        @Value("${kitchenpos.fast-startup.entity-packages:kitchenpos.domain}") final List<String> entityPackages
+    ) throws IOException {
+        final String checksum = MigrationChecksumCache.checksum(
+            dataSourceProperties.determineUrl(),
+            flywayProperties.getLocations(),
+            entityPackages,
+            ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+        );
+        return new MigrationChecksumCache(Paths.get(migrationChecksumFile), checksum);
+    }
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(final MigrationChecksumCache migrationChecksumCache) {
+        return flyway -> {
+            if (!migrationChecksumCache.isCached()) {
+                flyway.migrate();
+                return;
+            }
+            Flyway.configure(flyway.getConfiguration().getClassLoader())
+                .configuration(flyway.getConfiguration())
+                .validateOnMigrate(false)
+                .load()
+                .migrate();
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer schemaValidationSkippingCustomizer(
+        final MigrationChecksumCache migrationChecksumCache
+    ) {
+        return hibernateProperties -> {
+            if (migrationChecksumCache.isCached()) {
+                hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void storeMigrationChecksum(ApplicationReadyEvent event) {
+        // 지연 초기화로 아직 만들어지지 않았다면 여기서 Flyway 마이그레이션과 Hibernate 스키마 검증이 끝난다.
+        event.getApplicationContext().getBean(EntityManagerFactory.class);
+        event.getApplicationContext().getBean(MigrationChecksumCache.class).store();
+    }
+}
@@ -1,10 +1,17 @@
 package kitchenpos.config;
 
+import javax.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
 
-@Configuration
+@Configuration(proxyBeanMethods = false)
 @EnableJpaAuditing
 public class JpaConfiguration {
 
+    @Bean
+    public PlatformTransactionManager transactionManager(final EntityManagerFactory entityManagerFactory) {
+        return new StoreFilterJpaTransactionManager(entityManagerFactory);
+    }
 }
@@ -0,0 +1,150 @@
+package kitchenpos.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 접속 URL, Flyway 마이그레이션 스크립트, Entity가 있는 패키지의 클래스 파일로 만든 체크섬을 파일에 남긴다.
+ * 다음 시작 때 체크섬이 같으면 이미 검증을 통과한 스키마로 보고 Flyway, Hibernate의 스키마 검증을 건너뛴다.
+ * Entity 매핑만 바뀌어도 체크섬이 달라지므로 Hibernate의 스키마 검증을 다시 한다.
+ */
+public class MigrationChecksumCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MigrationChecksumCache.class);
+
+    private final Path cacheFile;
+    private final String checksum;
+    private final boolean cached;
+
+    public MigrationChecksumCache(Path cacheFile, String checksum) {
+        this.cacheFile = cacheFile;
+        this.checksum = checksum;
+        this.cached = checksum.equals(read(cacheFile));
+    }
+
+    public static String checksum(
+        String url,
+        List<String> locations,
+        List<String> entityPackages,
+        ResourcePatternResolver resourcePatternResolver
+    ) throws IOException {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(String.valueOf(url).getBytes(StandardCharsets.UTF_8));
+        for (String location : locations) {
+            update(crc32, toRootPath(location), resourcePatternResolver.getResources(toPattern(location)));
+        }
+        for (String entityPackage : entityPackages) {
+            final String rootPath = entityPackage.replace('.', '/');
+            update(crc32, rootPath, resourcePatternResolver.getResources(toClassPattern(entityPackage)));
+        }
+        return Long.toHexString(crc32.getValue());
+    }
+
+    /**
+     * 하위 패키지마다 같은 이름의 파일(package-info.class 등)이 있을 수 있으므로, 파일 이름이 아니라 rootPath 아래의 상대 경로로
+     * 정렬하고 해시한다. 상대 경로까지 같으면 전체 URL로 순서를 정한다. 전체 URL은 빌드 위치마다 다르므로 해시에는 넣지 않는다.
+     */
+    private static void update(CRC32 crc32, String rootPath, Resource[] resources) throws IOException {
+        final SortedMap<String, SortedMap<String, Resource>> resourcesByRelativePath = new TreeMap<>();
+        for (Resource resource : resources) {
+            final String url = resource.getURL().toString();
+            resourcesByRelativePath.computeIfAbsent(toRelativePath(rootPath, url), relativePath -> new TreeMap<>())
+                .put(url, resource);
+        }
+        for (Map.Entry<String, SortedMap<String, Resource>> entry : resourcesByRelativePath.entrySet()) {
+            for (Resource resource : entry.getValue().values()) {
+                crc32.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                try (InputStream inputStream = resource.getInputStream()) {
+                    crc32.update(StreamUtils.copyToByteArray(inputStream));
+                }
+            }
+        }
+    }
+
+    private static String toRelativePath(String rootPath, String url) {
+        final int jarEntryIndex = url.lastIndexOf("!/");
+        final String path = jarEntryIndex < 0 ? url : url.substring(jarEntryIndex + 2);
+        final int rootIndex = path.indexOf(rootPath + "/");
+        if (rootIndex < 0) {
+            return path;
+        }
+        return path.substring(rootIndex + rootPath.length() + 1);
+    }
+
+    private static String toRootPath(String location) {
+        String rootPath = location;
+        if (rootPath.startsWith("filesystem:")) {
+            rootPath = rootPath.substring("filesystem:".length());
+        } else if (rootPath.startsWith("classpath:")) {
+            rootPath = rootPath.substring("classpath:".length());
+        }
+        while (rootPath.startsWith("/") || rootPath.startsWith("./")) {
+            rootPath = rootPath.substring(rootPath.indexOf('/') + 1);
+        }
+        while (rootPath.endsWith("/")) {
+            rootPath = rootPath.substring(0, rootPath.length() - 1);
+        }
+        return rootPath;
+    }
+
+    private static String toClassPattern(String entityPackage) {
+        return "classpath*:" + entityPackage.replace('.', '/') + "/**/*.class";
+    }
+
+    private static String toPattern(String location) {
+        if (location.startsWith("filesystem:")) {
+            return "file:" + location.substring("filesystem:".length()) + "/**/*.sql";
+        }
+        if (location.startsWith("classpath:")) {
+            return "classpath*:" + location.substring("classpath:".length()) + "/**/*.sql";
+        }
+        return "classpath*:" + location + "/**/*.sql";
+    }
+
+    private static String read(Path cacheFile) {
+        try {
+            return new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8).trim();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("마이그레이션 체크섬 파일을 읽지 못했습니다. {}", cacheFile, e);
+            return null;
+        }
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * 검증을 통과한 뒤에 호출해야 한다. 파일을 쓰지 못해도 다음 시작 때 다시 검증할 뿐이므로 예외를 던지지 않는다.
+     */
+    public void store() {
+        if (cached) {
+            return;
+        }
+        try {
+            if (Objects.nonNull(cacheFile.getParent())) {
+                Files.createDirectories(cacheFile.getParent());
+            }
+            Files.write(cacheFile, checksum.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("마이그레이션 체크섬 파일을 쓰지 못했습니다. {}", cacheFile, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package kitchenpos.config;
+
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.domain.store.StoreScopedEntity;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션을 시작할 때마다 EntityManager의 storeFilter를 현재 매장으로 켠다.
+ * open-in-view로 요청 내내 같은 EntityManager를 쓰더라도 트랜잭션마다 다시 켜므로 항상 현재 매장으로 걸러진다.
+ */
+public class StoreFilterJpaTransactionManager extends JpaTransactionManager {
+
+    public StoreFilterJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        final EntityManagerHolder entityManagerHolder =
+            (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        entityManagerHolder.getEntityManager().unwrap(Session.class)
+            .enableFilter(StoreScopedEntity.STORE_FILTER)
+            .setParameter(StoreScopedEntity.STORE_ID_PARAMETER, StoreContext.getStoreId());
+    }
+}
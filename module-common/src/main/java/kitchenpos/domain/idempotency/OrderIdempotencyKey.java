@@ -0,0 +1,109 @@
+package kitchenpos.domain.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.domain.store.StoreContext;
+import kitchenpos.exception.InvalidArgumentException;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@IdClass(OrderIdempotencyKeyId.class)
+public class OrderIdempotencyKey implements Persistable<OrderIdempotencyKeyId> {
+
+    private static final int MAX_LENGTH = 255;
+
+    @Id
+    private Long storeId;
+
+    @Id
+    private String idempotencyKey;
+
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    protected OrderIdempotencyKey() {
+    }
+
+    public OrderIdempotencyKey(String idempotencyKey, String requestHash, Long orderId, OrderStatus orderStatus) {
+        validate(idempotencyKey);
+        this.storeId = StoreContext.getStoreId();
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.orderStatus = orderStatus;
+    }
+
+    private void validate(String idempotencyKey) {
+        if (Objects.isNull(idempotencyKey) || idempotencyKey.trim().isEmpty()) {
+            throw new InvalidArgumentException("Idempotency-Key는 비어있을 수 없습니다.");
+        }
+        if (idempotencyKey.length() > MAX_LENGTH) {
+            throw new InvalidArgumentException("Idempotency-Key는 " + MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+    }
+
+    @Override
+    public OrderIdempotencyKeyId getId() {
+        return new OrderIdempotencyKeyId(storeId, idempotencyKey);
+    }
+
+    @Override
+    public boolean isNew() {
+        return Objects.isNull(createdDate);
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        OrderIdempotencyKey that = (OrderIdempotencyKey) o;
+        return Objects.equals(storeId, that.storeId) && Objects.equals(idempotencyKey, that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(storeId, idempotencyKey);
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.domain.idempotency;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 매장마다 Idempotency-Key를 따로 쓰므로, store_id와 키를 함께 기본 키로 쓴다.
+ */
+public class OrderIdempotencyKeyId implements Serializable {
+
+    private Long storeId;
+    private String idempotencyKey;
+
+    protected OrderIdempotencyKeyId() {
+    }
+
+    public OrderIdempotencyKeyId(Long storeId, String idempotencyKey) {
+        this.storeId = storeId;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        OrderIdempotencyKeyId that = (OrderIdempotencyKeyId) o;
+        return Objects.equals(storeId, that.storeId) && Objects.equals(idempotencyKey, that.idempotencyKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(storeId, idempotencyKey);
+    }
+}
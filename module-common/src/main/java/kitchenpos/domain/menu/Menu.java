@@ -1,7 +1,7 @@
 package kitchenpos.domain.menu;
 
-import java.math.BigDecimal;
 import java.util.Objects;
+import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
@@ -14,9 +14,13 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import kitchenpos.domain.menugroup.MenuGroup;
 import kitchenpos.domain.price.Price;
+import kitchenpos.domain.store.StoreScopedEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-public class Menu {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
+public class Menu extends StoreScopedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +32,10 @@ public class Menu {
     @Embedded
     private Price price;
 
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "products_total_price", nullable = false))
+    private Price productsTotalPrice;
+
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "menu_group_id", foreignKey = @ForeignKey(name = "fk_menu_menu_group"))
     private MenuGroup menuGroup;
@@ -35,21 +43,22 @@ public class Menu {
     protected Menu() {
     }
 
-    public Menu(String name, int price, MenuGroup menuGroup) {
-        this(null, name, new Price(price), menuGroup);
-    }
-
-    public Menu(String name, BigDecimal price, MenuGroup menuGroup) {
-        this(null, name, new Price(price), menuGroup);
+    public Menu(String name, Price price, Price productsTotalPrice, MenuGroup menuGroup) {
+        this(null, name, price, productsTotalPrice, menuGroup);
     }
 
-    public Menu(Long id, String name, Price price, MenuGroup menuGroup) {
+    public Menu(Long id, String name, Price price, Price productsTotalPrice, MenuGroup menuGroup) {
         this.id = id;
         this.name = name;
         this.price = price;
+        this.productsTotalPrice = productsTotalPrice;
         this.menuGroup = menuGroup;
     }
 
+    public boolean isPriceGreaterThanProductsTotalPrice() {
+        return !productsTotalPrice.isGreaterOrEqualThan(price);
+    }
+
     public Long getId() {
         return id;
     }
@@ -66,6 +75,10 @@ public class Menu {
         return price.getValueAsInt();
     }
 
+    public Price getProductsTotalPrice() {
+        return productsTotalPrice;
+    }
+
     public MenuGroup getMenuGroup() {
         return menuGroup;
     }
@@ -1,7 +1,23 @@
 package kitchenpos.domain.menu;
 
+import java.math.BigDecimal;
+import java.util.List;
+import kitchenpos.domain.product.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
 
+    @Query("select m from Menu m where m.price.value > m.productsTotalPrice.value")
+    List<Menu> findAllByPriceGreaterThanProductsTotalPrice();
+
+    @Query("select m.id from Menu m where m.price.value > m.productsTotalPrice.value "
+        + "and m.id in (select mp.menu.id from MenuProduct mp where mp.product = :product) order by m.id")
+    List<Long> findIdsByProductAndPriceGreaterThanProductsTotalPrice(Product product);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Menu m set m.productsTotalPrice.value = m.productsTotalPrice.value + :priceDelta "
+        + "where m.id in :ids")
+    int addProductsTotalPrice(List<Long> ids, BigDecimal priceDelta);
 }
@@ -1,7 +1,11 @@
 package kitchenpos.domain.menugroup;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MenuGroupRepository extends JpaRepository<MenuGroup, Long> {
 
+    @Query("select mg.id as id, mg.name as name from MenuGroup mg")
+    List<MenuGroupSummary> findAllSummaries();
 }
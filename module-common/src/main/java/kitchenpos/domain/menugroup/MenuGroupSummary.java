@@ -0,0 +1,8 @@
+package kitchenpos.domain.menugroup;
+
+public interface MenuGroupSummary {
+
+    Long getId();
+
+    String getName();
+}
@@ -13,8 +13,11 @@ import javax.persistence.ManyToOne;
 import kitchenpos.domain.menu.Menu;
 import kitchenpos.domain.product.Product;
 import kitchenpos.domain.quantity.Quantity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu-product")
 public class MenuProduct {
 
     @Id
@@ -1,10 +1,20 @@
 package kitchenpos.domain.menuproduct;
 
 import java.util.List;
+import javax.persistence.QueryHint;
 import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.product.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface MenuProductRepository extends JpaRepository<MenuProduct, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<MenuProduct> findAllByMenu(Menu menu);
+
+    @Query("select mp from MenuProduct mp join fetch mp.menu where mp.product = :product")
+    Slice<MenuProduct> findAllByProductWithMenu(Product product, Pageable pageable);
 }
@@ -1,12 +1,35 @@
 package kitchenpos.domain.order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import kitchenpos.domain.ordertable.OrderTable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    List<Order> findAllByOrderStatus(final OrderStatus orderStatus);
+
     boolean existsByOrderTableAndOrderStatusIsIn(final OrderTable orderTable, final List<OrderStatus> orderStatuses);
 
     boolean existsByOrderTableInAndOrderStatusIn(final List<OrderTable> orderTables, final List<OrderStatus> orderStatuses);
+
+    @Query("select o.orderTable.id as orderTableId, count(o) as openOrderCount from Order o "
+        + "where o.orderStatus in :orderStatuses group by o.orderTable.id")
+    List<OrderTableOpenOrderCount> countAllByOrderStatusInGroupByOrderTable(final List<OrderStatus> orderStatuses);
+
+    @Query("select o.orderTable.id as orderTableId, count(o) as openOrderCount from Order o "
+        + "where o.orderTable.id in :orderTableIds and o.orderStatus in :orderStatuses group by o.orderTable.id")
+    List<OrderTableOpenOrderCount> countAllByOrderTableIdInAndOrderStatusInGroupByOrderTable(
+        final List<Long> orderTableIds,
+        final List<OrderStatus> orderStatuses
+    );
+
+    @Query("select o from Order o where o.orderedTime >= :from and o.orderedTime < :to "
+        + "and o.orderStatus in :orderStatuses order by o.orderedTime, o.id")
+    List<Order> findAllByOrderedTimeRangeAndOrderStatusIn(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final List<OrderStatus> orderStatuses
+    );
 }
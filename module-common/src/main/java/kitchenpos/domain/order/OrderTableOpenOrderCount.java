@@ -0,0 +1,8 @@
+package kitchenpos.domain.order;
+
+public interface OrderTableOpenOrderCount {
+
+    Long getOrderTableId();
+
+    Long getOpenOrderCount();
+}
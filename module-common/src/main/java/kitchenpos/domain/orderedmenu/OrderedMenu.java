@@ -8,9 +8,10 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import kitchenpos.domain.price.Price;
+import kitchenpos.domain.store.StoreScopedEntity;
 
 @Entity
-public class OrderedMenu {
+public class OrderedMenu extends StoreScopedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,8 @@
+package kitchenpos.domain.orderlineitem;
+
+public interface MenuQuantity {
+
+    Long getMenuId();
+
+    Long getQuantity();
+}
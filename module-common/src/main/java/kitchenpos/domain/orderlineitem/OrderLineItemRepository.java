@@ -2,9 +2,19 @@ package kitchenpos.domain.orderlineitem;
 
 import java.util.List;
 import kitchenpos.domain.order.Order;
+import kitchenpos.domain.order.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderLineItemRepository extends JpaRepository<OrderLineItem, Long> {
 
     List<OrderLineItem> findAllByOrder(Order order);
+
+    @Query("select oli from OrderLineItem oli join fetch oli.orderedMenu where oli.order in :orders")
+    List<OrderLineItem> findAllWithOrderedMenuByOrderIn(List<Order> orders);
+
+    @Query("select om.menuId as menuId, sum(oli.quantity.value) as quantity from OrderLineItem oli "
+        + "join oli.orderedMenu om where oli.order.storeId = :storeId and oli.order.orderStatus = :orderStatus "
+        + "group by om.menuId")
+    List<MenuQuantity> sumQuantityByStoreIdAndOrderStatusGroupByMenu(Long storeId, OrderStatus orderStatus);
 }
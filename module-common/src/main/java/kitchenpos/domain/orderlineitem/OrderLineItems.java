@@ -1,8 +1,11 @@
 package kitchenpos.domain.orderlineitem;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import kitchenpos.domain.order.Order;
+import kitchenpos.domain.quantity.Quantity;
 import kitchenpos.exception.InvalidStateException;
 
 public class OrderLineItems {
@@ -13,6 +16,22 @@ public class OrderLineItems {
         orderLineItems = new ArrayList<>();
     }
 
+    /**
+     * 같은 Menu의 OrderedQuantity들을 Quantity를 더해 하나로 합친다. Menu는 처음 나온 순서를 유지한다.
+     * Menu 조회와 OrderedMenu 저장 전에 합쳐서 Menu 하나당 한 번만 DB에 접근하게 한다.
+     */
+    public static List<OrderedQuantity> mergeByMenuId(List<OrderedQuantity> orderedQuantities) {
+        final Map<Long, Quantity> quantities = new LinkedHashMap<>();
+        for (OrderedQuantity orderedQuantity : orderedQuantities) {
+            quantities.merge(orderedQuantity.getMenuId(), orderedQuantity.getQuantity(), Quantity::add);
+        }
+        final List<OrderedQuantity> mergedOrderedQuantities = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Quantity> quantity : quantities.entrySet()) {
+            mergedOrderedQuantities.add(new OrderedQuantity(quantity.getKey(), quantity.getValue()));
+        }
+        return mergedOrderedQuantities;
+    }
+
     public void validateNotEmpty() {
         if (orderLineItems.isEmpty()) {
             throw new InvalidStateException("OrderLineItems가 비어있습니다.");
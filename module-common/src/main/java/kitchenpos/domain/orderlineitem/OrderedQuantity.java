@@ -0,0 +1,22 @@
+package kitchenpos.domain.orderlineitem;
+
+import kitchenpos.domain.quantity.Quantity;
+
+public class OrderedQuantity {
+
+    private final Long menuId;
+    private final Quantity quantity;
+
+    public OrderedQuantity(Long menuId, Quantity quantity) {
+        this.menuId = menuId;
+        this.quantity = quantity;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public Quantity getQuantity() {
+        return quantity;
+    }
+}
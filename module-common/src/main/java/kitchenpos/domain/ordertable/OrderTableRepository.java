@@ -1,8 +1,12 @@
 package kitchenpos.domain.ordertable;
 
 import java.util.List;
+import javax.persistence.QueryHint;
+import kitchenpos.domain.tablegroup.TableGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, Long> {
 
@@ -10,4 +14,24 @@ public interface OrderTableRepository extends JpaRepository<OrderTable, Long> {
 
     @Query("select o from OrderTable o where o.tableGroup.id = :tableGroupId")
     List<OrderTable> findAllByTableGroupId(Long tableGroupId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<OrderTable> findAllReadOnlyByIdIn(List<Long> ids);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("select o from OrderTable o where o.tableGroup.id = :tableGroupId")
+    List<OrderTable> findAllReadOnlyByTableGroupId(Long tableGroupId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable o set o.tableGroup = :tableGroup, o.empty = false "
+        + "where o.id in :ids and o.tableGroup is null and o.empty = true")
+    int assignAllEmptyToTableGroup(TableGroup tableGroup, List<Long> ids);
+
+    /**
+     * 일괄 갱신 쿼리에는 storeFilter가 적용되지 않으므로, 현재 매장에서 조회해 검증한 OrderTable의 id로만 갱신한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderTable o set o.tableGroup = null, o.empty = false "
+        + "where o.id in :ids and o.tableGroup.id = :tableGroupId")
+    int ungroupAllByIdIn(Long tableGroupId, List<Long> ids);
 }
@@ -2,6 +2,7 @@ package kitchenpos.domain.ordertable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import kitchenpos.domain.tablegroup.TableGroup;
 import kitchenpos.exception.InvalidStateException;
 
@@ -44,6 +45,13 @@ public class OrderTablesToCreateGroup {
         }
     }
 
+    public List<Long> getOrderTableIds() {
+        return orderTables.stream()
+            .map(OrderTable::getId)
+            .collect(Collectors.toList())
+            ;
+    }
+
     public List<OrderTable> getOrderTables() {
         return new ArrayList<>(orderTables);
     }
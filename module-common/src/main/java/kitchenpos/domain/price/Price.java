@@ -63,6 +63,10 @@ public class Price {
         }
     }
 
+    public BigDecimal getValue() {
+        return value;
+    }
+
     public int getValueAsInt() {
         return value.intValue();
     }
@@ -73,6 +77,14 @@ public class Price {
         return new Price(result);
     }
 
+    public Price add(Price otherPrice) {
+        return new Price(value.add(otherPrice.value));
+    }
+
+    public Price subtract(Price otherPrice) {
+        return new Price(value.subtract(otherPrice.value));
+    }
+
     public boolean isGreaterOrEqualThan(Price otherPrice) {
         return value.compareTo(otherPrice.value) >= 0;
     }
@@ -8,9 +8,13 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import kitchenpos.domain.price.Price;
+import kitchenpos.domain.store.StoreScopedEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-public class Product {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+public class Product extends StoreScopedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -55,6 +59,10 @@ public class Product {
         return price.getValueAsInteger();
     }
 
+    public void changePrice(Integer newPriceValue) {
+        price = new Price(newPriceValue);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
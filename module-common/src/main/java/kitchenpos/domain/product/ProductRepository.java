@@ -1,7 +1,26 @@
 package kitchenpos.domain.product;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    @Query("select p.id as id, p.name as name, p.price.value as price from Product p")
+    List<ProductSummary> findAllSummaries();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findByIdForUpdate(Long id);
+
+    /**
+     * 여러 Product를 한 번의 쿼리로 id 순서대로 잠근다. 잠그는 순서가 항상 같으므로 요청끼리 교착 상태에 빠지지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdInForUpdate(Collection<Long> ids);
 }
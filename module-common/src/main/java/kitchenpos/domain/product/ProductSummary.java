@@ -0,0 +1,12 @@
+package kitchenpos.domain.product;
+
+import java.math.BigDecimal;
+
+public interface ProductSummary {
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+}
@@ -2,21 +2,20 @@ package kitchenpos.domain.productquantity;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import kitchenpos.domain.price.Price;
-import kitchenpos.domain.price.Prices;
 import kitchenpos.exception.InvalidArgumentException;
 
 public class ProductQuantities {
 
     final List<ProductQuantity> productQuantities;
+    private Price productsTotalPrice;
 
     public ProductQuantities() {
         productQuantities = new ArrayList<>();
+        productsTotalPrice = new Price(0);
     }
 
     public void validateTotalPriceIsGreaterOrEqualThan(Price otherPrice) {
-        final Price productsTotalPrice = getProductsTotalPrice();
         if (!productsTotalPrice.isGreaterOrEqualThan(otherPrice)) {
             throw new InvalidArgumentException("otherPrice가 productQuantities들의 price합보다 큽니다.");
         }
@@ -24,18 +23,11 @@ public class ProductQuantities {
 
     public void add(ProductQuantity productQuantity) {
         productQuantities.add(productQuantity);
+        productsTotalPrice = productsTotalPrice.add(productQuantity.getTotalPrice());
     }
 
-    private Price getProductsTotalPrice() {
-        final Prices prices = new Prices(getProductsTotalPrices());
-        return prices.sum();
-    }
-
-    private List<Price> getProductsTotalPrices() {
-        return productQuantities.stream()
-            .map(ProductQuantity::getTotalPrice)
-            .collect(Collectors.toList())
-            ;
+    public Price getProductsTotalPrice() {
+        return productsTotalPrice;
     }
 
     public List<ProductQuantity> getProductQuantities() {
@@ -25,6 +25,14 @@ public class Quantity {
         }
     }
 
+    public Quantity add(Quantity other) {
+        try {
+            return new Quantity(Math.addExact(value, other.value));
+        } catch (ArithmeticException e) {
+            throw new InvalidArgumentException("Quantity의 합이 long 범위를 넘습니다.");
+        }
+    }
+
     public long getValue() {
         return value;
     }
@@ -0,0 +1,55 @@
+package kitchenpos.domain.store;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import kitchenpos.exception.InvalidArgumentException;
+
+/**
+ * 현재 스레드가 처리하는 매장(store_id)을 담아둔다. 지정하지 않았으면 기본 매장으로 본다.
+ * 매장을 나누기 전부터 있던 데이터는 모두 기본 매장에 속한다.
+ */
+public final class StoreContext {
+
+    public static final Long DEFAULT_STORE_ID = 1L;
+
+    private static final ThreadLocal<Long> STORE_ID = new ThreadLocal<>();
+
+    private StoreContext() {
+    }
+
+    public static Long getStoreId() {
+        final Long storeId = STORE_ID.get();
+        if (Objects.isNull(storeId)) {
+            return DEFAULT_STORE_ID;
+        }
+        return storeId;
+    }
+
+    public static void setStoreId(Long storeId) {
+        if (Objects.isNull(storeId) || storeId <= 0) {
+            throw new InvalidArgumentException("store id는 1 이상이어야 합니다.");
+        }
+        STORE_ID.set(storeId);
+    }
+
+    public static void clear() {
+        STORE_ID.remove();
+    }
+
+    /**
+     * storeId 매장으로 supplier를 실행하고, 끝나면 이전 매장으로 되돌린다.
+     */
+    public static <T> T callAs(Long storeId, Supplier<T> supplier) {
+        final Long previousStoreId = STORE_ID.get();
+        setStoreId(storeId);
+        try {
+            return supplier.get();
+        } finally {
+            if (Objects.isNull(previousStoreId)) {
+                STORE_ID.remove();
+            } else {
+                STORE_ID.set(previousStoreId);
+            }
+        }
+    }
+}
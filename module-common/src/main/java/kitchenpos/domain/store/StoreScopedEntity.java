@@ -0,0 +1,42 @@
+package kitchenpos.domain.store;
+
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PostLoad;
+import javax.persistence.PrePersist;
+import kitchenpos.exception.NotFoundException;
+import org.hibernate.annotations.Filter;
+
+/**
+ * 매장별로 나뉘는 Entity. 저장할 때 현재 매장의 store_id를 채우고, 조회 쿼리는 storeFilter로 현재 매장의 행만 읽는다.
+ * id로 직접 읽는 경우에는 Hibernate filter가 적용되지 않으므로, 읽은 뒤에 다른 매장의 것이면 존재하지 않는 것으로 본다.
+ */
+@MappedSuperclass
+@Filter(name = StoreScopedEntity.STORE_FILTER)
+public abstract class StoreScopedEntity {
+
+    public static final String STORE_FILTER = "storeFilter";
+    public static final String STORE_ID_PARAMETER = "storeId";
+
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private Long storeId;
+
+    @PrePersist
+    void assignStoreId() {
+        if (Objects.isNull(storeId)) {
+            storeId = StoreContext.getStoreId();
+        }
+    }
+
+    @PostLoad
+    void verifyStoreId() {
+        if (!Objects.equals(storeId, StoreContext.getStoreId())) {
+            throw new NotFoundException("현재 매장에 해당 id의 " + getClass().getSimpleName() + "가 존재하지 않습니다.");
+        }
+    }
+
+    public Long getStoreId() {
+        return storeId;
+    }
+}
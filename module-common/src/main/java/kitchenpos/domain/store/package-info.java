@@ -0,0 +1,9 @@
+@FilterDef(
+    name = "storeFilter",
+    parameters = @ParamDef(name = "storeId", type = "long"),
+    defaultCondition = "store_id = :storeId"
+)
+package kitchenpos.domain.store;
+
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
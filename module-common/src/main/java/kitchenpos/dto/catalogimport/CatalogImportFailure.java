@@ -0,0 +1,20 @@
+package kitchenpos.dto.catalogimport;
+
+public class CatalogImportFailure {
+
+    private final long lineNumber;
+    private final String message;
+
+    public CatalogImportFailure(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.dto.catalogimport;
+
+import java.util.List;
+
+public class CatalogImportResponse {
+
+    private final int successCount;
+    private final List<CatalogImportFailure> failures;
+
+    public CatalogImportResponse(int successCount, List<CatalogImportFailure> failures) {
+        this.successCount = successCount;
+        this.failures = failures;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public List<CatalogImportFailure> getFailures() {
+        return failures;
+    }
+}
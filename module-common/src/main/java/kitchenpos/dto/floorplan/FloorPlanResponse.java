@@ -0,0 +1,24 @@
+package kitchenpos.dto.floorplan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class FloorPlanResponse {
+
+    private final String version;
+    private final List<FloorPlanTableResponse> tables;
+
+    public FloorPlanResponse(String version, List<FloorPlanTableResponse> tables) {
+        this.version = version;
+        this.tables = Collections.unmodifiableList(new ArrayList<>(tables));
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<FloorPlanTableResponse> getTables() {
+        return tables;
+    }
+}
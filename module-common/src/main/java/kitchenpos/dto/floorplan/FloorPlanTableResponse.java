@@ -0,0 +1,71 @@
+package kitchenpos.dto.floorplan;
+
+import kitchenpos.domain.ordertable.OrderTable;
+import kitchenpos.dto.ordertable.OrderTableResponse;
+
+public class FloorPlanTableResponse {
+
+    private final Long id;
+    private final Long tableGroupId;
+    private final Integer numberOfGuests;
+    private final Boolean empty;
+    private final Long openOrderCount;
+
+    public FloorPlanTableResponse(
+        Long id,
+        Long tableGroupId,
+        Integer numberOfGuests,
+        Boolean empty,
+        Long openOrderCount
+    ) {
+        this.id = id;
+        this.tableGroupId = tableGroupId;
+        this.numberOfGuests = numberOfGuests;
+        this.empty = empty;
+        this.openOrderCount = openOrderCount;
+    }
+
+    public FloorPlanTableResponse(OrderTable orderTable, Long openOrderCount) {
+        this(
+            orderTable.getId(),
+            orderTable.getTableGroupId(),
+            orderTable.getNumberOfGuests(),
+            orderTable.isEmpty(),
+            openOrderCount
+        );
+    }
+
+    public FloorPlanTableResponse(OrderTableResponse orderTableResponse, Long openOrderCount) {
+        this(
+            orderTableResponse.getId(),
+            orderTableResponse.getTableGroupId(),
+            orderTableResponse.getNumberOfGuests(),
+            orderTableResponse.isEmpty(),
+            openOrderCount
+        );
+    }
+
+    public FloorPlanTableResponse withOpenOrderCount(Long newOpenOrderCount) {
+        return new FloorPlanTableResponse(id, tableGroupId, numberOfGuests, empty, newOpenOrderCount);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public Integer getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public Long getOpenOrderCount() {
+        return openOrderCount;
+    }
+}
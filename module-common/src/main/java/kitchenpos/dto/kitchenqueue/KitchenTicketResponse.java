@@ -0,0 +1,46 @@
+package kitchenpos.dto.kitchenqueue;
+
+import java.time.LocalDateTime;
+
+public class KitchenTicketResponse {
+
+    private final Long orderId;
+    private final Long orderTableId;
+    private final Long tableGroupSize;
+    private final LocalDateTime orderedTime;
+    private final LocalDateTime priorityTime;
+
+    public KitchenTicketResponse(
+        Long orderId,
+        Long orderTableId,
+        Long tableGroupSize,
+        LocalDateTime orderedTime,
+        LocalDateTime priorityTime
+    ) {
+        this.orderId = orderId;
+        this.orderTableId = orderTableId;
+        this.tableGroupSize = tableGroupSize;
+        this.orderedTime = orderedTime;
+        this.priorityTime = priorityTime;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getOrderTableId() {
+        return orderTableId;
+    }
+
+    public Long getTableGroupSize() {
+        return tableGroupSize;
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+
+    public LocalDateTime getPriorityTime() {
+        return priorityTime;
+    }
+}
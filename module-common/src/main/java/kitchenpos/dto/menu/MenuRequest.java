@@ -1,13 +1,26 @@
 package kitchenpos.dto.menu;
 
 import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
 import kitchenpos.dto.menuproduct.MenuProductRequest;
 
 public class MenuRequest {
 
+    @NotBlank(message = "비어있을 수 없습니다.")
     private final String name;
+
+    @NotNull(message = "null일 수 없습니다.")
+    @PositiveOrZero(message = "0보다 작을 수 없습니다.")
     private final Integer price;
+
+    @NotNull(message = "null일 수 없습니다.")
     private final Long menuGroupId;
+
+    @NotNull(message = "null일 수 없습니다.")
+    @Valid
     private final List<MenuProductRequest> menuProducts;
 
     public MenuRequest() {
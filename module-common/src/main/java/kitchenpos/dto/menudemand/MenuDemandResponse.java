@@ -0,0 +1,20 @@
+package kitchenpos.dto.menudemand;
+
+public class MenuDemandResponse {
+
+    private final Long menuId;
+    private final Long quantity;
+
+    public MenuDemandResponse(Long menuId, Long quantity) {
+        this.menuId = menuId;
+        this.quantity = quantity;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+}
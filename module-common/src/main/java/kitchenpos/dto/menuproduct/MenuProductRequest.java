@@ -1,8 +1,15 @@
 package kitchenpos.dto.menuproduct;
 
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
 public class MenuProductRequest {
 
+    @NotNull(message = "null일 수 없습니다.")
     private final Long productId;
+
+    @NotNull(message = "null일 수 없습니다.")
+    @PositiveOrZero(message = "0보다 작을 수 없습니다.")
     private final Long quantity;
 
     public MenuProductRequest() {
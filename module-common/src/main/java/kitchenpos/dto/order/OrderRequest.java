@@ -1,13 +1,28 @@
 package kitchenpos.dto.order;
 
 import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
 import kitchenpos.domain.order.OrderStatus;
 import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
 
+/**
+ * 생성과 OrderStatus 변경에 함께 쓰므로, 검증할 때 Create나 ChangeOrderStatus 그룹을 지정한다.
+ */
 public class OrderRequest {
 
+    @NotNull(groups = ChangeOrderStatus.class, message = "null일 수 없습니다.")
     private final OrderStatus orderStatus;
+
+    @NotNull(groups = Create.class, message = "null일 수 없습니다.")
     private final Long orderTableId;
+
+    @NotEmpty(groups = Create.class, message = "비어있을 수 없습니다.")
+    @Valid
+    @ConvertGroup(from = Create.class, to = Default.class)
     private final List<OrderLineItemRequest> orderLineItems;
 
     public OrderRequest() {
@@ -43,4 +58,10 @@ public class OrderRequest {
     public List<OrderLineItemRequest> getOrderLineItems() {
         return orderLineItems;
     }
+
+    public interface Create {
+    }
+
+    public interface ChangeOrderStatus {
+    }
 }
@@ -1,8 +1,15 @@
 package kitchenpos.dto.orderlineitem;
 
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
 public class OrderLineItemRequest {
 
+    @NotNull(message = "null일 수 없습니다.")
     private final Long menuId;
+
+    @NotNull(message = "null일 수 없습니다.")
+    @PositiveOrZero(message = "0보다 작을 수 없습니다.")
     private final Long quantity;
 
     public OrderLineItemRequest() {
@@ -1,9 +1,21 @@
 package kitchenpos.dto.ordertable;
 
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * 생성, empty 변경, numberOfGuests 변경, TableGroup 생성에 함께 쓰므로, 검증할 때 용도에 맞는 그룹을 지정한다.
+ */
 public class OrderTableRequest {
 
+    @NotNull(groups = TableGroupMember.class, message = "null일 수 없습니다.")
     private final Long id;
+
+    @NotNull(groups = {Create.class, ChangeNumberOfGuests.class}, message = "null일 수 없습니다.")
+    @PositiveOrZero(groups = {Create.class, ChangeNumberOfGuests.class}, message = "0보다 작을 수 없습니다.")
     private final Integer numberOfGuests;
+
+    @NotNull(groups = {Create.class, ChangeEmpty.class}, message = "null일 수 없습니다.")
     private final Boolean empty;
 
     public OrderTableRequest(Integer numberOfGuests, Boolean empty) {
@@ -43,4 +55,16 @@ public class OrderTableRequest {
     public Boolean getEmpty() {
         return empty;
     }
+
+    public interface Create {
+    }
+
+    public interface ChangeEmpty {
+    }
+
+    public interface ChangeNumberOfGuests {
+    }
+
+    public interface TableGroupMember {
+    }
 }
@@ -0,0 +1,44 @@
+package kitchenpos.dto.product;
+
+import java.util.List;
+import kitchenpos.domain.product.Product;
+
+public class ProductPriceChangeResponse {
+
+    private final Long id;
+    private final String name;
+    private final Integer price;
+    private final List<Long> priceExceededMenuIds;
+
+    public ProductPriceChangeResponse(Product product, List<Long> priceExceededMenuIds) {
+        this(
+            product.getId(),
+            product.getName(),
+            product.getPriceAsInteger(),
+            priceExceededMenuIds
+        );
+    }
+
+    public ProductPriceChangeResponse(Long id, String name, Integer price, List<Long> priceExceededMenuIds) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.priceExceededMenuIds = priceExceededMenuIds;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+
+    public List<Long> getPriceExceededMenuIds() {
+        return priceExceededMenuIds;
+    }
+}
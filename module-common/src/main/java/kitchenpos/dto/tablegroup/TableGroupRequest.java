@@ -1,10 +1,19 @@
 package kitchenpos.dto.tablegroup;
 
 import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
 import kitchenpos.dto.ordertable.OrderTableRequest;
 
 public class TableGroupRequest {
 
+    @NotNull(message = "null일 수 없습니다.")
+    @Size(min = 2, message = "2개 이상이어야 합니다.")
+    @Valid
+    @ConvertGroup(from = Default.class, to = OrderTableRequest.TableGroupMember.class)
     private final List<OrderTableRequest> orderTables;
 
     public TableGroupRequest() {
@@ -1,8 +1,12 @@
 package kitchenpos.exception;
 
-public class BadRequestException extends RuntimeException {
+public class BadRequestException extends BusinessException {
 
     public BadRequestException(String message) {
-        super(message);
+        this(ErrorCode.BAD_REQUEST, message);
+    }
+
+    protected BadRequestException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
     }
 }
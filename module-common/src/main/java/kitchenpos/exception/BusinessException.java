@@ -0,0 +1,22 @@
+package kitchenpos.exception;
+
+/**
+ * 빈 OrderTable, 이미 끝난 Order처럼 정상적인 흐름에서 요청을 거절할 때 던지는 예외의 최상위 타입.
+ * 거절할 때마다 스택 트레이스를 채우지 않도록 만들고, 원인은 ErrorCode와 메시지로 구분한다.
+ * 디버깅할 때는 -Dkitchenpos.exception.stack-trace=true로 스택 트레이스를 다시 채운다.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private static final boolean WRITABLE_STACK_TRACE = Boolean.getBoolean("kitchenpos.exception.stack-trace");
+
+    private final ErrorCode errorCode;
+
+    protected BusinessException(ErrorCode errorCode, String message) {
+        super(message, null, false, WRITABLE_STACK_TRACE);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,31 @@
+package kitchenpos.exception;
+
+public enum ErrorCode {
+
+    /**
+     * 형식이 올바르지 않은 요청
+     */
+    BAD_REQUEST,
+
+    /**
+     * 요청 본문의 Bean Validation 위반
+     */
+    INVALID_REQUEST_BODY,
+
+    /**
+     * 형식은 맞지만 도메인 규칙상 받을 수 없는 값
+     */
+    INVALID_ARGUMENT,
+
+    /**
+     * 현재 상태와 충돌하는 요청
+     */
+    INVALID_STATE,
+
+    /**
+     * 요청한 대상이 없음
+     */
+    NOT_FOUND,
+
+    INTERNAL_SERVER_ERROR
+}
@@ -1,14 +1,34 @@
 package kitchenpos.exception;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class ExceptionMessage {
 
+    private final String code;
     private final String message;
+    private final List<String> errors;
+
+    public ExceptionMessage(ErrorCode errorCode, String message) {
+        this(errorCode, message, Collections.emptyList());
+    }
 
-    public ExceptionMessage(String message) {
+    public ExceptionMessage(ErrorCode errorCode, String message, List<String> errors) {
+        this.code = errorCode.name();
         this.message = message;
+        this.errors = new ArrayList<>(errors);
+    }
+
+    public String getCode() {
+        return code;
     }
 
     public String getMessage() {
         return message;
     }
+
+    public List<String> getErrors() {
+        return new ArrayList<>(errors);
+    }
 }
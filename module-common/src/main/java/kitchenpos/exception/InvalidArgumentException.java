@@ -3,6 +3,6 @@ package kitchenpos.exception;
 public class InvalidArgumentException extends BadRequestException {
 
     public InvalidArgumentException(String message) {
-        super(message);
+        super(ErrorCode.INVALID_ARGUMENT, message);
     }
 }
@@ -3,6 +3,6 @@ package kitchenpos.exception;
 public class InvalidStateException extends BadRequestException {
 
     public InvalidStateException(String message) {
-        super(message);
+        super(ErrorCode.INVALID_STATE, message);
     }
 }
@@ -3,6 +3,6 @@ package kitchenpos.exception;
 public class NotFoundException extends BadRequestException {
 
     public NotFoundException(String message) {
-        super(message);
+        super(ErrorCode.NOT_FOUND, message);
     }
 }
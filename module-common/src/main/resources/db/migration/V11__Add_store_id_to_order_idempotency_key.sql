@@ -0,0 +1,8 @@
+ALTER TABLE order_idempotency_key
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE order_idempotency_key
+    DROP PRIMARY KEY;
+
+ALTER TABLE order_idempotency_key
+    ADD PRIMARY KEY (store_id, idempotency_key);
@@ -0,0 +1,2 @@
+ALTER TABLE menu
+    DROP INDEX ix_menu_price_products_total_price;
@@ -0,0 +1,17 @@
+ALTER TABLE ordered_menu_archive
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+UPDATE ordered_menu_archive
+SET store_id = (
+    SELECT MAX(orders_archive.store_id)
+    FROM order_line_item_archive
+        JOIN orders_archive ON order_line_item_archive.order_id = orders_archive.id
+    WHERE order_line_item_archive.ordered_menu_id = ordered_menu_archive.id
+)
+WHERE EXISTS (
+    SELECT 1
+    FROM order_line_item_archive
+    WHERE order_line_item_archive.ordered_menu_id = ordered_menu_archive.id
+);
+
+CREATE INDEX ix_ordered_menu_archive_store_id ON ordered_menu_archive (store_id);
@@ -0,0 +1,13 @@
+ALTER TABLE menu
+    ADD products_total_price DECIMAL(19, 2) DEFAULT 0 NOT NULL;
+
+UPDATE menu
+SET products_total_price = (
+    SELECT COALESCE(SUM(product.price * menu_product.quantity), 0)
+    FROM menu_product
+        JOIN product ON menu_product.product_id = product.id
+    WHERE menu_product.menu_id = menu.id
+);
+
+CREATE INDEX ix_menu_price_products_total_price
+    ON menu (price, products_total_price);
@@ -0,0 +1,9 @@
+CREATE TABLE order_idempotency_key (
+    idempotency_key VARCHAR(255) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    order_status VARCHAR(255) NOT NULL,
+    created_date DATETIME NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX ix_order_idempotency_key_created_date ON order_idempotency_key (created_date);
@@ -0,0 +1,28 @@
+CREATE TABLE orders_archive (
+    id BIGINT(20) NOT NULL,
+    order_table_id BIGINT(20) NOT NULL,
+    order_status VARCHAR(255) NOT NULL,
+    ordered_time DATETIME NOT NULL,
+    archived_time DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE ordered_menu_archive (
+    id BIGINT(20) NOT NULL,
+    menu_id BIGINT(20) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    price DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_line_item_archive (
+    seq BIGINT(20) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    ordered_menu_id BIGINT(20) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+CREATE INDEX ix_orders_archive_ordered_time ON orders_archive (ordered_time);
+
+CREATE INDEX ix_order_line_item_archive_order_id ON order_line_item_archive (order_id);
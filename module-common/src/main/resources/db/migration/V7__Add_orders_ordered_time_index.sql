@@ -0,0 +1 @@
+CREATE INDEX ix_orders_ordered_time_order_status ON orders (ordered_time, order_status);
@@ -0,0 +1,41 @@
+ALTER TABLE product
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE menu_group
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE menu
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE table_group
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE order_table
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE orders
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE ordered_menu
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+ALTER TABLE orders_archive
+    ADD store_id BIGINT(20) NOT NULL DEFAULT 1;
+
+CREATE INDEX ix_product_store_id ON product (store_id);
+
+CREATE INDEX ix_menu_group_store_id ON menu_group (store_id);
+
+CREATE INDEX ix_menu_store_id ON menu (store_id);
+
+CREATE INDEX ix_table_group_store_id ON table_group (store_id);
+
+CREATE INDEX ix_order_table_store_id ON order_table (store_id);
+
+CREATE INDEX ix_orders_store_id_order_status ON orders (store_id, order_status);
+
+CREATE INDEX ix_orders_store_id_ordered_time_order_status ON orders (store_id, ordered_time, order_status);
+
+CREATE INDEX ix_ordered_menu_store_id ON ordered_menu (store_id);
+
+CREATE INDEX ix_orders_archive_store_id_ordered_time ON orders_archive (store_id, ordered_time);
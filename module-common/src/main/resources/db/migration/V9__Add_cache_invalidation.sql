@@ -0,0 +1,10 @@
+CREATE TABLE cache_invalidation (
+    id BIGINT(20) NOT NULL AUTO_INCREMENT,
+    store_id BIGINT(20) NOT NULL,
+    region VARCHAR(255) NOT NULL,
+    node_id VARCHAR(255) NOT NULL,
+    created_time DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_cache_invalidation_created_time ON cache_invalidation (created_time);
@@ -0,0 +1,93 @@
+package kitchenpos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+@DisplayName("MigrationChecksumCache 테스트")
+class MigrationChecksumCacheTest {
+
+    private static final String URL = "jdbc:h2:mem:checksum";
+    private static final List<String> LOCATIONS = Collections.singletonList("classpath:db/migration");
+
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+    @DisplayName("마이그레이션 스크립트와 Entity 클래스가 같으면 체크섬이 같다.")
+    @Test
+    void checksum_IsSame_When_InputsAreSame() throws IOException {
+        // when
+        final String checksum = 체크섬을_계산한다("kitchenpos.domain");
+        final String sameChecksum = 체크섬을_계산한다("kitchenpos.domain");
+
+        // then
+        assertThat(sameChecksum).isEqualTo(checksum);
+    }
+
+    @DisplayName("Entity 클래스가 다르면 마이그레이션 스크립트가 같아도 체크섬이 다르다.")
+    @Test
+    void checksum_IsDifferent_When_EntityClassesAreDifferent() throws IOException {
+        // when
+        final String priceChecksum = 체크섬을_계산한다("kitchenpos.domain.price");
+        final String quantityChecksum = 체크섬을_계산한다("kitchenpos.domain.quantity");
+
+        // then
+        assertThat(quantityChecksum).isNotEqualTo(priceChecksum);
+    }
+
+    @DisplayName("Resource를 찾은 순서가 달라도 체크섬이 같다.")
+    @Test
+    void checksum_IsSame_When_ResourceOrderIsDifferent() throws IOException {
+        // given
+        final ResourcePatternResolver reversedResourcePatternResolver = new PathMatchingResourcePatternResolver() {
+            @Override
+            public Resource[] getResources(String locationPattern) throws IOException {
+                final Resource[] resources = super.getResources(locationPattern);
+                Collections.reverse(Arrays.asList(resources));
+                return resources;
+            }
+        };
+
+        // when
+        final String checksum = 체크섬을_계산한다("kitchenpos.domain");
+        final String reversedChecksum = MigrationChecksumCache.checksum(
+            URL, LOCATIONS, Collections.singletonList("kitchenpos.domain"), reversedResourcePatternResolver
+        );
+
+        // then
+        assertThat(reversedChecksum).isEqualTo(checksum);
+    }
+
+    @DisplayName("저장한 체크섬과 같으면 다음에는 검증을 건너뛴다.")
+    @Test
+    void isCached_After_Store(@TempDir Path tempDir) throws IOException {
+        // given
+        final Path cacheFile = tempDir.resolve("flyway.checksum");
+        final String checksum = 체크섬을_계산한다("kitchenpos.domain");
+        final MigrationChecksumCache migrationChecksumCache = new MigrationChecksumCache(cacheFile, checksum);
+
+        // when
+        migrationChecksumCache.store();
+
+        // then
+        assertThat(migrationChecksumCache.isCached()).isFalse();
+        assertThat(new MigrationChecksumCache(cacheFile, checksum).isCached()).isTrue();
+        assertThat(new MigrationChecksumCache(cacheFile, 체크섬을_계산한다("kitchenpos.domain.price")).isCached())
+            .isFalse();
+    }
+
+    private String 체크섬을_계산한다(String entityPackage) throws IOException {
+        return MigrationChecksumCache.checksum(
+            URL, LOCATIONS, Collections.singletonList(entityPackage), resourcePatternResolver
+        );
+    }
+}
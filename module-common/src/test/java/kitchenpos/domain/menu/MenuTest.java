@@ -1,9 +1,12 @@
 package kitchenpos.domain.menu;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.price.Price;
 import kitchenpos.exception.InvalidArgumentException;
 import kitchenpos.fixture.CustomParameterizedTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +32,7 @@ class MenuTest {
         // given
         // when
         // then
-        assertThatCode(() -> new Menu("양념치킨메뉴", price, menuGroup))
+        assertThatCode(() -> new Menu("양념치킨메뉴", new Price(price), new Price(price), menuGroup))
             .doesNotThrowAnyException();
     }
 
@@ -40,7 +43,7 @@ class MenuTest {
         // given
         // when
         // then
-        assertThatThrownBy(() -> new Menu("양념치킨메뉴", price, menuGroup))
+        assertThatThrownBy(() -> new Menu("양념치킨메뉴", new Price(price), new Price(0), menuGroup))
             .isInstanceOf(InvalidArgumentException.class);
     }
 
@@ -50,7 +53,20 @@ class MenuTest {
         // given
         // when
         // then
-        assertThatThrownBy(() -> new Menu("양념치킨메뉴", null, menuGroup))
+        assertThatThrownBy(() -> new Menu("양념치킨메뉴", new Price((BigDecimal) null), new Price(0), menuGroup))
             .isInstanceOf(InvalidArgumentException.class);
     }
+
+    @DisplayName("price와 productsTotalPrice 비교 - 성공 - price > productsTotalPrice 일 때 True, 그 외 False 반환")
+    @Test
+    void isPriceGreaterThanProductsTotalPrice() {
+        // given
+        final Menu menu = new Menu("양념치킨메뉴", new Price(16_000), new Price(16_000), menuGroup);
+        final Menu expensiveMenu = new Menu("양념치킨메뉴", new Price(16_001), new Price(16_000), menuGroup);
+
+        // when
+        // then
+        assertThat(menu.isPriceGreaterThanProductsTotalPrice()).isFalse();
+        assertThat(expensiveMenu.isPriceGreaterThanProductsTotalPrice()).isTrue();
+    }
 }
@@ -0,0 +1,52 @@
+package kitchenpos.domain.orderlineitem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import kitchenpos.domain.quantity.Quantity;
+import kitchenpos.exception.InvalidArgumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderLineItems 도메인 단위테스트")
+class OrderLineItemsTest {
+
+    @DisplayName("Menu별로 합치기 - 성공 - 같은 Menu는 Quantity를 더해 하나로 합치고 처음 나온 순서를 유지한다")
+    @Test
+    void mergeByMenuId_Success() {
+        // given
+        final List<OrderedQuantity> orderedQuantities = Arrays.asList(
+            new OrderedQuantity(2L, new Quantity(1L)),
+            new OrderedQuantity(1L, new Quantity(2L)),
+            new OrderedQuantity(2L, new Quantity(3L)),
+            new OrderedQuantity(3L, new Quantity(0L)),
+            new OrderedQuantity(1L, new Quantity(4L))
+        );
+
+        // when
+        final List<OrderedQuantity> mergedOrderedQuantities = OrderLineItems.mergeByMenuId(orderedQuantities);
+
+        // then
+        assertThat(mergedOrderedQuantities).extracting(OrderedQuantity::getMenuId)
+            .containsExactly(2L, 1L, 3L);
+        assertThat(mergedOrderedQuantities).extracting(OrderedQuantity::getQuantity)
+            .containsExactly(new Quantity(4L), new Quantity(6L), new Quantity(0L));
+    }
+
+    @DisplayName("Menu별로 합치기 - 실패 - 같은 Menu의 Quantity 합이 long 범위를 넘을 때")
+    @Test
+    void mergeByMenuId_Fail_When_SumOverflows() {
+        // given
+        final List<OrderedQuantity> orderedQuantities = Arrays.asList(
+            new OrderedQuantity(1L, new Quantity(Long.MAX_VALUE)),
+            new OrderedQuantity(1L, new Quantity(1L))
+        );
+
+        // when
+        // then
+        assertThatThrownBy(() -> OrderLineItems.mergeByMenuId(orderedQuantities))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
+}
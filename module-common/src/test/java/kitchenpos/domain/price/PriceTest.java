@@ -9,6 +9,7 @@ import kitchenpos.domain.quantity.Quantity;
 import kitchenpos.exception.InvalidArgumentException;
 import kitchenpos.fixture.CustomParameterizedTest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
@@ -89,4 +90,41 @@ class PriceTest {
         // then
         assertThat(price.multiply(quantity)).isEqualTo(expectedResult);
     }
+
+    @DisplayName("덧셈 결과 반환 - 성공")
+    @Test
+    void add() {
+        // given
+        final Price price = new Price(1_000);
+        final Price otherPrice = new Price(500);
+
+        // when
+        // then
+        assertThat(price.add(otherPrice)).isEqualTo(new Price(1_500));
+    }
+
+    @DisplayName("뺄셈 결과 반환 - 성공")
+    @Test
+    void subtract() {
+        // given
+        final Price price = new Price(1_000);
+        final Price otherPrice = new Price(500);
+
+        // when
+        // then
+        assertThat(price.subtract(otherPrice)).isEqualTo(new Price(500));
+    }
+
+    @DisplayName("뺄셈 결과 반환 - 실패 - 결과가 음수일 때")
+    @Test
+    void subtract_Fail_When_ResultIsNegative() {
+        // given
+        final Price price = new Price(500);
+        final Price otherPrice = new Price(1_000);
+
+        // when
+        // then
+        assertThatThrownBy(() -> price.subtract(otherPrice))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
 }
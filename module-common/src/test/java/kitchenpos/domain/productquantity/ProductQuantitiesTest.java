@@ -1,5 +1,6 @@
 package kitchenpos.domain.productquantity;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -45,6 +46,19 @@ class ProductQuantitiesTest {
         ).isInstanceOf(InvalidArgumentException.class);
     }
 
+    @DisplayName("ProductQuantity들의 price 총 합 반환 - 성공")
+    @Test
+    void getProductsTotalPrice() {
+        // given
+        final ProductQuantities productQuantities = new ProductQuantities();
+        productQuantities.add(new ProductQuantity(new Product("햄버거", 6_000), new Quantity(2L)));
+        productQuantities.add(new ProductQuantity(new Product("콜라", 1_500), new Quantity(1L)));
+
+        // when
+        // then
+        assertThat(productQuantities.getProductsTotalPrice()).isEqualTo(new Price(13_500));
+    }
+
     private ProductQuantities 상품이_한_개만_존재하는_ProductQuantities를_생성한다(int priceValue) {
         final Product product = new Product("햄버거", priceValue);
         final Quantity quantity = new Quantity(1L);
@@ -1,11 +1,13 @@
 package kitchenpos.domain.quantity;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import kitchenpos.exception.InvalidArgumentException;
 import kitchenpos.fixture.CustomParameterizedTest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -34,4 +36,29 @@ class QuantityTest {
         assertThatThrownBy(() -> new Quantity(value))
             .isInstanceOf(InvalidArgumentException.class);
     }
+
+    @DisplayName("더하기 - 성공 - 두 Quantity의 합을 반환한다")
+    @Test
+    void add_Success() {
+        // given
+        final Quantity quantity = new Quantity(2L);
+
+        // when
+        final Quantity sum = quantity.add(new Quantity(3L));
+
+        // then
+        assertThat(sum).isEqualTo(new Quantity(5L));
+    }
+
+    @DisplayName("더하기 - 실패 - 합이 long 범위를 넘을 때")
+    @Test
+    void add_Fail_When_SumOverflows() {
+        // given
+        final Quantity quantity = new Quantity(Long.MAX_VALUE);
+
+        // when
+        // then
+        assertThatThrownBy(() -> quantity.add(new Quantity(1L)))
+            .isInstanceOf(InvalidArgumentException.class);
+    }
 }
@@ -0,0 +1,35 @@
+package kitchenpos.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BusinessException 단위테스트")
+class BusinessExceptionTest {
+
+    @DisplayName("생성 - 성공 - 스택 트레이스를 채우지 않는다")
+    @Test
+    void create_Success_WithoutStackTrace() {
+        // given
+        // when
+        final BusinessException exception = new InvalidStateException("이미 끝난 Order입니다.");
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception).hasMessage("이미 끝난 Order입니다.");
+    }
+
+    @DisplayName("생성 - 성공 - 예외 타입마다 ErrorCode를 가진다")
+    @Test
+    void create_Success_WithErrorCode() {
+        // given
+        // when
+        // then
+        assertThat(new BadRequestException("").getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST);
+        assertThat(new InvalidArgumentException("").getErrorCode()).isEqualTo(ErrorCode.INVALID_ARGUMENT);
+        assertThat(new InvalidStateException("").getErrorCode()).isEqualTo(ErrorCode.INVALID_STATE);
+        assertThat(new NotFoundException("").getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND);
+    }
+}
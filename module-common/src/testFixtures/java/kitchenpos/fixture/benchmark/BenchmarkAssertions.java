@@ -0,0 +1,53 @@
+package kitchenpos.fixture.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+/**
+ * 벤치마크 결과를 출력하고, 요청이 기대한 개선이 실제로 나타났는지 비교해서 검증한다.
+ */
+public final class BenchmarkAssertions {
+
+    private BenchmarkAssertions() {
+    }
+
+    public static void report(String title, List<Measurement> measurements) {
+        System.out.println("== " + title);
+        measurements.forEach(System.out::println);
+    }
+
+    /**
+     * candidate의 p50이 baseline의 p50보다 짧다.
+     */
+    public static void assertFasterThan(Measurement candidate, Measurement baseline) {
+        assertThat(candidate.getP50Nanos())
+            .as("%s의 p50이 %s보다 짧아야 합니다.\n%s\n%s", candidate.getLabel(), baseline.getLabel(), candidate, baseline)
+            .isLessThan(baseline.getP50Nanos());
+    }
+
+    /**
+     * candidate가 한 번 실행할 때 할당한 힙이 baseline보다 적다.
+     */
+    public static void assertAllocatesLessThan(Measurement candidate, Measurement baseline) {
+        assertThat(candidate.hasAllocatedBytes() && baseline.hasAllocatedBytes())
+            .as("이 JVM은 스레드별 할당량을 잴 수 없습니다.")
+            .isTrue();
+        assertThat(candidate.getAllocatedBytesPerRun())
+            .as("%s의 할당량이 %s보다 적어야 합니다.\n%s\n%s", candidate.getLabel(), baseline.getLabel(), candidate, baseline)
+            .isLessThan(baseline.getAllocatedBytesPerRun());
+    }
+
+    /**
+     * 데이터가 늘어나는 순서로 잰 measurements에서 마지막 p50이 처음 p50의 maxGrowth배 + slackNanos를 넘지 않는다.
+     * slackNanos는 처음 값이 아주 작을 때 생기는 측정 잡음을 흡수한다.
+     */
+    public static void assertFlat(List<Measurement> measurements, double maxGrowth, long slackNanos) {
+        final Measurement first = measurements.get(0);
+        final Measurement last = measurements.get(measurements.size() - 1);
+        assertThat((double) last.getP50Nanos())
+            .as("%s의 p50이 %s의 %.1f배를 넘지 않아야 합니다.\n%s\n%s",
+                last.getLabel(), first.getLabel(), maxGrowth, first, last)
+            .isLessThanOrEqualTo(first.getP50Nanos() * maxGrowth + slackNanos);
+    }
+}
@@ -0,0 +1,136 @@
+package kitchenpos.fixture.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크 한 항목의 반복 실행 시간과, 실행한 스레드가 한 번에 할당한 힙 크기를 담는다.
+ * 응답 크기, 요청당 SQL 수처럼 시간 외의 값은 metric으로 덧붙인다.
+ */
+public final class Measurement {
+
+    private static final long UNKNOWN = -1;
+
+    private final String label;
+    private final List<Long> sortedNanos;
+    private final long allocatedBytesPerRun;
+    private final Map<String, Number> metrics;
+
+    private Measurement(String label, List<Long> nanos, long allocatedBytesPerRun, Map<String, Number> metrics) {
+        if (nanos.isEmpty()) {
+            throw new IllegalArgumentException(label + "의 측정값이 없습니다.");
+        }
+        this.label = label;
+        this.sortedNanos = new ArrayList<>(nanos);
+        Collections.sort(this.sortedNanos);
+        this.allocatedBytesPerRun = allocatedBytesPerRun;
+        this.metrics = metrics;
+    }
+
+    /**
+     * task를 warmups번 실행해서 버린 뒤 iterations번 실행하며 한 번씩 시간과 할당량을 잰다.
+     */
+    public static Measurement run(String label, int warmups, int iterations, Task task) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            task.run();
+        }
+        final List<Long> nanos = new ArrayList<>(iterations);
+        final long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            task.run();
+            nanos.add(System.nanoTime() - start);
+        }
+        final long allocatedAfter = allocatedBytes();
+        final long allocatedBytesPerRun =
+            allocatedBefore == UNKNOWN ? UNKNOWN : (allocatedAfter - allocatedBefore) / iterations;
+        return new Measurement(label, nanos, allocatedBytesPerRun, new LinkedHashMap<>());
+    }
+
+    /**
+     * 다른 프로세스의 시작 시간처럼 밖에서 잰 값을 담는다.
+     */
+    public static Measurement ofMillis(String label, List<Long> millis) {
+        final List<Long> nanos = millis.stream()
+            .map(TimeUnit.MILLISECONDS::toNanos)
+            .collect(Collectors.toList());
+        return new Measurement(label, nanos, UNKNOWN, new LinkedHashMap<>());
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return UNKNOWN;
+        }
+        return ((com.sun.management.ThreadMXBean) threadMXBean)
+            .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public Measurement withMetric(String name, Number value) {
+        final Map<String, Number> newMetrics = new LinkedHashMap<>(metrics);
+        newMetrics.put(name, value);
+        return new Measurement(label, sortedNanos, allocatedBytesPerRun, newMetrics);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getCount() {
+        return sortedNanos.size();
+    }
+
+    public long getP50Nanos() {
+        return sortedNanos.get(sortedNanos.size() / 2);
+    }
+
+    public long getP99Nanos() {
+        return sortedNanos.get(sortedNanos.size() * 99 / 100);
+    }
+
+    public long getMaxNanos() {
+        return sortedNanos.get(sortedNanos.size() - 1);
+    }
+
+    public boolean hasAllocatedBytes() {
+        return allocatedBytesPerRun != UNKNOWN;
+    }
+
+    public long getAllocatedBytesPerRun() {
+        return allocatedBytesPerRun;
+    }
+
+    public Number getMetric(String name) {
+        final Number value = metrics.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(label + "에 " + name + " metric이 없습니다.");
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder(String.format(
+            "[%s] n=%d, p50=%.3fms, p99=%.3fms, max=%.3fms",
+            label, getCount(), getP50Nanos() / 1_000_000.0, getP99Nanos() / 1_000_000.0, getMaxNanos() / 1_000_000.0
+        ));
+        if (hasAllocatedBytes()) {
+            stringBuilder.append(String.format(", allocated=%.2fMB/run", allocatedBytesPerRun / (1024.0 * 1024.0)));
+        }
+        metrics.forEach((name, value) -> stringBuilder.append(", ").append(name).append('=').append(value));
+        return stringBuilder.toString();
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        void run() throws Exception;
+    }
+}
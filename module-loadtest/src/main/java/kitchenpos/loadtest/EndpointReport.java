@@ -0,0 +1,78 @@
+package kitchenpos.loadtest;
+
+public class EndpointReport {
+
+    private final String name;
+    private final long requests;
+    private final long errors;
+    private final double errorRate;
+    private final double throughput;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public EndpointReport(
+        String name,
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+    ) {
+        this.name = name;
+        this.requests = requests;
+        this.errors = errors;
+        this.errorRate = requests == 0 ? 0.0 : (double) errors / requests;
+        this.throughput = throughput;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%-28s requests=%7d, errors=%5.2f%%, throughput=%8.1f/s, p50=%7.2fms, p95=%7.2fms, p99=%7.2fms",
+            name, requests, errorRate * 100, throughput, p50Millis, p95Millis, p99Millis);
+    }
+}
@@ -0,0 +1,138 @@
+package kitchenpos.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import kitchenpos.loadtest.HttpRequestTemplate.Capture;
+
+/**
+ * IntelliJ HTTP Client 형식의 .http 파일을 읽는다.
+ * ### 로 요청을 나누고, # @name 주석을 요청 이름으로, > {% %} response handler의 client.global.set을 변수 캡처로 쓴다.
+ * 이름이 없는 요청은 "METHOD url"을 이름으로 쓴다.
+ */
+class HttpFileParser {
+
+    private static final String SEPARATOR = "###";
+    private static final Pattern NAME = Pattern.compile("^(#|//)\\s*@name\\s+(\\S+)\\s*$");
+    private static final Pattern REQUEST_LINE = Pattern.compile("^([A-Z]+)\\s+(\\S+)(\\s+HTTP/\\S+)?$");
+    private static final Pattern CAPTURE = Pattern.compile(
+        "client\\.global\\.set\\(\"(\\w+)\",\\s*response\\.(?:body\\.(\\w+)|headers\\.valueOf\\(\"([^\"]+)\"\\))\\)"
+    );
+
+    Map<String, HttpRequestTemplate> parseDirectory(Path directory) {
+        final Map<String, HttpRequestTemplate> templates = new LinkedHashMap<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            final List<Path> httpFiles = paths.filter(path -> path.toString().endsWith(".http"))
+                .sorted()
+                .collect(Collectors.toList())
+                ;
+            for (Path httpFile : httpFiles) {
+                for (HttpRequestTemplate template : parse(Files.readAllLines(httpFile, StandardCharsets.UTF_8))) {
+                    templates.putIfAbsent(template.getName(), template);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return templates;
+    }
+
+    List<HttpRequestTemplate> parse(List<String> lines) {
+        final List<HttpRequestTemplate> templates = new ArrayList<>();
+        List<String> block = new ArrayList<>();
+        for (String line : lines) {
+            if (line.startsWith(SEPARATOR)) {
+                parseBlock(block).ifPresent(templates::add);
+                block = new ArrayList<>();
+                continue;
+            }
+            block.add(line);
+        }
+        parseBlock(block).ifPresent(templates::add);
+        return templates;
+    }
+
+    private Optional<HttpRequestTemplate> parseBlock(List<String> block) {
+        String name = null;
+        int index = 0;
+        Matcher requestLine = null;
+        for (; index < block.size(); index++) {
+            final String line = block.get(index).trim();
+            final Matcher nameMatcher = NAME.matcher(line);
+            if (nameMatcher.matches()) {
+                name = nameMatcher.group(2);
+                continue;
+            }
+            if (line.isEmpty() || line.startsWith("#") || line.startsWith("//")) {
+                continue;
+            }
+            requestLine = REQUEST_LINE.matcher(line);
+            index++;
+            break;
+        }
+        if (requestLine == null || !requestLine.matches()) {
+            return Optional.empty();
+        }
+
+        final Map<String, String> headers = new LinkedHashMap<>();
+        for (; index < block.size() && !block.get(index).trim().isEmpty(); index++) {
+            final String header = block.get(index);
+            final int colon = header.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            headers.put(header.substring(0, colon).trim(), header.substring(colon + 1).trim());
+        }
+
+        final List<String> bodyLines = new ArrayList<>();
+        final List<Capture> captures = new ArrayList<>();
+        for (; index < block.size(); index++) {
+            final String line = block.get(index);
+            if (line.trim().startsWith(">")) {
+                captures.addAll(parseCaptures(block.subList(index, block.size())));
+                break;
+            }
+            bodyLines.add(line);
+        }
+
+        final String method = requestLine.group(1);
+        final String url = requestLine.group(2);
+        return Optional.of(new HttpRequestTemplate(
+            name == null ? method + " " + url : name,
+            method,
+            url,
+            headers,
+            toBody(bodyLines),
+            captures
+        ));
+    }
+
+    private List<Capture> parseCaptures(List<String> handlerLines) {
+        final List<Capture> captures = new ArrayList<>();
+        final Matcher matcher = CAPTURE.matcher(String.join("\n", handlerLines));
+        while (matcher.find()) {
+            final boolean fromHeader = matcher.group(2) == null;
+            captures.add(new Capture(matcher.group(1), fromHeader, fromHeader ? matcher.group(3) : matcher.group(2)));
+        }
+        return captures;
+    }
+
+    private String toBody(List<String> bodyLines) {
+        final String body = String.join("\n", bodyLines).trim();
+        if (body.isEmpty()) {
+            return null;
+        }
+        return body;
+    }
+}
@@ -0,0 +1,160 @@
+package kitchenpos.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * .http 파일의 요청 하나. url, header, body의 {{변수}}는 보낼 때 가상 사용자의 변수로 치환한다.
+ */
+class HttpRequestTemplate {
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{(\\w+)}}");
+
+    private final String name;
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers;
+    private final String body;
+    private final List<Capture> captures;
+
+    HttpRequestTemplate(
+        String name,
+        String method,
+        String url,
+        Map<String, String> headers,
+        String body,
+        List<Capture> captures
+    ) {
+        this.name = name;
+        this.method = method;
+        this.url = url;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body;
+        this.captures = Collections.unmodifiableList(new ArrayList<>(captures));
+    }
+
+    /**
+     * 치환할 변수가 하나라도 없으면 empty를 반환한다.
+     */
+    Optional<RenderedRequest> render(Map<String, String> variables) {
+        final Map<String, String> renderedHeaders = new LinkedHashMap<>();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            final String value = replace(header.getValue(), variables);
+            if (Objects.isNull(value)) {
+                return Optional.empty();
+            }
+            renderedHeaders.put(header.getKey(), value);
+        }
+        final String renderedUrl = replace(url, variables);
+        final String renderedBody = Objects.isNull(body) ? null : replace(body, variables);
+        if (Objects.isNull(renderedUrl) || (Objects.nonNull(body) && Objects.isNull(renderedBody))) {
+            return Optional.empty();
+        }
+        return Optional.of(new RenderedRequest(method, renderedUrl, renderedHeaders, renderedBody));
+    }
+
+    private String replace(String text, Map<String, String> variables) {
+        final Matcher matcher = VARIABLE.matcher(text);
+        final StringBuffer replaced = new StringBuffer();
+        while (matcher.find()) {
+            final String value = variables.get(matcher.group(1));
+            if (Objects.isNull(value)) {
+                return null;
+            }
+            matcher.appendReplacement(replaced, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(replaced);
+        return replaced.toString();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    String getBody() {
+        return body;
+    }
+
+    List<Capture> getCaptures() {
+        return captures;
+    }
+
+    static class RenderedRequest {
+
+        private final String method;
+        private final String url;
+        private final Map<String, String> headers;
+        private final String body;
+
+        RenderedRequest(String method, String url, Map<String, String> headers, String body) {
+            this.method = method;
+            this.url = url;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        String getMethod() {
+            return method;
+        }
+
+        String getUrl() {
+            return url;
+        }
+
+        Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        String getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * response handler의 client.global.set("variable", response.body.field) 또는
+     * client.global.set("variable", response.headers.valueOf("Header"))를 나타낸다.
+     */
+    static class Capture {
+
+        private final String variable;
+        private final boolean fromHeader;
+        private final String key;
+
+        Capture(String variable, boolean fromHeader, String key) {
+            this.variable = variable;
+            this.fromHeader = fromHeader;
+            this.key = key;
+        }
+
+        String getVariable() {
+            return variable;
+        }
+
+        boolean isFromHeader() {
+            return fromHeader;
+        }
+
+        String getKey() {
+            return key;
+        }
+    }
+}
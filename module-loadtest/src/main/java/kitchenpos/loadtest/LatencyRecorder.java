@@ -0,0 +1,65 @@
+package kitchenpos.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 요청 이름의 응답 시간을 모은다. 가상 사용자마다 따로 쓰고, 끝난 뒤 merge한다.
+ */
+class LatencyRecorder {
+
+    private long[] latencyNanos = new long[1024];
+    private int count;
+    private long errorCount;
+    private long unsentCount;
+
+    void record(long nanos, boolean error) {
+        if (count == latencyNanos.length) {
+            latencyNanos = Arrays.copyOf(latencyNanos, count * 2);
+        }
+        latencyNanos[count++] = nanos;
+        if (error) {
+            errorCount++;
+        }
+    }
+
+    /**
+     * 변수가 없어서 보내지 못한 요청은 응답 시간 없이 오류로만 센다.
+     */
+    void recordUnsent() {
+        unsentCount++;
+        errorCount++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencyNanos.length) {
+            latencyNanos = Arrays.copyOf(latencyNanos, count + other.count);
+        }
+        System.arraycopy(other.latencyNanos, 0, latencyNanos, count, other.count);
+        count += other.count;
+        errorCount += other.errorCount;
+        unsentCount += other.unsentCount;
+    }
+
+    EndpointReport toReport(String name, double measuredSeconds) {
+        final long[] sorted = Arrays.copyOf(latencyNanos, count);
+        Arrays.sort(sorted);
+        return new EndpointReport(
+            name,
+            count + unsentCount,
+            errorCount,
+            count / measuredSeconds,
+            percentileMillis(sorted, 0.50),
+            percentileMillis(sorted, 0.95),
+            percentileMillis(sorted, 0.99),
+            count == 0 ? 0.0 : sorted[count - 1] / 1_000_000.0
+        );
+    }
+
+    private double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,48 @@
+package kitchenpos.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class LoadTestReport {
+
+    private final String scenario;
+    private final int users;
+    private final double measuredSeconds;
+    private final EndpointReport total;
+    private final List<EndpointReport> endpoints;
+
+    public LoadTestReport(
+        String scenario,
+        int users,
+        double measuredSeconds,
+        EndpointReport total,
+        List<EndpointReport> endpoints
+    ) {
+        this.scenario = scenario;
+        this.users = users;
+        this.measuredSeconds = measuredSeconds;
+        this.total = total;
+        this.endpoints = Collections.unmodifiableList(new ArrayList<>(endpoints));
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public double getMeasuredSeconds() {
+        return measuredSeconds;
+    }
+
+    public EndpointReport getTotal() {
+        return total;
+    }
+
+    public List<EndpointReport> getEndpoints() {
+        return endpoints;
+    }
+}
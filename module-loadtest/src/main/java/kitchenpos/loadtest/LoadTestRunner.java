@@ -0,0 +1,162 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import kitchenpos.ModuleWebApplication;
+import kitchenpos.loadtest.HttpRequestTemplate.RenderedRequest;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * http/*.http의 요청으로 만든 시나리오를 여러 가상 사용자로 재생하고,
+ * 요청 이름별 처리량, p50/p95/p99 응답 시간, 오류율을 {report-dir}/{scenario}.json으로 남긴다.
+ *
+ * 인자 : --scenario=lunch-rush --http-dir=http --report-dir=build/loadtest [--host=http://localhost:8080]
+ *        [--users=16] [--duration=PT30S] [--warmup=PT5S] [--profiles=synthetic-data] [--kitchenpos.*=...]
+ * host가 없으면 module-web을 H2로 임의 포트에 띄워서 대상으로 쓴다. 이때 profiles와 kitchenpos.* 인자를 module-web에 넘긴다.
+ */
+public class LoadTestRunner {
+
+    private static final List<String> SCENARIO_OVERRIDES = Arrays.asList("users", "duration", "warmup");
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> arguments = parseArguments(args);
+        final Map<String, HttpRequestTemplate> templates =
+            new HttpFileParser().parseDirectory(Paths.get(arguments.getOrDefault("http-dir", "http")));
+        final Map<String, String> overrides = new HashMap<>();
+        for (String key : SCENARIO_OVERRIDES) {
+            if (arguments.containsKey(key)) {
+                overrides.put(key, arguments.get(key));
+            }
+        }
+        final Scenario scenario = Scenario.load(arguments.getOrDefault("scenario", "lunch-rush"), templates, overrides);
+
+        ConfigurableApplicationContext applicationContext = null;
+        String host = arguments.get("host");
+        if (Objects.isNull(host)) {
+            applicationContext = startModuleWeb(arguments);
+            host = "http://localhost:" + ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        }
+        try {
+            final LoadTestReport report = new LoadTestRunner().run(scenario, host);
+            write(report, Paths.get(arguments.getOrDefault("report-dir", "build/loadtest")));
+        } finally {
+            if (Objects.nonNull(applicationContext)) {
+                applicationContext.close();
+            }
+        }
+    }
+
+    private static Map<String, String> parseArguments(String[] args) {
+        final Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                final int equals = arg.indexOf('=');
+                arguments.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return arguments;
+    }
+
+    private static ConfigurableApplicationContext startModuleWeb(Map<String, String> arguments) {
+        final List<String> properties = new ArrayList<>(Arrays.asList(
+            "server.port=0",
+            "logging.level.org.springframework.jdbc.core.JdbcTemplate=warn",
+            "logging.level.org.hibernate.SQL=warn",
+            "logging.level.org.hibernate.type=warn"
+        ));
+        arguments.forEach((key, value) -> {
+            if (key.startsWith("kitchenpos.")) {
+                properties.add(key + "=" + value);
+            }
+        });
+        final SpringApplicationBuilder applicationBuilder = new SpringApplicationBuilder(ModuleWebApplication.class)
+            .properties(properties.toArray(new String[0]));
+        if (arguments.containsKey("profiles")) {
+            applicationBuilder.profiles(arguments.get("profiles").split(","));
+        }
+        return applicationBuilder.run();
+    }
+
+    LoadTestReport run(Scenario scenario, String host) throws InterruptedException, ExecutionException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<String, String> variables = Collections.singletonMap("host", host);
+        runSetup(scenario, objectMapper, variables);
+
+        final long measureFromNanos = System.nanoTime() + scenario.getWarmup().toNanos();
+        final long endNanos = measureFromNanos + scenario.getDuration().toNanos();
+        final ExecutorService executorService = Executors.newFixedThreadPool(scenario.getUsers());
+        final Map<String, LatencyRecorder> recorders = new TreeMap<>();
+        try {
+            final List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < scenario.getUsers(); i++) {
+                futures.add(executorService.submit(
+                    new VirtualUser(scenario, objectMapper, variables, measureFromNanos, endNanos)
+                ));
+            }
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                future.get().forEach((name, recorder) ->
+                    recorders.computeIfAbsent(name, key -> new LatencyRecorder()).merge(recorder));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return toReport(scenario, recorders);
+    }
+
+    private void runSetup(Scenario scenario, ObjectMapper objectMapper, Map<String, String> variables) {
+        final VirtualUser setupUser = new VirtualUser(scenario, objectMapper, variables, Long.MAX_VALUE, 0L);
+        for (HttpRequestTemplate template : scenario.getSetupRequests()) {
+            final RenderedRequest request = template.render(variables)
+                .orElseThrow(() -> new IllegalStateException(template.getName() + " 요청의 변수를 채울 수 없습니다."));
+            if (!setupUser.send(template, request)) {
+                throw new IllegalStateException(template.getName() + " setup 요청이 실패했습니다.");
+            }
+        }
+    }
+
+    private LoadTestReport toReport(Scenario scenario, Map<String, LatencyRecorder> recorders) {
+        final double measuredSeconds = scenario.getDuration().toNanos() / 1_000_000_000.0;
+        final List<EndpointReport> endpoints = new ArrayList<>();
+        final LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach((name, recorder) -> {
+            endpoints.add(recorder.toReport(name, measuredSeconds));
+            total.merge(recorder);
+        });
+        return new LoadTestReport(
+            scenario.getName(),
+            scenario.getUsers(),
+            measuredSeconds,
+            total.toReport("total", measuredSeconds),
+            endpoints
+        );
+    }
+
+    private static void write(LoadTestReport report, Path reportDirectory) throws IOException {
+        Files.createDirectories(reportDirectory);
+        final Path reportFile = reportDirectory.resolve(report.getScenario() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(reportFile.toFile(), report);
+
+        report.getEndpoints().forEach(System.out::println);
+        System.out.println(report.getTotal());
+        System.out.println("report : " + reportFile.toAbsolutePath());
+    }
+}
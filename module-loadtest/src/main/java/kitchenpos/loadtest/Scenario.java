@@ -0,0 +1,146 @@
+package kitchenpos.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * scenarios/{name}.properties에 정의한 부하 시나리오.
+ * setup의 요청은 부하를 걸기 전에 한 번씩 보내고, steps의 요청은 name:weight 비율로 무작위로 골라 보낸다.
+ */
+class Scenario {
+
+    private final String name;
+    private final List<HttpRequestTemplate> setupRequests;
+    private final List<HttpRequestTemplate> stepRequests;
+    private final int[] cumulativeWeights;
+    private final int users;
+    private final Duration duration;
+    private final Duration warmup;
+
+    private Scenario(
+        String name,
+        List<HttpRequestTemplate> setupRequests,
+        List<HttpRequestTemplate> stepRequests,
+        int[] cumulativeWeights,
+        int users,
+        Duration duration,
+        Duration warmup
+    ) {
+        this.name = name;
+        this.setupRequests = Collections.unmodifiableList(setupRequests);
+        this.stepRequests = Collections.unmodifiableList(stepRequests);
+        this.cumulativeWeights = cumulativeWeights;
+        this.users = users;
+        this.duration = duration;
+        this.warmup = warmup;
+    }
+
+    /**
+     * overrides의 users, duration, warmup이 있으면 시나리오 파일의 값 대신 쓴다.
+     */
+    static Scenario load(String name, Map<String, HttpRequestTemplate> templates, Map<String, String> overrides) {
+        final Properties properties = loadProperties(name);
+        overrides.forEach(properties::setProperty);
+
+        final List<HttpRequestTemplate> setupRequests = new ArrayList<>();
+        for (String setupName : split(properties.getProperty("setup", ""))) {
+            setupRequests.add(findTemplate(templates, setupName));
+        }
+
+        final List<HttpRequestTemplate> stepRequests = new ArrayList<>();
+        final List<String> steps = split(properties.getProperty("steps", ""));
+        final int[] cumulativeWeights = new int[steps.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            final String[] nameAndWeight = steps.get(i).split(":");
+            stepRequests.add(findTemplate(templates, nameAndWeight[0].trim()));
+            totalWeight += nameAndWeight.length == 2 ? Integer.parseInt(nameAndWeight[1].trim()) : 1;
+            cumulativeWeights[i] = totalWeight;
+        }
+        if (stepRequests.isEmpty()) {
+            throw new IllegalArgumentException("시나리오 " + name + "에 steps가 없습니다.");
+        }
+
+        return new Scenario(
+            name,
+            setupRequests,
+            stepRequests,
+            cumulativeWeights,
+            Integer.parseInt(properties.getProperty("users", "8")),
+            Duration.parse(properties.getProperty("duration", "PT30S")),
+            Duration.parse(properties.getProperty("warmup", "PT5S"))
+        );
+    }
+
+    private static Properties loadProperties(String name) {
+        final Properties properties = new Properties();
+        try (InputStream inputStream = Scenario.class.getResourceAsStream("/scenarios/" + name + ".properties")) {
+            if (Objects.isNull(inputStream)) {
+                throw new IllegalArgumentException("시나리오 " + name + "이 존재하지 않습니다.");
+            }
+            properties.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    private static List<String> split(String value) {
+        final List<String> values = new ArrayList<>();
+        for (String token : value.split(",")) {
+            if (!token.trim().isEmpty()) {
+                values.add(token.trim());
+            }
+        }
+        return values;
+    }
+
+    private static HttpRequestTemplate findTemplate(Map<String, HttpRequestTemplate> templates, String name) {
+        final HttpRequestTemplate template = templates.get(name);
+        if (Objects.isNull(template)) {
+            throw new IllegalArgumentException("http 파일에 " + name + " 요청이 존재하지 않습니다.");
+        }
+        return template;
+    }
+
+    HttpRequestTemplate nextStep() {
+        final int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return stepRequests.get(i);
+            }
+        }
+        return stepRequests.get(stepRequests.size() - 1);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<HttpRequestTemplate> getSetupRequests() {
+        return setupRequests;
+    }
+
+    int getUsers() {
+        return users;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+}
@@ -0,0 +1,144 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import kitchenpos.loadtest.HttpRequestTemplate.Capture;
+import kitchenpos.loadtest.HttpRequestTemplate.RenderedRequest;
+
+/**
+ * 종료 시각까지 시나리오의 요청을 하나씩 보낸다. 캡처한 변수는 이 가상 사용자 안에서만 쓴다.
+ * measureFrom 이전의 응답은 warmup으로 보고 기록하지 않는다.
+ * 캡처하지 못한 변수 때문에 보내지 못한 요청은 warmup 중이어도 오류로 기록한다.
+ * 연달아 보내지 못하면 더 바뀔 변수가 없으므로 멈춘다.
+ */
+class VirtualUser implements Callable<Map<String, LatencyRecorder>> {
+
+    private static final int TIMEOUT_MILLIS = 10_000;
+    private static final int MAX_CONSECUTIVE_UNSENT = 100;
+
+    private final Scenario scenario;
+    private final ObjectMapper objectMapper;
+    private final Map<String, String> variables;
+    private final long measureFromNanos;
+    private final long endNanos;
+    private final Map<String, LatencyRecorder> recorders = new TreeMap<>();
+
+    VirtualUser(
+        Scenario scenario,
+        ObjectMapper objectMapper,
+        Map<String, String> variables,
+        long measureFromNanos,
+        long endNanos
+    ) {
+        this.scenario = scenario;
+        this.objectMapper = objectMapper;
+        this.variables = new HashMap<>(variables);
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+    }
+
+    @Override
+    public Map<String, LatencyRecorder> call() {
+        int consecutiveUnsent = 0;
+        while (System.nanoTime() < endNanos && consecutiveUnsent < MAX_CONSECUTIVE_UNSENT) {
+            final HttpRequestTemplate template = scenario.nextStep();
+            final Optional<RenderedRequest> request = template.render(variables);
+            if (!request.isPresent()) {
+                consecutiveUnsent++;
+                recorderOf(template).recordUnsent();
+                continue;
+            }
+            consecutiveUnsent = 0;
+            final long start = System.nanoTime();
+            final boolean error = !send(template, request.get());
+            if (start >= measureFromNanos) {
+                recorderOf(template).record(System.nanoTime() - start, error);
+            }
+        }
+        return recorders;
+    }
+
+    private LatencyRecorder recorderOf(HttpRequestTemplate template) {
+        return recorders.computeIfAbsent(template.getName(), name -> new LatencyRecorder());
+    }
+
+    /**
+     * 4xx, 5xx 응답이나 I/O 오류면 false를 반환한다.
+     */
+    boolean send(HttpRequestTemplate template, RenderedRequest request) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(request.getUrl()).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            connection.setRequestMethod(request.getMethod());
+            request.getHeaders().forEach(connection::setRequestProperty);
+            if (Objects.nonNull(request.getBody())) {
+                connection.setDoOutput(true);
+                try (OutputStream outputStream = connection.getOutputStream()) {
+                    outputStream.write(request.getBody().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            final int status = connection.getResponseCode();
+            if (status >= 400) {
+                readFully(connection.getErrorStream());
+                return false;
+            }
+            capture(template, connection, readFully(connection.getInputStream()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private byte[] readFully(InputStream inputStream) throws IOException {
+        if (Objects.isNull(inputStream)) {
+            return new byte[0];
+        }
+        try (InputStream closingInputStream = inputStream) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = closingInputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private void capture(HttpRequestTemplate template, HttpURLConnection connection, byte[] responseBody)
+        throws IOException {
+        if (template.getCaptures().isEmpty()) {
+            return;
+        }
+        JsonNode body = null;
+        for (Capture capture : template.getCaptures()) {
+            if (capture.isFromHeader()) {
+                final String value = connection.getHeaderField(capture.getKey());
+                if (Objects.nonNull(value)) {
+                    variables.put(capture.getVariable(), value);
+                }
+                continue;
+            }
+            if (Objects.isNull(body)) {
+                body = objectMapper.readTree(responseBody);
+            }
+            final JsonNode value = body.get(capture.getKey());
+            if (Objects.nonNull(value)) {
+                variables.put(capture.getVariable(), value.asText());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kitchenpos.loadtest.HttpRequestTemplate.RenderedRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HttpFileParser 테스트")
+class HttpFileParserTest {
+
+    private final HttpFileParser httpFileParser = new HttpFileParser();
+
+    @DisplayName("### 로 나뉜 요청의 이름, method, url, header, body, 변수 캡처를 읽는다.")
+    @Test
+    void parse() {
+        // given
+        final List<String> lines = Arrays.asList(
+            "###",
+            "# @name createOrder",
+            "POST {{host}}/api/orders",
+            "Content-Type: application/json",
+            "",
+            "{",
+            "  \"orderTableId\": 1",
+            "}",
+            "",
+            "> {% client.global.set(\"orderId\", response.body.id); %}",
+            "",
+            "###",
+            "GET {{host}}/api/menus",
+            "",
+            "> {% client.global.set(\"menusETag\", response.headers.valueOf(\"ETag\")); %}",
+            "",
+            "###"
+        );
+
+        // when
+        final List<HttpRequestTemplate> templates = httpFileParser.parse(lines);
+
+        // then
+        assertThat(templates).extracting(HttpRequestTemplate::getName)
+            .containsExactly("createOrder", "GET {{host}}/api/menus");
+
+        final HttpRequestTemplate createOrder = templates.get(0);
+        assertThat(createOrder.getMethod()).isEqualTo("POST");
+        assertThat(createOrder.getHeaders()).containsEntry("Content-Type", "application/json");
+        assertThat(createOrder.getBody()).isEqualTo("{\n  \"orderTableId\": 1\n}");
+        assertThat(createOrder.getCaptures()).hasSize(1);
+        assertThat(createOrder.getCaptures().get(0).getVariable()).isEqualTo("orderId");
+        assertThat(createOrder.getCaptures().get(0).isFromHeader()).isFalse();
+        assertThat(createOrder.getCaptures().get(0).getKey()).isEqualTo("id");
+
+        final HttpRequestTemplate findMenus = templates.get(1);
+        assertThat(findMenus.getBody()).isNull();
+        assertThat(findMenus.getCaptures().get(0).isFromHeader()).isTrue();
+        assertThat(findMenus.getCaptures().get(0).getKey()).isEqualTo("ETag");
+    }
+
+    @DisplayName("변수를 모두 채울 수 있을 때만 요청을 만든다.")
+    @Test
+    void render() {
+        // given
+        final HttpRequestTemplate template = httpFileParser.parse(Arrays.asList(
+            "PUT {{host}}/api/orders/{{orderId}}/order-status",
+            "Content-Type: application/json",
+            "",
+            "{\"orderStatus\": \"MEAL\"}"
+        )).get(0);
+        final Map<String, String> variables = new HashMap<>(Collections.singletonMap("host", "http://localhost"));
+
+        // when
+        final boolean renderedWithoutOrderId = template.render(variables).isPresent();
+        variables.put("orderId", "7");
+        final RenderedRequest request = template.render(variables).orElseThrow(IllegalStateException::new);
+
+        // then
+        assertThat(renderedWithoutOrderId).isFalse();
+        assertThat(request.getUrl()).isEqualTo("http://localhost/api/orders/7/order-status");
+        assertThat(request.getBody()).isEqualTo("{\"orderStatus\": \"MEAL\"}");
+    }
+}
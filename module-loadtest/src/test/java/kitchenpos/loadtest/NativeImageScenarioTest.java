@@ -0,0 +1,116 @@
+package kitchenpos.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * module-web native 실행 파일을 native 프로필(H2, Flyway 대신 schema 스크립트)로 띄우고
+ * 부하 테스트 시나리오를 짧게 한 번씩 재생해서 모든 요청이 성공하는지 확인한다.
+ * 실행 파일 경로는 ./gradlew -Pnative :module-loadtest:nativeTest 가 넘겨준다.
+ */
+@Tag("native")
+@DisplayName("module-web native image 시나리오 테스트")
+class NativeImageScenarioTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static Process process;
+    private static String host;
+
+    @BeforeAll
+    static void startNativeImage() throws Exception {
+        final String executable = System.getProperty("kitchenpos.native.executable");
+        assumeTrue(Objects.nonNull(executable) && Files.isExecutable(Paths.get(executable)),
+            "./gradlew -Pnative :module-loadtest:nativeTest 로 실행해야 합니다.");
+        final int port = findFreePort();
+        final Path log = Files.createTempFile("module-web-native", ".log");
+        process = new ProcessBuilder(Arrays.asList(
+            executable, "--server.port=" + port, "--spring.profiles.active=module-web-local,native"
+        ))
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        host = "http://localhost:" + port;
+
+        final long start = System.nanoTime();
+        while (!respondsOk(new URL(host + "/actuator/health"))) {
+            if (!process.isAlive() || System.nanoTime() - start > STARTUP_TIMEOUT.toNanos()) {
+                throw new IllegalStateException("native image가 시작되지 않았습니다. " + log);
+            }
+            Thread.sleep(10);
+        }
+        System.out.println("native image 첫 응답까지 " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+    }
+
+    @AfterAll
+    static void stopNativeImage() throws InterruptedException {
+        if (Objects.isNull(process)) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    @DisplayName("시나리오의 모든 요청이 오류 없이 응답한다")
+    @ParameterizedTest
+    @ValueSource(strings = {"lunch-rush", "browse"})
+    void replay(String scenarioName) throws Exception {
+        final Map<String, String> overrides = new HashMap<>();
+        overrides.put("users", "2");
+        overrides.put("duration", "PT5S");
+        overrides.put("warmup", "PT0S");
+        final Scenario scenario = Scenario.load(
+            scenarioName,
+            new HttpFileParser().parseDirectory(Paths.get(System.getProperty("kitchenpos.http.dir"))),
+            overrides
+        );
+
+        final LoadTestReport report = new LoadTestRunner().run(scenario, host);
+
+        report.getEndpoints().forEach(System.out::println);
+        assertThat(report.getTotal().getRequests()).isPositive();
+        assertThat(report.getEndpoints()).allSatisfy(endpoint -> assertThat(endpoint.getErrors()).isZero());
+    }
+
+    private static boolean respondsOk(URL url) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(1_000);
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
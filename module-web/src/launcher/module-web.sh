@@ -0,0 +1,106 @@
+#!/bin/sh
+#
+# module-web.jar를 실행한다. 컨테이너 메모리 제한으로 힙 크기를 정하고, GC를 고르고, GC 로그를 남긴다.
+#
+# 환경 변수
+#   KITCHENPOS_GC                  auto(기본) | g1 | zgc. auto는 JDK 15 이상이고 힙이 ZGC_MIN_HEAP_MB 이상이면 ZGC, 아니면 G1
+#   KITCHENPOS_HEAP_PERCENT        메모리 제한 중 힙으로 쓸 비율, 기본 75
+#   KITCHENPOS_ZGC_MIN_HEAP_MB     auto일 때 ZGC를 고르는 최소 힙 크기, 기본 4096
+#   KITCHENPOS_MAX_GC_PAUSE_MILLIS G1 목표 정지 시간, 기본 200
+#   KITCHENPOS_LOG_DIR             GC 로그 디렉터리, 기본 스크립트 옆의 logs
+#   KITCHENPOS_DRY_RUN             true면 실행하지 않고 java 명령만 출력한다
+#   JAVA_HOME, JAVA_OPTS           JAVA_OPTS는 마지막에 붙어서 위의 기본값을 덮어쓴다
+#
+set -eu
+
+BASE_DIR=$(cd "$(dirname "$0")" && pwd)
+JAR="${KITCHENPOS_JAR:-$BASE_DIR/module-web.jar}"
+GC="${KITCHENPOS_GC:-auto}"
+HEAP_PERCENT="${KITCHENPOS_HEAP_PERCENT:-75}"
+ZGC_MIN_HEAP_MB="${KITCHENPOS_ZGC_MIN_HEAP_MB:-4096}"
+MAX_GC_PAUSE_MILLIS="${KITCHENPOS_MAX_GC_PAUSE_MILLIS:-200}"
+LOG_DIR="${KITCHENPOS_LOG_DIR:-$BASE_DIR/logs}"
+
+if [ -n "${JAVA_HOME:-}" ]; then
+    JAVA="$JAVA_HOME/bin/java"
+else
+    JAVA=java
+fi
+
+# "1.8.0_265" -> 8, "11.0.8" -> 11, "17" -> 17
+java_major_version() {
+    version=$("$JAVA" -version 2>&1 | sed -n 's/.*version "\([^"]*\)".*/\1/p' | head -n 1)
+    case "$version" in
+        1.*) echo "$version" | cut -d. -f2 ;;
+        *) echo "$version" | cut -d. -f1 | cut -d- -f1 ;;
+    esac
+}
+
+# cgroup v2, v1 순서로 메모리 제한(byte)을 찾는다. 제한이 없으면 빈 문자열
+container_memory_limit() {
+    if [ -r /sys/fs/cgroup/memory.max ]; then
+        limit=$(cat /sys/fs/cgroup/memory.max)
+        if [ "$limit" != "max" ]; then
+            echo "$limit"
+        fi
+        return
+    fi
+    if [ -r /sys/fs/cgroup/memory/memory.limit_in_bytes ]; then
+        limit=$(cat /sys/fs/cgroup/memory/memory.limit_in_bytes)
+        # 제한이 없으면 커널이 페이지 크기로 내림한 LONG_MAX에 가까운 값을 돌려준다
+        if [ ${#limit} -lt 19 ]; then
+            echo "$limit"
+        fi
+    fi
+}
+
+JAVA_MAJOR_VERSION=$(java_major_version)
+MEMORY_LIMIT=$(container_memory_limit)
+
+HEAP_OPTS=""
+HEAP_MB=""
+if [ -n "$MEMORY_LIMIT" ]; then
+    HEAP_MB=$((MEMORY_LIMIT / 1024 / 1024 * HEAP_PERCENT / 100))
+    HEAP_OPTS="-Xms${HEAP_MB}m -Xmx${HEAP_MB}m"
+else
+    HEAP_OPTS="-XX:MaxRAMPercentage=${HEAP_PERCENT}.0"
+fi
+
+if [ "$GC" = "auto" ]; then
+    GC=g1
+    if [ "$JAVA_MAJOR_VERSION" -ge 15 ] && [ -n "$HEAP_MB" ] && [ "$HEAP_MB" -ge "$ZGC_MIN_HEAP_MB" ]; then
+        GC=zgc
+    fi
+fi
+case "$GC" in
+    g1) GC_OPTS="-XX:+UseG1GC -XX:MaxGCPauseMillis=$MAX_GC_PAUSE_MILLIS" ;;
+    zgc)
+        if [ "$JAVA_MAJOR_VERSION" -ge 15 ]; then
+            GC_OPTS="-XX:+UseZGC"
+        else
+            GC_OPTS="-XX:+UnlockExperimentalVMOptions -XX:+UseZGC"
+        fi
+        ;;
+    *)
+        echo "KITCHENPOS_GC는 auto, g1, zgc 중 하나여야 합니다: $GC" >&2
+        exit 1
+        ;;
+esac
+
+mkdir -p "$LOG_DIR"
+if [ "$JAVA_MAJOR_VERSION" -ge 9 ]; then
+    GC_LOG_OPTS="-Xlog:gc*,safepoint:file=$LOG_DIR/gc.log:time,uptime,level,tags:filecount=5,filesize=20m"
+else
+    GC_LOG_OPTS="-Xloggc:$LOG_DIR/gc.log -XX:+PrintGCDetails -XX:+PrintGCDateStamps \
+-XX:+UseGCLogFileRotation -XX:NumberOfGCLogFiles=5 -XX:GCLogFileSize=20M"
+fi
+
+# HEAP_OPTS, GC_OPTS, GC_LOG_OPTS, JAVA_OPTS는 공백으로 나눠서 넘긴다
+# shellcheck disable=SC2086
+set -- $HEAP_OPTS $GC_OPTS $GC_LOG_OPTS -XX:+ExitOnOutOfMemoryError ${JAVA_OPTS:-} -jar "$JAR" "$@"
+
+if [ "${KITCHENPOS_DRY_RUN:-false}" = "true" ]; then
+    echo "$JAVA" "$@"
+    exit 0
+fi
+exec "$JAVA" "$@"
@@ -3,7 +3,7 @@ package kitchenpos;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(proxyBeanMethods = false)
 public class ModuleWebApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,27 @@
+package kitchenpos.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfiguration {
+
+    /**
+     * Afterburner는 실행 중에 바이트코드를 만들어서 native image에서는 쓸 수 없다.
+     */
+    @Bean
+    @Profile("!native")
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(final ObjectMapper objectMapper) {
+        return new PrebuiltObjectWriterHttpMessageConverter(objectMapper);
+    }
+}
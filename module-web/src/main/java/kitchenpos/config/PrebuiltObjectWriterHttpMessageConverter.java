@@ -0,0 +1,48 @@
+package kitchenpos.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.TypeUtils;
+
+/**
+ * 응답 타입마다 루트 serializer를 미리 찾아둔 ObjectWriter를 만들어 재사용한다.
+ * MappingJacksonValue처럼 요청마다 설정이 달라지는 경우는 기본 동작을 따른다.
+ */
+public class PrebuiltObjectWriterHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<Type, ObjectWriter> objectWriters = new ConcurrentHashMap<>();
+
+    public PrebuiltObjectWriterHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (object instanceof MappingJacksonValue || Objects.isNull(type)
+            || !TypeUtils.isAssignable(type, object.getClass())) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        final JsonEncoding encoding = getJsonEncoding(outputMessage.getHeaders().getContentType());
+        try (JsonGenerator generator = getObjectMapper().getFactory()
+            .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), encoding)) {
+            getObjectWriter(type).writeValue(generator, object);
+            generator.flush();
+        }
+    }
+
+    ObjectWriter getObjectWriter(Type type) {
+        return objectWriters.computeIfAbsent(type, key -> getObjectMapper().writerFor(getJavaType(key, null)));
+    }
+}
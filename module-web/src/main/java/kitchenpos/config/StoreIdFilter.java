@@ -0,0 +1,53 @@
+package kitchenpos.config;
+
+import java.io.IOException;
+import java.util.Objects;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import kitchenpos.domain.store.StoreContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * X-Store-Id 헤더의 매장으로 요청을 처리한다. 헤더가 없으면 기본 매장으로 처리한다.
+ * 같은 URL이라도 매장마다 응답이 다르므로, 공유 캐시가 매장별로 나눠 저장하도록 Vary에 헤더를 추가한다.
+ */
+@Component
+public class StoreIdFilter extends OncePerRequestFilter {
+
+    public static final String STORE_ID_HEADER = "X-Store-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, STORE_ID_HEADER);
+        final String storeIdHeader = request.getHeader(STORE_ID_HEADER);
+        if (Objects.isNull(storeIdHeader)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final Long storeId = parseStoreId(storeIdHeader);
+        if (Objects.isNull(storeId)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, STORE_ID_HEADER + "는 1 이상의 숫자여야 합니다.");
+            return;
+        }
+        StoreContext.setStoreId(storeId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StoreContext.clear();
+        }
+    }
+
+    private Long parseStoreId(String storeIdHeader) {
+        try {
+            final long storeId = Long.parseLong(storeIdHeader.trim());
+            return storeId > 0 ? storeId : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package kitchenpos.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * AppCDS 아카이브를 만들 때 쓴다. 애플리케이션이 준비되면 바로 종료해서 시작 과정에서 읽은 클래스를 아카이브에 남긴다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "kitchenpos.fast-startup.exit-after-ready", havingValue = "true")
+public class TrainingRunConfiguration {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exit(ApplicationReadyEvent event) {
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,45 @@
+package kitchenpos.ui;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import kitchenpos.application.CatalogImportService;
+import kitchenpos.dto.catalogimport.CatalogImportResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/catalog-imports")
+public class CatalogImportRestController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final CatalogImportService catalogImportService;
+
+    public CatalogImportRestController(final CatalogImportService catalogImportService) {
+        this.catalogImportService = catalogImportService;
+    }
+
+    @PostMapping(value = "/products", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<CatalogImportResponse> importProducts(final InputStream csv) {
+        return ResponseEntity.ok()
+            .body(catalogImportService.importProducts(new InputStreamReader(csv, StandardCharsets.UTF_8)))
+            ;
+    }
+
+    @PostMapping(value = "/menu-groups", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<CatalogImportResponse> importMenuGroups(final InputStream csv) {
+        return ResponseEntity.ok()
+            .body(catalogImportService.importMenuGroups(new InputStreamReader(csv, StandardCharsets.UTF_8)))
+            ;
+    }
+
+    @PostMapping(value = "/menus", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<CatalogImportResponse> importMenus(final InputStream csv) {
+        return ResponseEntity.ok()
+            .body(catalogImportService.importMenus(new InputStreamReader(csv, StandardCharsets.UTF_8)))
+            ;
+    }
+}
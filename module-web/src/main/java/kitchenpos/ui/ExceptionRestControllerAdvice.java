@@ -1,24 +1,133 @@
 package kitchenpos.ui;
 
-import kitchenpos.exception.BadRequestException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import kitchenpos.exception.BusinessException;
+import kitchenpos.exception.ErrorCode;
 import kitchenpos.exception.ExceptionMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+/**
+ * 예외를 ExceptionMessage 본문으로 응답한다.
+ * 값이 규칙에 맞지 않으면 Bean Validation에서 걸리든 도메인에서 걸리든 422로 응답하고,
+ * JSON 형식 오류나 헤더 누락처럼 요청 자체를 읽을 수 없으면 400으로 응답한다.
+ * 405, 415 같은 Spring MVC 예외는 ResponseEntityExceptionHandler가 정한 상태 코드와 Allow, Accept 헤더를 그대로 쓴다.
+ */
 @RestControllerAdvice
-public class ExceptionRestControllerAdvice {
+public class ExceptionRestControllerAdvice extends ResponseEntityExceptionHandler {
 
-    @ExceptionHandler(BadRequestException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ExceptionMessage responseBadRequest(BadRequestException e) {
-        return new ExceptionMessage(e.getMessage());
+    private static final Logger log = LoggerFactory.getLogger(ExceptionRestControllerAdvice.class);
+
+    private static final String INVALID_REQUEST_BODY_MESSAGE = "요청 본문이 올바르지 않습니다.";
+    private static final String UNREADABLE_REQUEST_BODY_MESSAGE = "요청 본문을 읽을 수 없습니다.";
+    private static final String BAD_REQUEST_MESSAGE = "처리할 수 없는 요청입니다.";
+    private static final String NOT_FOUND_MESSAGE = "요청한 대상이 없습니다.";
+    private static final String INTERNAL_SERVER_ERROR_MESSAGE = "요청을 처리하는 중 오류가 발생했습니다.";
+    private static final Map<ErrorCode, HttpStatus> HTTP_STATUSES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        HTTP_STATUSES.put(ErrorCode.BAD_REQUEST, HttpStatus.BAD_REQUEST);
+        HTTP_STATUSES.put(ErrorCode.INVALID_REQUEST_BODY, HttpStatus.UNPROCESSABLE_ENTITY);
+        HTTP_STATUSES.put(ErrorCode.INVALID_ARGUMENT, HttpStatus.UNPROCESSABLE_ENTITY);
+        HTTP_STATUSES.put(ErrorCode.INVALID_STATE, HttpStatus.CONFLICT);
+        HTTP_STATUSES.put(ErrorCode.NOT_FOUND, HttpStatus.NOT_FOUND);
+        HTTP_STATUSES.put(ErrorCode.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ExceptionMessage> responseBusinessException(BusinessException e) {
+        return ResponseEntity.status(HTTP_STATUSES.get(e.getErrorCode()))
+            .body(new ExceptionMessage(e.getErrorCode(), e.getMessage()))
+            ;
     }
 
+    /**
+     * 예상하지 못한 예외는 내부 구현이 드러나지 않도록 정해진 메시지로만 응답하고, 원인은 로그로 남긴다.
+     */
     @ExceptionHandler(Exception.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ExceptionMessage responseInternalServerError(Exception e) {
-        return new ExceptionMessage(e.getMessage());
+    public ResponseEntity<ExceptionMessage> responseInternalServerError(Exception e) {
+        log.error("요청을 처리하는 중 예상하지 못한 예외가 발생했습니다.", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(new ExceptionMessage(ErrorCode.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_MESSAGE))
+            ;
+    }
+
+    /**
+     * @Validated로 검증한 요청 본문의 모든 위반 사항을 "필드 경로: 메시지" 형태로 한 번에 응답한다.
+     */
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(
+        MethodArgumentNotValidException ex,
+        HttpHeaders headers,
+        HttpStatus status,
+        WebRequest request
+    ) {
+        final List<String> errors = ex.getBindingResult().getFieldErrors().stream()
+            .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+            .sorted()
+            .collect(Collectors.toList())
+            ;
+        final ExceptionMessage exceptionMessage =
+            new ExceptionMessage(ErrorCode.INVALID_REQUEST_BODY, INVALID_REQUEST_BODY_MESSAGE, errors);
+        return ResponseEntity.status(HTTP_STATUSES.get(ErrorCode.INVALID_REQUEST_BODY))
+            .headers(headers)
+            .body(exceptionMessage)
+            ;
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleHttpMessageNotReadable(
+        HttpMessageNotReadableException ex,
+        HttpHeaders headers,
+        HttpStatus status,
+        WebRequest request
+    ) {
+        final ExceptionMessage exceptionMessage =
+            new ExceptionMessage(ErrorCode.BAD_REQUEST, UNREADABLE_REQUEST_BODY_MESSAGE);
+        return handleExceptionInternal(ex, exceptionMessage, headers, status, request);
+    }
+
+    /**
+     * 나머지 Spring MVC 예외도 ExceptionMessage 본문으로 응답한다.
+     * 406은 응답할 수 있는 형식이 없다는 뜻이므로 본문 없이 응답한다.
+     */
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(
+        Exception ex,
+        Object body,
+        HttpHeaders headers,
+        HttpStatus status,
+        WebRequest request
+    ) {
+        if (status.is5xxServerError()) {
+            log.error("요청을 처리하는 중 Spring MVC 예외가 발생했습니다.", ex);
+        }
+        if (status == HttpStatus.NOT_ACCEPTABLE) {
+            return super.handleExceptionInternal(ex, null, headers, status, request);
+        }
+        final Object exceptionMessage = body instanceof ExceptionMessage ? body : exceptionMessageOf(status);
+        return super.handleExceptionInternal(ex, exceptionMessage, headers, status, request);
+    }
+
+    private ExceptionMessage exceptionMessageOf(HttpStatus status) {
+        if (status.is5xxServerError()) {
+            return new ExceptionMessage(ErrorCode.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR_MESSAGE);
+        }
+        if (status == HttpStatus.NOT_FOUND) {
+            return new ExceptionMessage(ErrorCode.NOT_FOUND, NOT_FOUND_MESSAGE);
+        }
+        return new ExceptionMessage(ErrorCode.BAD_REQUEST, BAD_REQUEST_MESSAGE + " (" + status.getReasonPhrase() + ")");
     }
 }
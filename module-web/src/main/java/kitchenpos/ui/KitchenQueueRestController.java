@@ -0,0 +1,37 @@
+package kitchenpos.ui;
+
+import java.util.List;
+import kitchenpos.application.KitchenQueueService;
+import kitchenpos.dto.kitchenqueue.KitchenTicketResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/kitchen-queue")
+public class KitchenQueueRestController {
+
+    private final KitchenQueueService kitchenQueueService;
+
+    public KitchenQueueRestController(final KitchenQueueService kitchenQueueService) {
+        this.kitchenQueueService = kitchenQueueService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<KitchenTicketResponse>> findNext(
+        @RequestParam(defaultValue = "10") final int size
+    ) {
+        return ResponseEntity.ok()
+            .body(kitchenQueueService.findNext(size))
+            ;
+    }
+
+    @PostMapping("/{orderId}/ack")
+    public ResponseEntity<KitchenTicketResponse> ack(@PathVariable final Long orderId) {
+        return ResponseEntity.ok(kitchenQueueService.ack(orderId));
+    }
+}
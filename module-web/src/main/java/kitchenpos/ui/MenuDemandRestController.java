@@ -0,0 +1,27 @@
+package kitchenpos.ui;
+
+import java.util.List;
+import kitchenpos.application.MenuDemandService;
+import kitchenpos.dto.menudemand.MenuDemandResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/menu-demands")
+public class MenuDemandRestController {
+
+    private final MenuDemandService menuDemandService;
+
+    public MenuDemandRestController(final MenuDemandService menuDemandService) {
+        this.menuDemandService = menuDemandService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<MenuDemandResponse>> findAll() {
+        return ResponseEntity.ok()
+            .body(menuDemandService.findAll())
+            ;
+    }
+}
@@ -2,7 +2,9 @@ package kitchenpos.ui;
 
 import java.net.URI;
 import java.util.List;
+import kitchenpos.application.CatalogVersionService;
 import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.event.CatalogType;
 import kitchenpos.dto.menugroup.MenuGroupRequest;
 import kitchenpos.dto.menugroup.MenuGroupResponse;
 import org.springframework.http.ResponseEntity;
@@ -11,15 +13,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/menu-groups")
 public class MenuGroupRestController {
 
     private final MenuGroupService menuGroupService;
+    private final CatalogVersionService catalogVersionService;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(
+        final MenuGroupService menuGroupService,
+        final CatalogVersionService catalogVersionService
+    ) {
         this.menuGroupService = menuGroupService;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @PostMapping
@@ -32,9 +40,8 @@ public class MenuGroupRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuGroupResponse>> findAll() {
-        return ResponseEntity.ok()
-            .body(menuGroupService.findAll())
-            ;
+    public ResponseEntity<List<MenuGroupResponse>> findAll(final WebRequest webRequest) {
+        final String version = catalogVersionService.getVersion(CatalogType.MENU_GROUP);
+        return VersionedResponses.conditionalGet(webRequest, version, menuGroupService::findAll);
     }
 }
@@ -2,28 +2,37 @@ package kitchenpos.ui;
 
 import java.net.URI;
 import java.util.List;
+import kitchenpos.application.CatalogVersionService;
 import kitchenpos.application.MenuService;
+import kitchenpos.application.event.CatalogType;
 import kitchenpos.dto.menu.MenuRequest;
 import kitchenpos.dto.menu.MenuResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/menus")
 public class MenuRestController {
 
     private final MenuService menuService;
+    private final CatalogVersionService catalogVersionService;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+        final MenuService menuService,
+        final CatalogVersionService catalogVersionService
+    ) {
         this.menuService = menuService;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @PostMapping
-    public ResponseEntity<MenuResponse> create(@RequestBody final MenuRequest menuRequest) {
+    public ResponseEntity<MenuResponse> create(@Validated @RequestBody final MenuRequest menuRequest) {
         final MenuResponse menuResponse = menuService.create(menuRequest);
         final URI uri = URI.create("/api/menus/" + menuResponse.getId());
         return ResponseEntity.created(uri)
@@ -32,9 +41,8 @@ public class MenuRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuResponse>> findAll() {
-        return ResponseEntity.ok()
-            .body(menuService.findAll())
-            ;
+    public ResponseEntity<List<MenuResponse>> findAll(final WebRequest webRequest) {
+        final String version = catalogVersionService.getVersion(CatalogType.MENU);
+        return VersionedResponses.conditionalGet(webRequest, version, menuService::findAll);
     }
 }
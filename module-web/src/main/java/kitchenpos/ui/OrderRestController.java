@@ -1,32 +1,55 @@
 package kitchenpos.ui;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import kitchenpos.application.IdempotentOrderService;
+import kitchenpos.application.OrderArchiveService;
 import kitchenpos.application.OrderService;
+import kitchenpos.domain.order.OrderStatus;
 import kitchenpos.dto.order.OrderRequest;
 import kitchenpos.dto.order.OrderResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderRestController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final OrderArchiveService orderArchiveService;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final IdempotentOrderService idempotentOrderService,
+        final OrderArchiveService orderArchiveService
+    ) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
+        this.orderArchiveService = orderArchiveService;
     }
 
     @PostMapping
-    public ResponseEntity<OrderResponse> create(@RequestBody final OrderRequest orderRequest) {
-        final OrderResponse orderResponse = orderService.create(orderRequest);
+    public ResponseEntity<OrderResponse> create(
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey,
+        @Validated(OrderRequest.Create.class) @RequestBody final OrderRequest orderRequest
+    ) {
+        final OrderResponse orderResponse = idempotentOrderService.create(idempotencyKey, orderRequest);
         final URI uri = URI.create("/api/orders/" + orderResponse.getId());
         return ResponseEntity.created(uri)
             .body(orderResponse)
@@ -40,10 +63,32 @@ public class OrderRestController {
             ;
     }
 
+    @GetMapping(params = "from")
+    public ResponseEntity<List<OrderResponse>> findAllByOrderedTime(
+        @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(value = "orderStatus", required = false) final List<OrderStatus> orderStatuses
+    ) {
+        final LocalDateTime searchTo = Objects.isNull(to) ? LocalDateTime.now() : to;
+        return ResponseEntity.ok()
+            .body(orderService.findAllByOrderedTime(from, searchTo, orderStatuses))
+            ;
+    }
+
+    @GetMapping("/archived")
+    public ResponseEntity<List<OrderResponse>> findAllArchived(
+        @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok()
+            .body(orderArchiveService.findAllArchived(from, to))
+            ;
+    }
+
     @PutMapping("/{orderId}/order-status")
     public ResponseEntity<OrderResponse> changeOrderStatus(
         @PathVariable final Long orderId,
-        @RequestBody final OrderRequest orderRequest
+        @Validated(OrderRequest.ChangeOrderStatus.class) @RequestBody final OrderRequest orderRequest
     ) {
         return ResponseEntity.ok(orderService.changeOrderStatus(orderId, orderRequest));
     }
@@ -2,10 +2,13 @@ package kitchenpos.ui;
 
 import java.net.URI;
 import java.util.List;
+import kitchenpos.application.FloorPlanService;
 import kitchenpos.application.OrderTableService;
+import kitchenpos.dto.floorplan.FloorPlanResponse;
 import kitchenpos.dto.ordertable.OrderTableRequest;
 import kitchenpos.dto.ordertable.OrderTableResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,19 +16,27 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/tables")
 public class OrderTableRestController {
 
     private final OrderTableService orderTableService;
+    private final FloorPlanService floorPlanService;
 
-    public OrderTableRestController(final OrderTableService orderTableService) {
+    public OrderTableRestController(
+        final OrderTableService orderTableService,
+        final FloorPlanService floorPlanService
+    ) {
         this.orderTableService = orderTableService;
+        this.floorPlanService = floorPlanService;
     }
 
     @PostMapping
-    public ResponseEntity<OrderTableResponse> create(@RequestBody final OrderTableRequest orderTableRequest) {
+    public ResponseEntity<OrderTableResponse> create(
+        @Validated(OrderTableRequest.Create.class) @RequestBody final OrderTableRequest orderTableRequest
+    ) {
         final OrderTableResponse orderTableResponse = orderTableService.create(orderTableRequest);
         final URI uri = URI.create("/api/tables/" + orderTableResponse.getId());
         return ResponseEntity.created(uri)
@@ -40,10 +51,16 @@ public class OrderTableRestController {
             ;
     }
 
+    @GetMapping("/floor-plan")
+    public ResponseEntity<FloorPlanResponse> findFloorPlan(final WebRequest webRequest) {
+        final FloorPlanResponse floorPlanResponse = floorPlanService.getFloorPlan();
+        return VersionedResponses.conditionalGet(webRequest, floorPlanResponse.getVersion(), () -> floorPlanResponse);
+    }
+
     @PutMapping("/{orderTableId}/empty")
     public ResponseEntity<OrderTableResponse> changeEmpty(
         @PathVariable final Long orderTableId,
-        @RequestBody final OrderTableRequest orderTableRequest
+        @Validated(OrderTableRequest.ChangeEmpty.class) @RequestBody final OrderTableRequest orderTableRequest
     ) {
         return ResponseEntity.ok()
             .body(orderTableService.changeEmpty(orderTableId, orderTableRequest))
@@ -53,7 +70,7 @@ public class OrderTableRestController {
     @PutMapping("/{orderTableId}/number-of-guests")
     public ResponseEntity<OrderTableResponse> changeNumberOfGuests(
         @PathVariable final Long orderTableId,
-        @RequestBody final OrderTableRequest orderTableRequest
+        @Validated(OrderTableRequest.ChangeNumberOfGuests.class) @RequestBody final OrderTableRequest orderTableRequest
     ) {
         return ResponseEntity.ok()
             .body(orderTableService.changeNumberOfGuests(orderTableId, orderTableRequest))
@@ -2,24 +2,35 @@ package kitchenpos.ui;
 
 import java.net.URI;
 import java.util.List;
+import kitchenpos.application.CatalogVersionService;
 import kitchenpos.application.ProductService;
+import kitchenpos.application.event.CatalogType;
+import kitchenpos.dto.product.ProductPriceChangeResponse;
 import kitchenpos.dto.product.ProductRequest;
 import kitchenpos.dto.product.ProductResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductRestController {
 
     private final ProductService productService;
+    private final CatalogVersionService catalogVersionService;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+        final ProductService productService,
+        final CatalogVersionService catalogVersionService
+    ) {
         this.productService = productService;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @PostMapping
@@ -32,9 +43,18 @@ public class ProductRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> findAll() {
+    public ResponseEntity<List<ProductResponse>> findAll(final WebRequest webRequest) {
+        final String version = catalogVersionService.getVersion(CatalogType.PRODUCT);
+        return VersionedResponses.conditionalGet(webRequest, version, productService::findAll);
+    }
+
+    @PutMapping("/{productId}/price")
+    public ResponseEntity<ProductPriceChangeResponse> changePrice(
+        @PathVariable final Long productId,
+        @RequestBody final ProductRequest productRequest
+    ) {
         return ResponseEntity.ok()
-            .body(productService.findAll())
+            .body(productService.changePrice(productId, productRequest))
             ;
     }
 }
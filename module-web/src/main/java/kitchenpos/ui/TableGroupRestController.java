@@ -5,6 +5,7 @@ import kitchenpos.application.TableGroupService;
 import kitchenpos.dto.tablegroup.TableGroupRequest;
 import kitchenpos.dto.tablegroup.TableGroupResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,7 +24,9 @@ public class TableGroupRestController {
     }
 
     @PostMapping
-    public ResponseEntity<TableGroupResponse> create(@RequestBody final TableGroupRequest tableGroupRequest) {
+    public ResponseEntity<TableGroupResponse> create(
+        @Validated @RequestBody final TableGroupRequest tableGroupRequest
+    ) {
         final TableGroupResponse tableGroupResponse = tableGroupService.create(tableGroupRequest);
         final URI uri = URI.create("/api/table-groups/" + tableGroupResponse.getId());
         return ResponseEntity.created(uri)
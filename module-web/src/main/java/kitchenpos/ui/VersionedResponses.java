@@ -0,0 +1,46 @@
+package kitchenpos.ui;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 버전으로 조건부 조회를 처리하는 목록 응답을 만든다.
+ * 같은 버전이라도 Accept에 따라 JSON, CBOR, Smile로 표현이 달라지므로 ETag에 Accept를 넣고 Vary: Accept를 응답한다.
+ * 압축 여부는 Tomcat이 정하므로 ETag는 약한 ETag로 응답한다. 약한 ETag는 Tomcat이 그대로 압축하고 If-None-Match 비교에도 쓸 수 있다.
+ */
+final class VersionedResponses {
+
+    private VersionedResponses() {
+    }
+
+    static <T> ResponseEntity<T> conditionalGet(
+        final WebRequest webRequest,
+        final String version,
+        final Supplier<T> body
+    ) {
+        final String eTag = eTagOf(webRequest, version);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build()
+                ;
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(body.get())
+            ;
+    }
+
+    private static String eTagOf(WebRequest webRequest, String version) {
+        final String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        final String representation = Objects.isNull(accept) ? MediaType.ALL_VALUE : accept;
+        return "W/\"" + version + "-" + Integer.toHexString(representation.hashCode()) + "\"";
+    }
+}
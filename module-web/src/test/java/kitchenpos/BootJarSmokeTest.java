@@ -0,0 +1,126 @@
+package kitchenpos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * build/boot-dist의 실행 스크립트로 layered boot jar를 띄우고 /actuator/health가 UP인지 확인한다.
+ * ./gradlew :module-web:smokeTest 가 boot-dist를 만들고 경로를 넘겨준다.
+ */
+@Tag("smoke")
+@DisplayName("module-web boot jar 스모크 테스트")
+class BootJarSmokeTest {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("boot jar는 layers.idx를 가진다")
+    @Test
+    void layered() throws IOException {
+        final Path bootDistDirectory = bootDistDirectory();
+
+        try (JarFile jarFile = new JarFile(bootDistDirectory.resolve("module-web.jar").toFile())) {
+            assertThat(jarFile.getEntry("BOOT-INF/layers.idx")).isNotNull();
+            assertThat(jarFile.getManifest().getMainAttributes().getValue("Start-Class"))
+                .isEqualTo(ModuleWebApplication.class.getName());
+        }
+    }
+
+    @DisplayName("실행 스크립트로 띄운 module-web은 /actuator/health에 UP으로 응답하고 GC 로그를 남긴다")
+    @Test
+    void health() throws Exception {
+        final Path bootDistDirectory = bootDistDirectory();
+        final int port = findFreePort();
+        final Path logDirectory = tempDir.resolve("logs");
+        final ProcessBuilder processBuilder = new ProcessBuilder(Arrays.asList(
+            "sh", bootDistDirectory.resolve("module-web.sh").toString(), "--server.port=" + port
+        ))
+            .redirectErrorStream(true)
+            .redirectOutput(tempDir.resolve("module-web.log").toFile());
+        processBuilder.environment().put("KITCHENPOS_LOG_DIR", logDirectory.toString());
+        processBuilder.environment().put("JAVA_HOME", System.getProperty("java.home"));
+
+        final Process process = processBuilder.start();
+        try {
+            final String health = awaitHealth(process, new URL("http://localhost:" + port + "/actuator/health"));
+
+            assertThat(health).contains("\"status\":\"UP\"");
+            assertThat(logDirectory.resolve("gc.log")).exists();
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private Path bootDistDirectory() {
+        final String bootDistDirectory = System.getProperty("kitchenpos.boot-dist.dir");
+        assumeTrue(Objects.nonNull(bootDistDirectory), "./gradlew :module-web:smokeTest 로 실행해야 합니다.");
+        return Paths.get(bootDistDirectory);
+    }
+
+    private String awaitHealth(Process process, URL url) throws InterruptedException, IOException {
+        final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("module-web이 시작 중에 종료되었습니다.\n" + readLog());
+            }
+            try {
+                final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                connection.setConnectTimeout(1_000);
+                if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
+                    return read(connection.getInputStream());
+                }
+            } catch (IOException ignored) {
+                // 아직 포트를 열지 않았다.
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("module-web이 " + TIMEOUT + " 안에 응답하지 않았습니다.\n" + readLog());
+    }
+
+    private String readLog() throws IOException {
+        return new String(Files.readAllBytes(tempDir.resolve("module-web.log")), StandardCharsets.UTF_8);
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        try (InputStream closingInputStream = inputStream) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = closingInputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private int findFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
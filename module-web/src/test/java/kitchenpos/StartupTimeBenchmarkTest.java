@@ -0,0 +1,145 @@
+package kitchenpos;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.assertFasterThan;
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * module-web을 별도 JVM으로 띄우고 프로세스 시작부터 첫 요청이 200으로 응답할 때까지의 시간을 잰다.
+ * 클래스패스와 AppCDS 아카이브 경로는 ./gradlew :module-web:startupBenchmark 가 넘겨준다.
+ */
+@Tag("benchmark")
+@DisplayName("module-web 시작 시간 - 기본 vs fast-startup vs fast-startup + AppCDS, 첫 요청까지 걸린 시간 벤치마크")
+class StartupTimeBenchmarkTest {
+
+    private static final int RUNS = 5;
+    private static final String FIRST_REQUEST_PATH = "/api/menus";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final List<String> QUIET_LOGGING = Arrays.asList(
+        "--logging.level.org.springframework.jdbc.core.JdbcTemplate=warn",
+        "--logging.level.org.hibernate.SQL=warn",
+        "--logging.level.org.hibernate.type=warn"
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("프로필과 AppCDS 사용 여부에 따라 첫 요청까지 걸린 시간을 비교한다")
+    @Test
+    void timeToFirstRequest() throws Exception {
+        final String classpath = System.getProperty("kitchenpos.appcds.classpath");
+        assumeTrue(Objects.nonNull(classpath), "./gradlew :module-web:startupBenchmark 로 실행해야 합니다.");
+        final List<String> fastStartupArguments = Arrays.asList(
+            "--spring.profiles.active=module-web-local,fast-startup",
+            "--kitchenpos.fast-startup.migration-checksum-file=" + tempDir.resolve("flyway.checksum")
+        );
+
+        final Measurement defaultResult = measure("default", classpath, Collections.emptyList(),
+            Collections.singletonList("--spring.profiles.active=module-web-local")
+        );
+        final Measurement fastStartupResult =
+            measure("fast-startup", classpath, Collections.emptyList(), fastStartupArguments);
+        final List<Measurement> results = new ArrayList<>(Arrays.asList(defaultResult, fastStartupResult));
+        final Path archive = Paths.get(System.getProperty("kitchenpos.appcds.archive"));
+        if (Files.exists(archive)) {
+            results.add(measure("fast-startup + AppCDS", classpath,
+                Collections.singletonList("-XX:SharedArchiveFile=" + archive), fastStartupArguments
+            ));
+        }
+
+        report("module-web 첫 요청까지 걸린 시간", results);
+        assertFasterThan(fastStartupResult, defaultResult);
+    }
+
+    /**
+     * 처음 한 번은 디스크 캐시와 마이그레이션 체크섬을 채우는 데 쓰고 기록하지 않는다.
+     */
+    private Measurement measure(String label, String classpath, List<String> jvmArguments, List<String> arguments)
+        throws Exception {
+        launch(classpath, jvmArguments, arguments);
+        final List<Long> millis = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            millis.add(launch(classpath, jvmArguments, arguments));
+        }
+        return Measurement.ofMillis(label, millis);
+    }
+
+    private long launch(String classpath, List<String> jvmArguments, List<String> arguments) throws Exception {
+        final int port = findFreePort();
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.addAll(Arrays.asList("-cp", classpath, ModuleWebApplication.class.getName(), "--server.port=" + port));
+        command.addAll(arguments);
+        command.addAll(QUIET_LOGGING);
+        final ProcessBuilder processBuilder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(tempDir.resolve("module-web.log").toFile());
+
+        final long start = System.nanoTime();
+        final Process process = processBuilder.start();
+        try {
+            awaitFirstResponse(process, new URL("http://localhost:" + port + FIRST_REQUEST_PATH), start);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(Process process, URL url, long start) throws InterruptedException {
+        while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("module-web이 시작 중에 종료되었습니다. " + tempDir.resolve("module-web.log"));
+            }
+            if (respondsOk(url)) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("module-web이 " + TIMEOUT + " 안에 응답하지 않았습니다.");
+    }
+
+    private boolean respondsOk(URL url) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(1_000);
+            connection.setReadTimeout((int) TIMEOUT.toMillis());
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private int findFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package kitchenpos;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 같은 H2 파일 DB를 쓰는 module-web 두 개를 별도 JVM으로 띄우고,
+ * A 노드에서 상품을 등록한 뒤 B 노드의 상품 목록에 보일 때까지 걸린 시간을 잰다.
+ * 클래스패스는 ./gradlew :module-web:stateCacheBenchmark 가 넘겨준다.
+ */
+@Tag("benchmark")
+@DisplayName("노드 간 상태 캐시 무효화 지연 벤치마크 - jdbc vs in-memory")
+class StateCacheInvalidationBenchmarkTest {
+
+    private static final int ROUNDS = 20;
+    private static final String TIMEOUTS = "timeouts";
+    private static final String POLL_INTERVAL = "PT0.05S";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(5);
+    private static final List<String> QUIET_LOGGING = Arrays.asList(
+        "--logging.level.org.springframework.jdbc.core.JdbcTemplate=warn",
+        "--logging.level.org.hibernate.SQL=warn",
+        "--logging.level.org.hibernate.type=warn"
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("jdbc 백엔드는 다른 노드의 변경을 폴링 주기 안팎으로 반영하고 같은 ETag를 응답하며, in-memory 백엔드는 반영하지 않는다")
+    @Test
+    void crossNodeInvalidation() throws Exception {
+        final String classpath = System.getProperty("kitchenpos.state-cache.classpath");
+        assumeTrue(Objects.nonNull(classpath), "./gradlew :module-web:stateCacheBenchmark 로 실행해야 합니다.");
+
+        final Measurement jdbcResult;
+        final List<Node> jdbcNodes = launchPair(classpath, "jdbc");
+        try {
+            jdbcResult = measure(jdbcNodes.get(0), jdbcNodes.get(1));
+            assertThat(get(jdbcNodes.get(1), "/api/products").eTag)
+                .isEqualTo(get(jdbcNodes.get(0), "/api/products").eTag);
+        } finally {
+            jdbcNodes.forEach(Node::stop);
+        }
+
+        final boolean inMemoryPropagated;
+        final List<Node> inMemoryNodes = launchPair(classpath, "in-memory");
+        try {
+            inMemoryPropagated = propagates(inMemoryNodes.get(0), inMemoryNodes.get(1));
+        } finally {
+            inMemoryNodes.forEach(Node::stop);
+        }
+
+        report("노드 간 상품 목록 반영 지연", Collections.singletonList(jdbcResult));
+        assertThat(jdbcResult.getMetric(TIMEOUTS).intValue()).isZero();
+        assertThat(inMemoryPropagated)
+            .as("in-memory 백엔드는 다른 노드의 변경을 %s 안에 반영하지 않아야 합니다.", PROPAGATION_TIMEOUT)
+            .isFalse();
+    }
+
+    /**
+     * 처음 한 번은 두 노드의 캐시와 커넥션을 데우는 데 쓰고 기록하지 않는다.
+     */
+    private Measurement measure(Node writer, Node reader) throws Exception {
+        propagates(writer, reader);
+        final List<Long> millis = new ArrayList<>();
+        int timeouts = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            final long start = System.nanoTime();
+            if (propagates(writer, reader)) {
+                millis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } else {
+                timeouts++;
+            }
+        }
+        assertThat(millis).as("%d번 모두 %s 안에 반영되지 않았습니다.", ROUNDS, PROPAGATION_TIMEOUT).isNotEmpty();
+        return Measurement.ofMillis("jdbc", millis).withMetric(TIMEOUTS, timeouts);
+    }
+
+    /**
+     * reader의 목록을 먼저 캐시에 올려 두고 writer에 상품을 등록한 뒤, reader의 목록에 보일 때까지 기다린다.
+     */
+    private boolean propagates(Node writer, Node reader) throws Exception {
+        get(reader, "/api/products");
+        final String name = "state-cache-" + System.nanoTime();
+        post(writer, "/api/products", "{\"name\":\"" + name + "\",\"price\":1000}");
+        final long deadline = System.nanoTime() + PROPAGATION_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (get(reader, "/api/products").body.contains(name)) {
+                return true;
+            }
+            Thread.sleep(5);
+        }
+        return false;
+    }
+
+    private List<Node> launchPair(String classpath, String backend) throws Exception {
+        final Path database = tempDir.resolve(backend).resolve("kitchenpos");
+        final List<String> arguments = Arrays.asList(
+            "--spring.datasource.url=jdbc:h2:file:" + database
+                + ";MODE=MYSQL;AUTO_SERVER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+            "--kitchenpos.state-cache.backend=" + backend,
+            "--kitchenpos.state-cache.jdbc.poll-interval=" + POLL_INTERVAL
+        );
+        final List<Node> nodes = new ArrayList<>();
+        try {
+            nodes.add(launch(classpath, arguments, backend + "-a"));
+            nodes.add(launch(classpath, arguments, backend + "-b"));
+        } catch (Exception e) {
+            nodes.forEach(Node::stop);
+            throw e;
+        }
+        return nodes;
+    }
+
+    private Node launch(String classpath, List<String> arguments, String name) throws Exception {
+        final int port = findFreePort();
+        final List<String> command = new ArrayList<>(Arrays.asList(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", classpath, ModuleWebApplication.class.getName(), "--server.port=" + port
+        ));
+        command.addAll(arguments);
+        command.addAll(QUIET_LOGGING);
+        final Path log = tempDir.resolve(name + ".log");
+        final Node node = new Node(
+            new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start(),
+            "http://localhost:" + port
+        );
+        final long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!respondsOk(new URL(node.host + "/actuator/health"))) {
+            if (!node.process.isAlive() || System.nanoTime() > deadline) {
+                node.stop();
+                throw new IllegalStateException("module-web이 시작되지 않았습니다. " + log);
+            }
+            Thread.sleep(100);
+        }
+        return node;
+    }
+
+    private Response get(Node node, String path) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(node.host + path).openConnection();
+        try {
+            assertThat(connection.getResponseCode()).isEqualTo(HttpURLConnection.HTTP_OK);
+            return new Response(connection.getHeaderField("ETag"), read(connection.getInputStream()));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void post(Node node, String path, String json) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(node.host + path).openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            assertThat(connection.getResponseCode()).isEqualTo(HttpURLConnection.HTTP_CREATED);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private boolean respondsOk(URL url) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(1_000);
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        try (InputStream closingInputStream = inputStream) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = closingInputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private int findFreePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    private static class Node {
+
+        private final Process process;
+        private final String host;
+
+        Node(Process process, String host) {
+            this.process = process;
+            this.host = host;
+        }
+
+        void stop() {
+            process.destroy();
+            try {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class Response {
+
+        private final String eTag;
+        private final String body;
+
+        Response(String eTag, String body) {
+            this.eTag = eTag;
+            this.body = body;
+        }
+    }
+}
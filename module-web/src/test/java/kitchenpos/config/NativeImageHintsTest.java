@@ -0,0 +1,94 @@
+package kitchenpos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.MappedSuperclass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.data.repository.Repository;
+
+@DisplayName("native image 힌트 테스트")
+class NativeImageHintsTest {
+
+    private static final String HINTS_PATH = "/META-INF/native-image/kitchenpos/module-web/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("reflect-config.json은 모든 Entity, Embeddable, MappedSuperclass, DTO, projection을 담고 있다")
+    @Test
+    void reflectConfigCoversDomainAndDto() throws IOException {
+        final Set<String> reflectedClassNames = new HashSet<>();
+        for (JsonNode entry : readHints("reflect-config.json")) {
+            reflectedClassNames.add(entry.get("name").asText());
+        }
+
+        final ClassPathScanningCandidateComponentProvider persistentTypeScanner = scanner();
+        persistentTypeScanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        persistentTypeScanner.addIncludeFilter(new AnnotationTypeFilter(Embeddable.class));
+        persistentTypeScanner.addIncludeFilter(new AnnotationTypeFilter(MappedSuperclass.class));
+        final ClassPathScanningCandidateComponentProvider dtoScanner = scanner();
+        dtoScanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*")));
+
+        assertThat(reflectedClassNames)
+            .containsAll(classNames(persistentTypeScanner, "kitchenpos.domain"))
+            .containsAll(classNames(dtoScanner, "kitchenpos.dto"))
+            .containsAll(projectionClassNames());
+    }
+
+    @DisplayName("proxy-config.json은 모든 projection의 프록시를 담고 있다")
+    @Test
+    void proxyConfigCoversProjections() throws IOException {
+        final Set<String> proxiedClassNames = new HashSet<>();
+        for (JsonNode interfaces : readHints("proxy-config.json")) {
+            proxiedClassNames.add(interfaces.get(0).asText());
+        }
+
+        assertThat(proxiedClassNames).containsExactlyInAnyOrderElementsOf(projectionClassNames());
+    }
+
+    private Set<String> projectionClassNames() {
+        final ClassPathScanningCandidateComponentProvider projectionScanner = scanner();
+        projectionScanner.addIncludeFilter((metadataReader, metadataReaderFactory) ->
+            metadataReader.getClassMetadata().isInterface());
+        projectionScanner.addExcludeFilter(new AssignableTypeFilter(Repository.class));
+        return classNames(projectionScanner, "kitchenpos.domain");
+    }
+
+    private ClassPathScanningCandidateComponentProvider scanner() {
+        return new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+    }
+
+    private Set<String> classNames(ClassPathScanningCandidateComponentProvider scanner, String basePackage) {
+        return scanner.findCandidateComponents(basePackage).stream()
+            .map(BeanDefinition::getBeanClassName)
+            .collect(Collectors.toSet())
+            ;
+    }
+
+    private JsonNode readHints(String fileName) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(HINTS_PATH + fileName)) {
+            return objectMapper.readTree(inputStream);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package kitchenpos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+@DisplayName("PrebuiltObjectWriterHttpMessageConverter 테스트")
+class PrebuiltObjectWriterHttpMessageConverterTest {
+
+    private static final Type ORDER_LIST_TYPE = new ParameterizedTypeReference<List<OrderResponse>>() {
+    }.getType();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .modulesToInstall(new AfterburnerModule())
+        .build();
+
+    @DisplayName("기본 컨버터와 같은 JSON을 쓴다.")
+    @Test
+    void write_SameAsDefaultConverter() throws IOException {
+        // given
+        final List<OrderResponse> orders = Arrays.asList(
+            new OrderResponse(1L, 1L, OrderStatus.COOKING, LocalDateTime.of(2020, 10, 1, 12, 0),
+                Collections.singletonList(new OrderLineItemResponse(1L, 1L, 1L, 2L))),
+            new OrderResponse(2L, 2L, OrderStatus.MEAL, LocalDateTime.of(2020, 10, 1, 12, 30),
+                Collections.singletonList(new OrderLineItemResponse(2L, 2L, 3L, 1L)))
+        );
+
+        // when
+        final String expected = write(new MappingJackson2HttpMessageConverter(objectMapper), orders);
+        final String actual = write(new PrebuiltObjectWriterHttpMessageConverter(objectMapper), orders);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("같은 타입에는 미리 만든 ObjectWriter를 재사용한다.")
+    @Test
+    void getObjectWriter_ReusedPerType() {
+        // given
+        final PrebuiltObjectWriterHttpMessageConverter converter
+            = new PrebuiltObjectWriterHttpMessageConverter(objectMapper);
+
+        // when
+        // then
+        assertThat(converter.getObjectWriter(ORDER_LIST_TYPE)).isSameAs(converter.getObjectWriter(ORDER_LIST_TYPE));
+        assertThat(converter.getObjectWriter(OrderResponse.class))
+            .isNotSameAs(converter.getObjectWriter(ORDER_LIST_TYPE));
+    }
+
+    private String write(MappingJackson2HttpMessageConverter converter, List<OrderResponse> orders) throws IOException {
+        final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(orders, ORDER_LIST_TYPE, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsString();
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.stream.Stream;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.fixture.CustomParameterizedTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("바이너리 Content-Type 협상 통합테스트")
+class BinaryContentNegotiationIntegrationTest extends IntegrationTest {
+
+    private static final String API_PATH = "/api/menu-groups";
+
+    static Stream<Arguments> findAll_Success() {
+        return Stream.of(
+            Arguments.of(MediaType.APPLICATION_CBOR, Jackson2ObjectMapperBuilder.cbor().build()),
+            Arguments.of(new MediaType("application", "x-jackson-smile"), Jackson2ObjectMapperBuilder.smile().build())
+        );
+    }
+
+    @DisplayName("모든 MenuGroup들 조회 - 성공 - Accept에 맞는 바이너리 형식으로 응답한다.")
+    @CustomParameterizedTest
+    @MethodSource
+    void findAll_Success(MediaType mediaType, ObjectMapper binaryObjectMapper) throws Exception {
+        // given
+        final MenuGroup menuGroup = MenuGroup을_저장한다("추천메뉴");
+
+        // when
+        final byte[] responseBody = mockMvc.perform(get(API_PATH)
+                .header(HttpHeaders.ACCEPT, mediaType.toString()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // then
+        final JsonNode menuGroups = binaryObjectMapper.readTree(responseBody);
+        assertThat(menuGroups.isArray()).isTrue();
+        assertThat(menuGroups).hasSize(1);
+        assertThat(menuGroups.get(0).get("id").asLong()).isEqualTo(menuGroup.getId());
+        assertThat(menuGroups.get(0).get("name").asText()).isEqualTo(menuGroup.getName());
+    }
+}
@@ -0,0 +1,94 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import kitchenpos.fixture.CustomParameterizedTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@DisplayName("카탈로그 목록 조건부 조회 통합테스트")
+class CatalogConditionalGetIntegrationTest extends IntegrationTest {
+
+    @DisplayName("목록 조회 - 성공 - 약한 ETag와 Vary: Accept를 응답한다.")
+    @CustomParameterizedTest
+    @ValueSource(strings = {"/api/products", "/api/menu-groups", "/api/menus"})
+    void findAll_Success_ETag(String apiPath) throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get(apiPath))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("^W/\"[^\"]+\"$")))
+            .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+        ;
+    }
+
+    @DisplayName("목록 조회 - 성공 - If-None-Match가 현재 ETag와 같으면 304를 응답한다.")
+    @CustomParameterizedTest
+    @ValueSource(strings = {"/api/products", "/api/menu-groups", "/api/menus"})
+    void findAll_Success_When_NotModified(String apiPath) throws Exception {
+        // given
+        final String eTag = mockMvc.perform(get(apiPath))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // when
+        // then
+        mockMvc.perform(get(apiPath)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""))
+        ;
+    }
+
+    @DisplayName("목록 조회 - 성공 - If-None-Match가 현재 ETag와 다르면 200을 응답한다.")
+    @CustomParameterizedTest
+    @ValueSource(strings = {"/api/products", "/api/menu-groups", "/api/menus"})
+    void findAll_Success_When_Modified(String apiPath) throws Exception {
+        // given
+        final String staleETag = "\"stale-0\"";
+
+        // when
+        // then
+        mockMvc.perform(get(apiPath)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+        ;
+    }
+
+    @DisplayName("목록 조회 - 성공 - Accept가 다르면 다른 ETag를 응답하고, 다른 표현의 ETag로는 304를 응답하지 않는다.")
+    @CustomParameterizedTest
+    @ValueSource(strings = {"/api/products", "/api/menu-groups", "/api/menus"})
+    void findAll_Success_When_AcceptIsDifferent(String apiPath) throws Exception {
+        // given
+        final String jsonETag = mockMvc.perform(get(apiPath)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final String cborETag = mockMvc.perform(get(apiPath)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(cborETag).isNotEqualTo(jsonETag);
+    }
+}
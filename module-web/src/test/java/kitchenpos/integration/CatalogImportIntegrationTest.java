@@ -0,0 +1,151 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menuproduct.MenuProduct;
+import kitchenpos.domain.price.Price;
+import kitchenpos.domain.product.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CatalogImport 통합테스트")
+class CatalogImportIntegrationTest extends IntegrationTest {
+
+    private static final String API_PATH = "/api/catalog-imports";
+    private static final String TEXT_CSV = "text/csv";
+
+    @DisplayName("Product 가져오기 - 성공 - 잘못된 행은 건너뛰고 나머지 행을 저장한다")
+    @Test
+    void importProducts_Success() throws Exception {
+        // given
+        final String csv = "name,price\n"
+            + "후라이드,16000\n"
+            + "\"양념치킨, 순한맛\",17000\n"
+            + "간장치킨,-1\n"
+            + "순살치킨,가격\n";
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH + "/products")
+                .contentType(TEXT_CSV)
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CONTENT_TYPE_NAME, RESPONSE_CONTENT_TYPE))
+            .andExpect(jsonPath("$.successCount").value(2))
+            .andExpect(jsonPath("$.failures.length()").value(2))
+            .andExpect(jsonPath("$.failures[0].lineNumber").value(4))
+            .andExpect(jsonPath("$.failures[1].lineNumber").value(5))
+        ;
+
+        final List<Product> foundProducts = productRepository.findAll();
+        assertThat(foundProducts).extracting(Product::getName)
+            .containsExactly("후라이드", "양념치킨, 순한맛");
+    }
+
+    @DisplayName("MenuGroup 가져오기 - 성공")
+    @Test
+    void importMenuGroups_Success() throws Exception {
+        // given
+        final String csv = "name\n"
+            + "두마리메뉴\n"
+            + "한마리메뉴\n";
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH + "/menu-groups")
+                .contentType(TEXT_CSV)
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(2))
+            .andExpect(jsonPath("$.failures.length()").value(0))
+        ;
+
+        final List<MenuGroup> foundMenuGroups = menuGroupRepository.findAll();
+        assertThat(foundMenuGroups).extracting(MenuGroup::getName)
+            .containsExactly("두마리메뉴", "한마리메뉴");
+    }
+
+    @DisplayName("Menu 가져오기 - 성공 - 가격, MenuGroup, Product 검증에 실패한 행은 건너뛴다")
+    @Test
+    void importMenus_Success() throws Exception {
+        // given
+        final MenuGroup menuGroup = MenuGroup을_저장한다("두마리메뉴");
+        final Product product = Product를_저장한다("후라이드", 16_000);
+        final String csv = "name,price,menuGroupId,menuProducts\n"
+            + "후라이드+후라이드,30000," + menuGroup.getId() + "," + product.getId() + ":2\n"
+            + "비싼후라이드,16001," + menuGroup.getId() + "," + product.getId() + ":1\n"
+            + "없는상품메뉴,1000," + menuGroup.getId() + ",0:1\n"
+            + "없는그룹메뉴,1000,0," + product.getId() + ":1\n";
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH + "/menus")
+                .contentType(TEXT_CSV)
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(1))
+            .andExpect(jsonPath("$.failures.length()").value(3))
+            .andExpect(jsonPath("$.failures[0].lineNumber").value(3))
+            .andExpect(jsonPath("$.failures[1].lineNumber").value(4))
+            .andExpect(jsonPath("$.failures[2].lineNumber").value(5))
+        ;
+
+        final List<Menu> foundMenus = menuRepository.findAll();
+        assertThat(foundMenus).hasSize(1);
+
+        final Menu foundMenu = foundMenus.get(0);
+        assertThat(foundMenu.getName()).isEqualTo("후라이드+후라이드");
+        assertThat(foundMenu.getProductsTotalPrice()).isEqualTo(new Price(32_000));
+
+        final List<MenuProduct> foundMenuProducts = menuProductRepository.findAllByMenu(foundMenu);
+        assertThat(foundMenuProducts).hasSize(1);
+        assertThat(foundMenuProducts.get(0).getProductId()).isEqualTo(product.getId());
+        assertThat(foundMenuProducts.get(0).getQuantityValue()).isEqualTo(2L);
+    }
+
+    @DisplayName("Menu 가져오기 - 성공 - 한 번에 넣은 Menu마다 자기 MenuProduct가 연결된다")
+    @Test
+    void importMenus_Success_When_ManyMenusInOneBatch() throws Exception {
+        // given
+        final MenuGroup menuGroup = MenuGroup을_저장한다("한마리메뉴");
+        final Product friedChicken = Product를_저장한다("후라이드", 16_000);
+        final Product seasonedChicken = Product를_저장한다("양념치킨", 17_000);
+        final StringBuilder csv = new StringBuilder("name,price,menuGroupId,menuProducts\n");
+        for (int i = 1; i <= 3; i++) {
+            csv.append("후라이드").append(i).append(",16000,").append(menuGroup.getId()).append(",")
+                .append(friedChicken.getId()).append(":").append(i).append("\n");
+            csv.append("양념치킨").append(i).append(",17000,").append(menuGroup.getId()).append(",")
+                .append(seasonedChicken.getId()).append(":").append(i).append("\n");
+        }
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH + "/menus")
+                .contentType(TEXT_CSV)
+                .content(csv.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(6))
+            .andExpect(jsonPath("$.failures.length()").value(0))
+        ;
+
+        final List<Menu> foundMenus = menuRepository.findAll();
+        assertThat(foundMenus).hasSize(6);
+        for (Menu foundMenu : foundMenus) {
+            final List<MenuProduct> foundMenuProducts = menuProductRepository.findAllByMenu(foundMenu);
+            assertThat(foundMenuProducts).hasSize(1);
+            final MenuProduct foundMenuProduct = foundMenuProducts.get(0);
+            final Product expectedProduct = foundMenu.getName().startsWith("후라이드") ? friedChicken : seasonedChicken;
+            assertThat(foundMenuProduct.getProductId()).isEqualTo(expectedProduct.getId());
+            assertThat(foundMenu.getName()).endsWith(String.valueOf(foundMenuProduct.getQuantityValue()));
+            assertThat(foundMenu.getProductsTotalPrice())
+                .isEqualTo(expectedProduct.getPrice().multiply(foundMenuProduct.getQuantity()));
+        }
+    }
+}
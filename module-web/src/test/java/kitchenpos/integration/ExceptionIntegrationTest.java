@@ -0,0 +1,83 @@
+package kitchenpos.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import kitchenpos.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@DisplayName("예외 응답 통합테스트")
+class ExceptionIntegrationTest extends IntegrationTest {
+
+    @DisplayName("지원하지 않는 HTTP 메서드로 요청하면 Allow 헤더와 함께 405를 응답한다.")
+    @Test
+    void methodNotAllowed() throws Exception {
+        // when
+        // then
+        mockMvc.perform(delete("/api/menu-groups"))
+            .andExpect(status().isMethodNotAllowed())
+            .andExpect(header().exists(HttpHeaders.ALLOW))
+            .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.name()))
+        ;
+    }
+
+    @DisplayName("지원하지 않는 Content-Type으로 요청하면 Accept 헤더와 함께 415를 응답한다.")
+    @Test
+    void unsupportedMediaType() throws Exception {
+        // when
+        // then
+        mockMvc.perform(post("/api/catalog-imports/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isUnsupportedMediaType())
+            .andExpect(header().exists(HttpHeaders.ACCEPT))
+            .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.name()))
+        ;
+    }
+
+    @DisplayName("필수 요청 매개변수가 없으면 400을 응답한다.")
+    @Test
+    void missingRequestParameter() throws Exception {
+        // when
+        // then
+        mockMvc.perform(get("/api/orders/archived"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.name()))
+        ;
+    }
+
+    @DisplayName("경로 변수의 형식이 올바르지 않으면 500이 아니라 400을 응답한다.")
+    @Test
+    void pathVariableTypeMismatch() throws Exception {
+        // when
+        // then
+        mockMvc.perform(put("/api/orders/abc/order-status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderStatus\": \"MEAL\"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.name()))
+        ;
+    }
+
+    @DisplayName("요청 본문을 JSON으로 읽을 수 없으면 400을 응답한다.")
+    @Test
+    void unreadableRequestBody() throws Exception {
+        // when
+        // then
+        mockMvc.perform(post("/api/menu-groups")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value(ErrorCode.BAD_REQUEST.name()))
+            .andExpect(jsonPath("$.message").value("요청 본문을 읽을 수 없습니다."))
+        ;
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+@DisplayName("FloorPlan 통합테스트")
+class FloorPlanIntegrationTest extends IntegrationTest {
+
+    private static final String API_PATH = "/api/tables/floor-plan";
+
+    @DisplayName("배치도 조회 - 성공 - ETag를 응답한다.")
+    @Test
+    void findFloorPlan_Success() throws Exception {
+        // given
+        // when
+        // then
+        mockMvc.perform(get(API_PATH))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().string(CONTENT_TYPE_NAME, RESPONSE_CONTENT_TYPE))
+            .andExpect(jsonPath("$.version").isString())
+            .andExpect(jsonPath("$.tables").isArray())
+        ;
+    }
+
+    @DisplayName("배치도 조회 - 성공 - If-None-Match가 현재 ETag와 같으면 304를 응답한다.")
+    @Test
+    void findFloorPlan_Success_When_NotModified() throws Exception {
+        // given
+        final String eTag = mockMvc.perform(get(API_PATH))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // when
+        // then
+        mockMvc.perform(get(API_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""))
+        ;
+    }
+
+    @DisplayName("배치도 조회 - 성공 - If-None-Match가 현재 ETag와 다르면 200을 응답한다.")
+    @Test
+    void findFloorPlan_Success_When_Modified() throws Exception {
+        // given
+        final String staleETag = "\"stale-0\"";
+
+        // when
+        // then
+        mockMvc.perform(get(API_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+        ;
+    }
+}
@@ -22,6 +22,7 @@ import kitchenpos.domain.order.OrderRepository;
 import kitchenpos.domain.order.OrderStatus;
 import kitchenpos.domain.ordertable.OrderTable;
 import kitchenpos.domain.ordertable.OrderTableRepository;
+import kitchenpos.domain.price.Price;
 import kitchenpos.domain.product.Product;
 import kitchenpos.domain.product.ProductRepository;
 import kitchenpos.domain.tablegroup.TableGroup;
@@ -31,6 +32,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -109,7 +111,7 @@ class IntegrationTest {
     }
 
     protected Menu Menu를_저장한다(String name, int price, MenuGroup menuGroup) {
-        final Menu menu = new Menu(name, price, menuGroup);
+        final Menu menu = new Menu(name, new Price(price), new Price(price), menuGroup);
         return menuRepository.save(menu);
     }
 
@@ -126,19 +128,29 @@ class IntegrationTest {
         return tableGroupRepository.save(new TableGroup());
     }
 
-    protected void POST_API를_요청하면_BadRequest를_응답한다(String apiPath, Object reqrequestBody) throws Exception {
+    protected void POST_API를_요청하면_UnprocessableEntity를_응답한다(String apiPath, Object requestBody) throws Exception {
+        POST_API를_요청하면_실패를_응답한다(apiPath, requestBody, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    protected void POST_API를_요청하면_실패를_응답한다(String apiPath, Object requestBody, HttpStatus httpStatus)
+        throws Exception {
         mockMvc.perform(post(apiPath)
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(toJson(reqrequestBody)))
-            .andExpect(status().isBadRequest())
+                .content(toJson(requestBody)))
+            .andExpect(status().is(httpStatus.value()))
             .andExpect(header().string(CONTENT_TYPE_NAME, RESPONSE_CONTENT_TYPE));
     }
 
-    protected void PUT_API를_요청하면_BadRequest를_응답한다(String apiPath, Object requestBody) throws Exception {
+    protected void PUT_API를_요청하면_UnprocessableEntity를_응답한다(String apiPath, Object requestBody) throws Exception {
+        PUT_API를_요청하면_실패를_응답한다(apiPath, requestBody, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    protected void PUT_API를_요청하면_실패를_응답한다(String apiPath, Object requestBody, HttpStatus httpStatus)
+        throws Exception {
         mockMvc.perform(put(apiPath)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(toJson(requestBody)))
-            .andExpect(status().isBadRequest())
+            .andExpect(status().is(httpStatus.value()))
             .andExpect(header().string(CONTENT_TYPE_NAME, RESPONSE_CONTENT_TYPE))
         ;
     }
@@ -14,6 +14,7 @@ import kitchenpos.fixture.CustomParameterizedTest;
 import kitchenpos.domain.menu.Menu;
 import kitchenpos.domain.menugroup.MenuGroup;
 import kitchenpos.domain.menuproduct.MenuProduct;
+import kitchenpos.domain.price.Price;
 import kitchenpos.domain.product.Product;
 import kitchenpos.dto.menu.MenuRequest;
 import kitchenpos.dto.menuproduct.MenuProductRequest;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("Menu 통합테스트")
@@ -66,6 +68,8 @@ class MenuIntegrationTest extends IntegrationTest {
         assertThat(foundMenus).hasSize(1);
 
         final Menu foundMenu = foundMenus.get(0);
+        assertThat(foundMenu.getProductsTotalPrice()).isEqualTo(new Price(20_000));
+
         final List<MenuProduct> foundMenuProducts = menuProductRepository.findAllByMenu(foundMenu);
         assertThat(foundMenuProducts).hasSize(1);
 
@@ -92,7 +96,7 @@ class MenuIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, menuRequest);
+        POST_API를_요청하면_UnprocessableEntity를_응답한다(API_PATH, menuRequest);
         Repository가_비어있다(menuRepository);
         Repository가_비어있다(menuProductRepository);
     }
@@ -116,7 +120,7 @@ class MenuIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, menuRequest);
+        POST_API를_요청하면_UnprocessableEntity를_응답한다(API_PATH, menuRequest);
         Repository가_비어있다(menuRepository);
         Repository가_비어있다(menuProductRepository);
     }
@@ -137,7 +141,7 @@ class MenuIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, menuRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, menuRequest, HttpStatus.NOT_FOUND);
         Repository가_비어있다(menuRepository);
         Repository가_비어있다(menuProductRepository);
     }
@@ -158,7 +162,7 @@ class MenuIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, menuRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, menuRequest, HttpStatus.NOT_FOUND);
         Repository가_비어있다(menuRepository);
         Repository가_비어있다(menuProductRepository);
     }
@@ -180,7 +184,7 @@ class MenuIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, menuRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, menuRequest, HttpStatus.UNPROCESSABLE_ENTITY);
         Repository가_비어있다(menuRepository);
         Repository가_비어있다(menuProductRepository);
     }
@@ -8,10 +8,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import kitchenpos.application.OrderRequestHash;
 import kitchenpos.application.OrderService;
+import kitchenpos.config.StoreIdFilter;
 import kitchenpos.fixture.CustomParameterizedTest;
+import kitchenpos.domain.idempotency.OrderIdempotencyKey;
+import kitchenpos.domain.idempotency.OrderIdempotencyKeyId;
+import kitchenpos.domain.idempotency.OrderIdempotencyKeyRepository;
 import kitchenpos.domain.menu.Menu;
 import kitchenpos.domain.menugroup.MenuGroup;
 import kitchenpos.domain.order.Order;
@@ -23,6 +32,7 @@ import kitchenpos.domain.orderlineitem.OrderLineItemRepository;
 import kitchenpos.domain.ordertable.OrderTable;
 import kitchenpos.domain.price.Price;
 import kitchenpos.domain.quantity.Quantity;
+import kitchenpos.domain.store.StoreContext;
 import kitchenpos.dto.order.OrderRequest;
 import kitchenpos.dto.order.OrderResponse;
 import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
@@ -32,12 +42,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("Order 통합테스트")
 class OrderIntegrationTest extends IntegrationTest {
 
     private static final String API_PATH = "/api/orders";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     @Autowired
     private OrderLineItemRepository orderLineItemRepository;
@@ -48,6 +60,9 @@ class OrderIntegrationTest extends IntegrationTest {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
     private Menu menu;
     private OrderTable orderTable;
 
@@ -66,7 +81,7 @@ class OrderIntegrationTest extends IntegrationTest {
     }
 
     private void saveOrderTable() {
-        orderTable = OrderTable을_저장한다(null, 0, true);
+        orderTable = OrderTable을_저장한다(null, 2, false);
     }
 
     @DisplayName("생성 - 성공")
@@ -119,6 +134,186 @@ class OrderIntegrationTest extends IntegrationTest {
         );
     }
 
+    @DisplayName("생성 - 성공 - 같은 Idempotency-Key로 다시 요청하면 처음 응답을 돌려주고 Order를 다시 생성하지 않는다.")
+    @Test
+    void create_Success_When_RetriedWithSameIdempotencyKey() throws Exception {
+        // given
+        final String idempotencyKey = UUID.randomUUID().toString();
+        final OrderRequest orderRequest = OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 1L);
+        final String firstOrderResponse = Idempotency_Key로_생성한다(idempotencyKey, orderRequest);
+
+        // when
+        final String retriedOrderResponse = Idempotency_Key로_생성한다(idempotencyKey, orderRequest);
+
+        // then
+        assertThat(retriedOrderResponse).isEqualTo(firstOrderResponse);
+        assertThat(orderRepository.findAll()).hasSize(1);
+        assertThat(orderLineItemRepository.findAll()).hasSize(1);
+        assertThat(orderedMenuRepository.findAll()).hasSize(1);
+        assertThat(orderIdempotencyKeyRepository.findById(
+            new OrderIdempotencyKeyId(StoreContext.getStoreId(), idempotencyKey)
+        )).isPresent();
+    }
+
+    @DisplayName("생성 - 성공 - 다른 매장에서 같은 Idempotency-Key로 요청하면 처음 매장의 응답을 돌려주지 않고 Order를 생성한다.")
+    @Test
+    void create_Success_When_SameIdempotencyKeyUsedInOtherStore() throws Exception {
+        // given
+        final Long otherStoreId = 2L;
+        final String idempotencyKey = UUID.randomUUID().toString();
+        final JsonNode firstOrderResponse = objectMapper.readTree(
+            Idempotency_Key로_생성한다(idempotencyKey, OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 1L))
+        );
+        final OrderRequest otherStoreOrderRequest = StoreContext.callAs(otherStoreId, () -> {
+            final Menu otherStoreMenu = Menu를_저장한다("후라이드치킨", 16_000, MenuGroup을_저장한다("추천메뉴"));
+            final OrderTable otherStoreOrderTable = OrderTable을_저장한다(null, 2, false);
+            return OrderRequest를_생성한다(otherStoreOrderTable.getId(), otherStoreMenu.getId(), 1L);
+        });
+
+        // when
+        final JsonNode otherStoreOrderResponse = objectMapper.readTree(mockMvc.perform(post(API_PATH)
+                .header(StoreIdFilter.STORE_ID_HEADER, otherStoreId)
+                .header(IDEMPOTENCY_KEY, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(otherStoreOrderRequest)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString());
+
+        // then
+        assertThat(otherStoreOrderResponse.get("id").asLong()).isNotEqualTo(firstOrderResponse.get("id").asLong());
+        assertThat(otherStoreOrderResponse.get("orderTableId").asLong())
+            .isEqualTo(otherStoreOrderRequest.getOrderTableId());
+        assertThat(orderIdempotencyKeyRepository.findAll()).hasSize(2);
+    }
+
+    @DisplayName("생성 - 성공 - 저장된 Idempotency-Key로 요청하면 저장된 Order로 응답을 만든다.")
+    @Test
+    void create_Success_When_IdempotencyKeyStoredInDB() throws Exception {
+        // given
+        final Order order = Order를_저장한다(orderTable, OrderStatus.COOKING);
+        OrderLineItem을_저장한다(order);
+        final String idempotencyKey = UUID.randomUUID().toString();
+        final OrderRequest orderRequest = OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 1L);
+        orderIdempotencyKeyRepository.save(new OrderIdempotencyKey(
+            idempotencyKey, OrderRequestHash.of(orderRequest), order.getId(), OrderStatus.COOKING
+        ));
+
+        // when
+        final JsonNode orderResponse = objectMapper.readTree(Idempotency_Key로_생성한다(idempotencyKey, orderRequest));
+
+        // then
+        assertThat(orderResponse.get("id").asLong()).isEqualTo(order.getId());
+        assertThat(orderResponse.get("orderLineItems")).hasSize(1);
+        assertThat(orderRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("생성 - 실패 - 같은 Idempotency-Key로 내용이 다른 요청을 보낼 때")
+    @Test
+    void create_Fail_When_IdempotencyKeyReusedWithDifferentRequest() throws Exception {
+        // given
+        final String idempotencyKey = UUID.randomUUID().toString();
+        Idempotency_Key로_생성한다(idempotencyKey, OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 1L));
+        final OrderRequest differentOrderRequest = OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 2L);
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH)
+                .header(IDEMPOTENCY_KEY, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(differentOrderRequest)))
+            .andExpect(status().isUnprocessableEntity())
+        ;
+
+        assertThat(orderRepository.findAll()).hasSize(1);
+        assertThat(orderLineItemRepository.findAll()).extracting(OrderLineItem::getQuantity)
+            .containsExactly(new Quantity(1L));
+    }
+
+    @DisplayName("생성 - 실패 - Idempotency-Key가 255자를 넘을 때")
+    @Test
+    void create_Fail_When_IdempotencyKeyIsTooLong() throws Exception {
+        // given
+        final String idempotencyKey = String.join("", Collections.nCopies(256, "a"));
+        final OrderRequest orderRequest = OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 1L);
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH)
+                .header(IDEMPOTENCY_KEY, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(orderRequest)))
+            .andExpect(status().isUnprocessableEntity())
+        ;
+
+        assertThat(orderIdempotencyKeyRepository.findAll()).isEmpty();
+    }
+
+    @DisplayName("생성 - 성공 - 같은 Menu의 OrderLineItem들은 Quantity를 더해 하나로 합친다.")
+    @Test
+    void create_Success_When_RequestHasDuplicateMenus() throws Exception {
+        // given
+        final OrderRequest orderRequest = new OrderRequest(orderTable.getId(), Arrays.asList(
+            new OrderLineItemRequest(menu.getId(), 1L),
+            new OrderLineItemRequest(menu.getId(), 2L)
+        ));
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(orderRequest)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orderLineItems.length()").value(1))
+            .andExpect(jsonPath("$.orderLineItems[0].menuId").value(menu.getId()))
+            .andExpect(jsonPath("$.orderLineItems[0].quantity").value(3))
+        ;
+
+        assertThat(orderLineItemRepository.findAll()).hasSize(1);
+        assertThat(orderedMenuRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("생성 - 실패 - 같은 Menu의 Quantity 합이 long 범위를 넘을 때")
+    @Test
+    void create_Fail_When_MergedQuantityOverflows() throws Exception {
+        // given
+        final OrderRequest orderRequest = new OrderRequest(orderTable.getId(), Arrays.asList(
+            new OrderLineItemRequest(menu.getId(), Long.MAX_VALUE),
+            new OrderLineItemRequest(menu.getId(), 1L)
+        ));
+
+        // when
+        // then
+        생성을_실패한다(orderRequest, HttpStatus.UNPROCESSABLE_ENTITY);
+        Repository가_비어있다(orderedMenuRepository);
+    }
+
+    @DisplayName("생성 - 실패 - 요청 본문이 올바르지 않으면 DB에 접근하기 전에 모든 위반 사항을 한 번에 응답한다.")
+    @Test
+    void create_Fail_When_RequestBodyIsMalformed() throws Exception {
+        // given
+        final OrderRequest orderRequest = new OrderRequest(null, Arrays.asList(
+            new OrderLineItemRequest(null, 1L),
+            new OrderLineItemRequest(menu.getId(), -1L)
+        ));
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(orderRequest)))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors.length()").value(3))
+            .andExpect(jsonPath("$.errors[0]").value("orderLineItems[0].menuId: null일 수 없습니다."))
+            .andExpect(jsonPath("$.errors[1]").value("orderLineItems[1].quantity: 0보다 작을 수 없습니다."))
+            .andExpect(jsonPath("$.errors[2]").value("orderTableId: null일 수 없습니다."))
+        ;
+
+        Repository가_비어있다(orderRepository);
+        Repository가_비어있다(orderedMenuRepository);
+    }
+
     @DisplayName("생성 - 실패 - 요청 매개변수 Order의 OrderLineItems가 empty일 때")
     @Test
     void create_Fail_When_RequestOrderLineItemsIsEmpty() throws Exception {
@@ -127,7 +322,7 @@ class OrderIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        생성을_실패한다(orderRequest);
+        생성을_실패한다(orderRequest, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
     @DisplayName("생성 - 실패 - 요청 매개변수 Order의 OrderLineItems의 Menu들중에 DB에 존재하지 않는것이 있을 때")
@@ -138,7 +333,7 @@ class OrderIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        생성을_실패한다(orderRequest);
+        생성을_실패한다(orderRequest, HttpStatus.NOT_FOUND);
     }
 
     @DisplayName("생성 - 실패 - 요청 매개변수 Order의 OrderTableId가 DB에 존재하지 않을 때")
@@ -149,7 +344,7 @@ class OrderIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        생성을_실패한다(orderRequest);
+        생성을_실패한다(orderRequest, HttpStatus.NOT_FOUND);
     }
 
     @DisplayName("생성 - 실패 - DB에서 조회한 OrderTable이 비어있을 때")
@@ -157,11 +352,13 @@ class OrderIntegrationTest extends IntegrationTest {
     void create_Fail_When_OrderTableFromDBIsEmpty() throws Exception {
         // given
         orderTable.changeEmpty(true);
-        final OrderRequest orderRequest = OrderRequest를_생성한다(0L, menu.getId(), 1L);
+        orderTableRepository.save(orderTable);
+        final OrderRequest orderRequest = OrderRequest를_생성한다(orderTable.getId(), menu.getId(), 1L);
 
         // when
         // then
-        생성을_실패한다(orderRequest);
+        생성을_실패한다(orderRequest, HttpStatus.CONFLICT);
+        Repository가_비어있다(orderRepository);
     }
 
     @DisplayName("모든 Order들 조회 - 성공")
@@ -189,6 +386,88 @@ class OrderIntegrationTest extends IntegrationTest {
         ;
     }
 
+    @DisplayName("orderedTime 구간과 OrderStatus로 Order들 조회 - 성공")
+    @Test
+    void findAllByOrderedTime_Success() throws Exception {
+        // given
+        final Order cookingOrder = Order를_저장한다(orderTable, OrderStatus.COOKING);
+        final OrderLineItem orderLineItem = OrderLineItem을_저장한다(cookingOrder);
+        final Order completedOrder = Order를_저장한다(orderTable, OrderStatus.COMPLETION);
+        OrderLineItem을_저장한다(completedOrder);
+        final LocalDateTime from = LocalDateTime.now().minusMinutes(30);
+
+        // when
+        // then
+        mockMvc.perform(get(API_PATH)
+                .param("from", from.toString())
+                .param("orderStatus", OrderStatus.COOKING.name(), OrderStatus.MEAL.name()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(cookingOrder.getId()))
+            .andExpect(jsonPath("$[0].orderStatus").value(OrderStatus.COOKING.name()))
+            .andExpect(jsonPath("$[0].orderLineItems.length()").value(1))
+            .andExpect(jsonPath("$[0].orderLineItems[0].menuId").value(menu.getId()))
+            .andExpect(jsonPath("$[0].orderLineItems[0].quantity").value(orderLineItem.getQuantityValue()))
+        ;
+        mockMvc.perform(get(API_PATH)
+                .param("from", from.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+        ;
+    }
+
+    @DisplayName("orderedTime 구간과 OrderStatus로 Order들 조회 - 성공 - 구간 밖의 Order는 조회하지 않는다.")
+    @Test
+    void findAllByOrderedTime_Success_When_OrderedTimeIsOutOfRange() throws Exception {
+        // given
+        Order를_저장한다(orderTable, OrderStatus.COOKING);
+        final LocalDateTime to = LocalDateTime.now().minusMinutes(30);
+
+        // when
+        // then
+        mockMvc.perform(get(API_PATH)
+                .param("from", to.minusHours(1).toString())
+                .param("to", to.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0))
+        ;
+    }
+
+    @DisplayName("orderedTime 구간과 OrderStatus로 Order들 조회 - 실패 - from이 to보다 이전이 아닐 때")
+    @Test
+    void findAllByOrderedTime_Fail_When_FromIsNotBeforeTo() throws Exception {
+        // given
+        final LocalDateTime from = LocalDateTime.now();
+
+        // when
+        // then
+        mockMvc.perform(get(API_PATH)
+                .param("from", from.toString())
+                .param("to", from.minusMinutes(1).toString()))
+            .andExpect(status().isUnprocessableEntity())
+        ;
+    }
+
+    @DisplayName("orderedTime 구간과 OrderStatus로 Order들 조회 - 실패 - 조회 구간이 31일을 넘을 때")
+    @Test
+    void findAllByOrderedTime_Fail_When_RangeIsTooWide() throws Exception {
+        // given
+        final LocalDateTime to = LocalDateTime.now();
+
+        // when
+        // then
+        mockMvc.perform(get(API_PATH)
+                .param("from", to.minusDays(32).toString())
+                .param("to", to.toString()))
+            .andExpect(status().isUnprocessableEntity())
+        ;
+        mockMvc.perform(get(API_PATH + "/archived")
+                .param("from", to.minusDays(32).toString())
+                .param("to", to.toString()))
+            .andExpect(status().isUnprocessableEntity())
+        ;
+    }
+
     @DisplayName("Order의 OrderStatus 변경 - 성공")
     @CustomParameterizedTest
     @EnumSource(value = OrderStatus.class, names = {"MEAL", "COMPLETION", "COOKING"})
@@ -233,7 +512,9 @@ class OrderIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/" + order.getId() + "/order-status", orderRequest);
+        PUT_API를_요청하면_실패를_응답한다(
+            API_PATH + "/" + order.getId() + "/order-status", orderRequest, HttpStatus.CONFLICT
+        );
 
         final Order foundOrder = findOrderById(order.getId());
         assertThat(foundOrder.getOrderStatus()).isEqualTo(OrderStatus.COMPLETION);
@@ -248,7 +529,7 @@ class OrderIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/0/order-status", orderRequest);
+        PUT_API를_요청하면_실패를_응답한다(API_PATH + "/0/order-status", orderRequest, HttpStatus.NOT_FOUND);
     }
 
     @DisplayName("Menu의 이름과 가격을 변경해도, 변경 이전에 저장된 주문 항목이 변경되지 않는다.")
@@ -298,13 +579,24 @@ class OrderIntegrationTest extends IntegrationTest {
         resetEntityManager();
     }
 
-    private void 생성을_실패한다(OrderRequest orderRequest) throws Exception {
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, orderRequest);
+    private void 생성을_실패한다(OrderRequest orderRequest, HttpStatus httpStatus) throws Exception {
+        POST_API를_요청하면_실패를_응답한다(API_PATH, orderRequest, httpStatus);
 
         Repository가_비어있다(orderRepository);
         Repository가_비어있다(orderLineItemRepository);
     }
 
+    private String Idempotency_Key로_생성한다(String idempotencyKey, OrderRequest orderRequest) throws Exception {
+        return mockMvc.perform(post(API_PATH)
+                .header(IDEMPOTENCY_KEY, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(orderRequest)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    }
+
     private OrderRequest OrderRequest를_생성한다(Long orderTableId, Long menuId, Long quantityValue) {
         final List<OrderLineItemRequest> orderLineItemRequests = OrderLineItemRequests를_생성한다_사이즈_1(menuId, quantityValue);
         return new OrderRequest(orderTableId, orderLineItemRequests);
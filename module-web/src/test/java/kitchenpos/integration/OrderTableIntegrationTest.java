@@ -24,6 +24,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("OrderTable 통합테스트")
@@ -139,7 +140,7 @@ class OrderTableIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/0/empty", orderTableRequest);
+        PUT_API를_요청하면_실패를_응답한다(API_PATH + "/0/empty", orderTableRequest, HttpStatus.NOT_FOUND);
     }
 
     @DisplayName("empty 상태를 변경한다. - 실패 - TableGroup이 null이 아닐 때")
@@ -154,7 +155,9 @@ class OrderTableIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/0/empty", orderTableRequest);
+        PUT_API를_요청하면_실패를_응답한다(
+            API_PATH + "/" + orderTable.getId() + "/empty", orderTableRequest, HttpStatus.CONFLICT
+        );
         DB에_저장되어있는_OrderTable의_empty값_검증(orderTable, beforeEmpty);
     }
 
@@ -170,7 +173,9 @@ class OrderTableIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/" + orderTable.getId() + "/empty", orderTableRequest);
+        PUT_API를_요청하면_실패를_응답한다(
+            API_PATH + "/" + orderTable.getId() + "/empty", orderTableRequest, HttpStatus.CONFLICT
+        );
 
         DB에_저장되어있는_OrderTable의_empty값_검증(orderTable, beforeEmpty);
     }
@@ -208,7 +213,9 @@ class OrderTableIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/" + orderTable.getId() + "/number-of-guests", orderTableRequest);
+        PUT_API를_요청하면_UnprocessableEntity를_응답한다(
+            API_PATH + "/" + orderTable.getId() + "/number-of-guests", orderTableRequest
+        );
 
         DB에_있는_OrderTable의_numberOfGuests값_검증(orderTable);
     }
@@ -221,7 +228,7 @@ class OrderTableIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/0/number-of-guests", orderTableRequest);
+        PUT_API를_요청하면_실패를_응답한다(API_PATH + "/0/number-of-guests", orderTableRequest, HttpStatus.NOT_FOUND);
     }
 
     @DisplayName("numberOfGuests 값을 변경한다. - 실패 - DB에서 조회한 OrderTable의 empty값이 true일 때")
@@ -233,7 +240,9 @@ class OrderTableIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        PUT_API를_요청하면_BadRequest를_응답한다(API_PATH + "/" + orderTable.getId() + "/number-of-guests", orderTableRequest);
+        PUT_API를_요청하면_실패를_응답한다(
+            API_PATH + "/" + orderTable.getId() + "/number-of-guests", orderTableRequest, HttpStatus.CONFLICT
+        );
 
         DB에_있는_OrderTable의_numberOfGuests값_검증(orderTable);
     }
@@ -3,16 +3,23 @@ package kitchenpos.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import kitchenpos.domain.menu.Menu;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menuproduct.MenuProduct;
+import kitchenpos.domain.price.Price;
 import kitchenpos.domain.product.Product;
+import kitchenpos.domain.quantity.Quantity;
 import kitchenpos.dto.product.ProductRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("Product 통합테스트")
@@ -56,7 +63,7 @@ class ProductIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, productRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, productRequest, HttpStatus.UNPROCESSABLE_ENTITY);
         Repository가_비어있다(productRepository);
     }
 
@@ -68,7 +75,7 @@ class ProductIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, productRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, productRequest, HttpStatus.UNPROCESSABLE_ENTITY);
         Repository가_비어있다(productRepository);
     }
 
@@ -93,4 +100,78 @@ class ProductIntegrationTest extends IntegrationTest {
             .andExpect(jsonPath("$[1].price").value(product2.getPriceAsInt()))
         ;
     }
+
+    @DisplayName("Product의 price 변경 - 성공 - Product가 포함된 Menu들의 productsTotalPrice가 변경된다")
+    @Test
+    void changePrice_Success() throws Exception {
+        // given
+        final Product product = Product를_저장한다("후라이드", 16_000);
+        final MenuGroup menuGroup = MenuGroup을_저장한다("추천메뉴");
+        final Menu cheapMenu = Product가_포함된_Menu를_저장한다("후라이드+후라이드", 28_000, product, 2L, menuGroup);
+        final Menu expensiveMenu = Product가_포함된_Menu를_저장한다("후라이드", 16_000, product, 1L, menuGroup);
+
+        final ProductRequest productRequest = new ProductRequest(null, 15_000);
+
+        // when
+        // then
+        mockMvc.perform(put(API_PATH + "/" + product.getId() + "/price")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(productRequest)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CONTENT_TYPE_NAME, RESPONSE_CONTENT_TYPE))
+            .andExpect(jsonPath("$.id").value(product.getId()))
+            .andExpect(jsonPath("$.name").value(product.getName()))
+            .andExpect(jsonPath("$.price").value(productRequest.getPrice()))
+            .andExpect(jsonPath("$.priceExceededMenuIds.length()").value(1))
+            .andExpect(jsonPath("$.priceExceededMenuIds[0]").value(expensiveMenu.getId()))
+        ;
+
+        resetEntityManager();
+        assertThat(productRepository.findById(product.getId()).get().getPrice())
+            .isEqualTo(new Price(15_000));
+        assertThat(menuRepository.findById(cheapMenu.getId()).get().getProductsTotalPrice())
+            .isEqualTo(new Price(30_000));
+        assertThat(menuRepository.findById(expensiveMenu.getId()).get().getProductsTotalPrice())
+            .isEqualTo(new Price(15_000));
+        assertThat(menuRepository.findAllByPriceGreaterThanProductsTotalPrice())
+            .containsExactly(expensiveMenu);
+    }
+
+    @DisplayName("Product의 price 변경 - 실패 - price가 0보다 작을 때")
+    @Test
+    void changePrice_Fail_When_PriceIsLessThanZero() throws Exception {
+        // given
+        final Product product = Product를_저장한다("후라이드", 16_000);
+        final ProductRequest productRequest = new ProductRequest(null, -1);
+
+        // when
+        // then
+        PUT_API를_요청하면_실패를_응답한다(
+            API_PATH + "/" + product.getId() + "/price", productRequest, HttpStatus.UNPROCESSABLE_ENTITY
+        );
+    }
+
+    @DisplayName("Product의 price 변경 - 실패 - Product가 DB에 존재하지 않을 때")
+    @Test
+    void changePrice_Fail_When_ProductNotExistsInDB() throws Exception {
+        // given
+        final ProductRequest productRequest = new ProductRequest(null, 15_000);
+
+        // when
+        // then
+        PUT_API를_요청하면_실패를_응답한다(API_PATH + "/0/price", productRequest, HttpStatus.NOT_FOUND);
+    }
+
+    private Menu Product가_포함된_Menu를_저장한다(
+        String name,
+        int price,
+        Product product,
+        long quantity,
+        MenuGroup menuGroup
+    ) {
+        final Price productsTotalPrice = product.getPrice().multiply(new Quantity(quantity));
+        final Menu menu = menuRepository.save(new Menu(name, new Price(price), productsTotalPrice, menuGroup));
+        menuProductRepository.save(new MenuProduct(menu, product, quantity));
+        return menu;
+    }
 }
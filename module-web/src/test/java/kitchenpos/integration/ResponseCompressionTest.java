@@ -0,0 +1,81 @@
+package kitchenpos.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import kitchenpos.domain.menugroup.MenuGroup;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+
+@DisplayName("응답 압축 테스트")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+
+    private static final int MENU_GROUP_COUNT = 200;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        menuGroupRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("Accept-Encoding이 gzip이면 목록을 gzip으로 압축해서 응답한다.")
+    @Test
+    void findAll_Gzip() throws IOException {
+        // given
+        final List<MenuGroup> menuGroups = new ArrayList<>();
+        for (int i = 0; i < MENU_GROUP_COUNT; i++) {
+            menuGroups.add(new MenuGroup("추천메뉴" + i));
+        }
+        menuGroupRepository.saveAll(menuGroups);
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        // when
+        final ResponseEntity<byte[]> response = testRestTemplate.exchange(
+            "/api/menu-groups", HttpMethod.GET, new HttpEntity<>(headers), byte[].class
+        );
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getETag()).isNotNull();
+
+        final JsonNode foundMenuGroups = objectMapper.readTree(decompress(response.getBody()));
+        assertThat(foundMenuGroups).hasSize(MENU_GROUP_COUNT);
+    }
+
+    private byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return StreamUtils.copyToByteArray(inputStream);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +22,7 @@ import kitchenpos.exception.NotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("TableGroup 통합테스트")
@@ -80,7 +82,30 @@ class TableGroupIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, tableGroupRequest);
+        POST_API를_요청하면_UnprocessableEntity를_응답한다(API_PATH, tableGroupRequest);
+
+        Repository가_비어있다(tableGroupRepository);
+    }
+
+    @DisplayName("생성 - 실패 - OrderTable들의 id가 null이면 DB에 접근하기 전에 모든 위반 사항을 한 번에 응답한다.")
+    @Test
+    void create_Fail_When_RequestOrderTableIdsAreNull() throws Exception {
+        // given
+        final TableGroupRequest tableGroupRequest = new TableGroupRequest(Arrays.asList(
+            new OrderTableRequest((Long) null),
+            new OrderTableRequest((Long) null)
+        ));
+
+        // when
+        // then
+        mockMvc.perform(post(API_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(tableGroupRequest)))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors.length()").value(2))
+            .andExpect(jsonPath("$.errors[0]").value("orderTables[0].id: null일 수 없습니다."))
+            .andExpect(jsonPath("$.errors[1]").value("orderTables[1].id: null일 수 없습니다."))
+        ;
 
         Repository가_비어있다(tableGroupRepository);
     }
@@ -94,7 +119,7 @@ class TableGroupIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, tableGroupRequest);
+        POST_API를_요청하면_UnprocessableEntity를_응답한다(API_PATH, tableGroupRequest);
 
         Repository가_비어있다(tableGroupRepository);
     }
@@ -110,7 +135,7 @@ class TableGroupIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, tableGroupRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, tableGroupRequest, HttpStatus.NOT_FOUND);
 
         Repository가_비어있다(tableGroupRepository);
     }
@@ -126,7 +151,7 @@ class TableGroupIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, tableGroupRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, tableGroupRequest, HttpStatus.CONFLICT);
 
         Repository가_비어있다(tableGroupRepository);
     }
@@ -143,7 +168,7 @@ class TableGroupIntegrationTest extends IntegrationTest {
 
         // when
         // then
-        POST_API를_요청하면_BadRequest를_응답한다(API_PATH, tableGroupRequest);
+        POST_API를_요청하면_실패를_응답한다(API_PATH, tableGroupRequest, HttpStatus.CONFLICT);
 
         final List<TableGroup> foundTableGroups = tableGroupRepository.findAll();
         assertThat(foundTableGroups).hasSize(1);
@@ -185,7 +210,7 @@ class TableGroupIntegrationTest extends IntegrationTest {
         // when
         // then
         mockMvc.perform(delete(API_PATH + "/" + tableGroup.getId()))
-            .andExpect(status().isBadRequest())
+            .andExpect(status().isConflict())
             .andExpect(header().string(CONTENT_TYPE_NAME, RESPONSE_CONTENT_TYPE))
         ;
 
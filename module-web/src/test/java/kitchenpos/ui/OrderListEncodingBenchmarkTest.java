@@ -0,0 +1,91 @@
+package kitchenpos.ui;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import kitchenpos.domain.order.OrderStatus;
+import kitchenpos.dto.order.OrderResponse;
+import kitchenpos.dto.orderlineitem.OrderLineItemResponse;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Tag("benchmark")
+@DisplayName("Order 목록 응답 - JSON vs Smile vs CBOR, gzip 전후 크기와 직렬화 시간 벤치마크")
+class OrderListEncodingBenchmarkTest {
+
+    private static final int ORDER_COUNT = 10_000;
+    private static final int ORDER_LINE_ITEM_COUNT = 3;
+    private static final int WARMUPS = 3;
+    private static final int ITERATIONS = 10;
+    private static final String BYTES = "bytes";
+    private static final String GZIPPED_BYTES = "gzippedBytes";
+
+    @DisplayName("10,000개의 Order를 직렬화할 때 형식별 응답 크기와 직렬화 시간을 비교한다")
+    @Test
+    void encode() throws Exception {
+        final List<OrderResponse> orders = createOrders();
+
+        final Measurement json = measure("json", Jackson2ObjectMapperBuilder.json().build(), orders);
+        final Measurement smile = measure("smile", Jackson2ObjectMapperBuilder.smile().build(), orders);
+        final Measurement cbor = measure("cbor", Jackson2ObjectMapperBuilder.cbor().build(), orders);
+
+        report("Order 10,000개 직렬화", Arrays.asList(json, smile, cbor));
+        assertThat(smile.getMetric(BYTES).intValue()).isLessThan(json.getMetric(BYTES).intValue());
+        assertThat(cbor.getMetric(BYTES).intValue()).isLessThan(json.getMetric(BYTES).intValue());
+    }
+
+    private List<OrderResponse> createOrders() {
+        final LocalDateTime orderedTime = LocalDateTime.of(2020, 10, 1, 12, 0);
+        final List<OrderResponse> orders = new ArrayList<>();
+        long orderLineItemSeq = 1;
+        for (long orderId = 1; orderId <= ORDER_COUNT; orderId++) {
+            final List<OrderLineItemResponse> orderLineItems = new ArrayList<>();
+            for (int i = 0; i < ORDER_LINE_ITEM_COUNT; i++) {
+                orderLineItems.add(new OrderLineItemResponse(orderLineItemSeq++, orderId, (long) i + 1, 2L));
+            }
+            orders.add(new OrderResponse(
+                orderId, orderId % 20 + 1, OrderStatus.COOKING, orderedTime.plusSeconds(orderId), orderLineItems
+            ));
+        }
+        return orders;
+    }
+
+    private Measurement measure(String label, ObjectMapper objectMapper, List<OrderResponse> orders)
+        throws Exception {
+        final byte[] encoded = encode(objectMapper, orders);
+        return Measurement.run(label, WARMUPS, ITERATIONS, () -> encode(objectMapper, orders))
+            .withMetric(BYTES, encoded.length)
+            .withMetric(GZIPPED_BYTES, gzip(encoded).length);
+    }
+
+    private byte[] encode(ObjectMapper objectMapper, List<OrderResponse> orders) {
+        try {
+            return objectMapper.writeValueAsBytes(orders);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] bytes) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
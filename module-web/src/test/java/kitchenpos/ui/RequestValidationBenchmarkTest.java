@@ -0,0 +1,180 @@
+package kitchenpos.ui;
+
+import static kitchenpos.fixture.benchmark.BenchmarkAssertions.report;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.OrderService;
+import kitchenpos.application.ProductService;
+import kitchenpos.domain.menu.MenuRepository;
+import kitchenpos.domain.menugroup.MenuGroupRepository;
+import kitchenpos.domain.menuproduct.MenuProductRepository;
+import kitchenpos.domain.product.ProductRepository;
+import kitchenpos.dto.menu.MenuRequest;
+import kitchenpos.dto.menugroup.MenuGroupRequest;
+import kitchenpos.dto.menuproduct.MenuProductRequest;
+import kitchenpos.dto.order.OrderRequest;
+import kitchenpos.dto.orderlineitem.OrderLineItemRequest;
+import kitchenpos.dto.product.ProductRequest;
+import kitchenpos.fixture.benchmark.Measurement;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 올바르지 않은 요청을 컨트롤러의 @Validated로 거절할 때와, 검증 없이 서비스에 넘겨 도메인이 거절할 때의
+ * 요청당 DB 커넥션 획득 수, 실행한 SQL 수, 지연 시간을 Hibernate Statistics로 비교한다.
+ */
+@Tag("benchmark")
+@DisplayName("올바르지 않은 요청 - 요청 본문 검증 vs 도메인 검증, 요청당 DB 접근 벤치마크")
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequestValidationBenchmarkTest {
+
+    private static final int LINE_ITEM_COUNT = 20;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+    private static final String CONNECTIONS = "connections/req";
+    private static final String STATEMENTS = "statements/req";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuProductRepository menuProductRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Statistics statistics;
+    private MenuRequest malformedMenuRequest;
+    private OrderRequest malformedOrderRequest;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final Long menuGroupId = menuGroupService.create(new MenuGroupRequest("추천메뉴")).getId();
+        final List<MenuProductRequest> menuProductRequests = new ArrayList<>();
+        final List<OrderLineItemRequest> orderLineItemRequests = new ArrayList<>();
+        for (int i = 0; i < LINE_ITEM_COUNT; i++) {
+            final Long productId = productService.create(new ProductRequest("상품" + i, 10_000)).getId();
+            final MenuProductRequest menuProductRequest = new MenuProductRequest(productId, 1L);
+            menuProductRequests.add(menuProductRequest);
+            final Long menuId = menuService.create(
+                new MenuRequest("메뉴" + i, 10_000, menuGroupId, Collections.singletonList(menuProductRequest))
+            ).getId();
+            orderLineItemRequests.add(new OrderLineItemRequest(menuId, 1L));
+        }
+        malformedMenuRequest = new MenuRequest("세트메뉴", -1, menuGroupId, menuProductRequests);
+        malformedOrderRequest = new OrderRequest(null, orderLineItemRequests);
+    }
+
+    @AfterEach
+    void tearDown() {
+        menuProductRepository.deleteAllInBatch();
+        menuRepository.deleteAllInBatch();
+        menuGroupRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("요청 본문 검증으로 거절한 요청은 DB에 접근하지 않는다")
+    @Test
+    void rejectMalformedRequests() throws Exception {
+        final Measurement validatedMenuResult =
+            measure("menu - 요청 본문 검증", () -> postExpectingUnprocessableEntity("/api/menus", malformedMenuRequest));
+        final Measurement domainMenuResult =
+            measure("menu - 도메인 검증", () -> menuService.create(malformedMenuRequest));
+        final Measurement validatedOrderResult =
+            measure("order - 요청 본문 검증", () -> postExpectingUnprocessableEntity("/api/orders", malformedOrderRequest));
+        final Measurement domainOrderResult =
+            measure("order - 도메인 검증", () -> orderService.create(malformedOrderRequest));
+
+        report("올바르지 않은 요청 거절", Arrays.asList(
+            validatedMenuResult, domainMenuResult, validatedOrderResult, domainOrderResult
+        ));
+        assertThat(validatedMenuResult.getMetric(CONNECTIONS).doubleValue()).isZero();
+        assertThat(validatedMenuResult.getMetric(STATEMENTS).doubleValue()).isZero();
+        assertThat(validatedOrderResult.getMetric(CONNECTIONS).doubleValue()).isZero();
+        assertThat(validatedOrderResult.getMetric(STATEMENTS).doubleValue()).isZero();
+        assertThat(domainOrderResult.getMetric(STATEMENTS).doubleValue()).isPositive();
+    }
+
+    private void postExpectingUnprocessableEntity(String path, Object request) throws Exception {
+        mockMvc.perform(post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
+    /**
+     * 워밍업은 Statistics 차이에 넣지 않도록 먼저 따로 실행한다.
+     */
+    private Measurement measure(String label, RejectedRequest rejectedRequest) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            reject(rejectedRequest);
+        }
+        final long connectCountBefore = statistics.getConnectCount();
+        final long prepareStatementCountBefore = statistics.getPrepareStatementCount();
+        final Measurement measurement = Measurement.run(label, 0, ITERATIONS, () -> reject(rejectedRequest));
+        return measurement
+            .withMetric(CONNECTIONS, (double) (statistics.getConnectCount() - connectCountBefore) / ITERATIONS)
+            .withMetric(STATEMENTS,
+                (double) (statistics.getPrepareStatementCount() - prepareStatementCountBefore) / ITERATIONS);
+    }
+
+    private void reject(RejectedRequest rejectedRequest) throws Exception {
+        try {
+            rejectedRequest.send();
+        } catch (RuntimeException expected) {
+            // 도메인 검증은 예외로 거절한다.
+        }
+    }
+
+    @FunctionalInterface
+    private interface RejectedRequest {
+
+        void send() throws Exception;
+    }
+}